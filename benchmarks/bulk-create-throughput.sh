@@ -0,0 +1,49 @@
+#!/bin/bash
+
+# Customer Service API - Bulk Create Throughput Benchmark
+# Creates the same number of customers once with one POST /api/v1/customers per customer and
+# once with POST /api/v1/customers/bulk batches, and reports documents per second for each path.
+#
+# Usage: ./benchmarks/bulk-create-throughput.sh [base-url] [customers] [batch-size]
+
+BASE_URL="${1:-http://localhost:8080}"
+TOTAL="${2:-5000}"
+BATCH="${3:-1000}"
+RUN_ID=$(date +%s)
+
+customer_json() {
+  echo "{\"firstName\":\"Bench\",\"lastName\":\"Bulk\",\"email\":\"$1\",\"phone\":\"+1234567890\",\"customerStatus\":\"ACTIVE\"}"
+}
+
+rate() {
+  echo "scale=1; $1 / ($3 - $2)" | bc
+}
+
+echo "📦 Bulk create throughput benchmark (customers=$TOTAL, batch=$BATCH)"
+echo "===================================================================="
+
+START=$(date +%s.%N)
+for (( I=0; I<TOTAL; I++ )); do
+  curl -s -o /dev/null -X POST "$BASE_URL/api/v1/customers" \
+    -H "Content-Type: application/json" \
+    -d "$(customer_json "single-$RUN_ID-$I@example.com")"
+done
+END=$(date +%s.%N)
+echo "Single create: $(rate "$TOTAL" "$START" "$END") docs/s"
+
+START=$(date +%s.%N)
+CREATED=0
+for (( OFFSET=0; OFFSET<TOTAL; OFFSET+=BATCH )); do
+  BODY="["
+  for (( I=OFFSET; I<OFFSET+BATCH && I<TOTAL; I++ )); do
+    [ "$I" -gt "$OFFSET" ] && BODY+=","
+    BODY+=$(customer_json "bulk-$RUN_ID-$I@example.com")
+  done
+  BODY+="]"
+  SUCCEEDED=$(curl -s -X POST "$BASE_URL/api/v1/customers/bulk" \
+    -H "Content-Type: application/json" \
+    -d "$BODY" | jq -r '.data.succeeded // 0')
+  CREATED=$(( CREATED + SUCCEEDED ))
+done
+END=$(date +%s.%N)
+echo "Bulk create:   $(rate "$TOTAL" "$START" "$END") docs/s ($CREATED created)"
@@ -0,0 +1,46 @@
+#!/bin/bash
+
+# Customer Service API - Concurrent Create Throughput Benchmark
+# Fires POST /api/v1/customers requests from parallel clients and reports throughput and the
+# status code mix. A second phase sends the same email from every client at once: exactly one
+# request must succeed (201) and all others must be rejected by the unique index (409).
+#
+# Usage: ./benchmarks/concurrent-create-throughput.sh [base-url] [requests] [concurrency]
+
+BASE_URL="${1:-http://localhost:8080}"
+REQUESTS="${2:-2000}"
+CONCURRENCY="${3:-32}"
+RUN_ID=$(date +%s)
+
+create() {
+  local EMAIL="$1"
+  curl -s -o /dev/null -w '%{http_code}\n' -X POST "$BASE_URL/api/v1/customers" \
+    -H "Content-Type: application/json" \
+    -d "{\"firstName\":\"Bench\",\"lastName\":\"Create\",\"email\":\"$EMAIL\",\"phone\":\"+1234567890\",\"customerStatus\":\"ACTIVE\"}"
+}
+export -f create
+export BASE_URL
+
+echo "⚡ Concurrent create benchmark (requests=$REQUESTS, concurrency=$CONCURRENCY)"
+echo "========================================================================="
+
+START=$(date +%s.%N)
+RESULTS=$(seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} bash -c "create bench-$RUN_ID-{}@example.com")
+END=$(date +%s.%N)
+
+ELAPSED=$(echo "$END - $START" | bc)
+echo "Elapsed: ${ELAPSED}s"
+echo "Throughput: $(echo "scale=1; $REQUESTS / $ELAPSED" | bc) creates/s"
+echo "Status codes:"
+echo "$RESULTS" | sort | uniq -c
+
+echo ""
+echo "🏁 Duplicate email race ($CONCURRENCY concurrent creates with one email)"
+RACE=$(seq 1 "$CONCURRENCY" | xargs -P "$CONCURRENCY" -I{} bash -c "create race-$RUN_ID@example.com")
+echo "$RACE" | sort | uniq -c
+CREATED=$(echo "$RACE" | grep -c '^201$')
+if [ "$CREATED" -eq 1 ]; then
+  echo "✅ Exactly one create succeeded"
+else
+  echo "❌ Expected exactly one 201, got $CREATED"
+fi
@@ -0,0 +1,33 @@
+#!/bin/bash
+
+# Customer Service API - Deep Page Latency Benchmark
+# Compares offset (page=N) and keyset (cursor) pagination latency as the page depth grows.
+# Offset latency grows with the number of skipped documents; keyset latency should stay flat.
+#
+# Usage: ./benchmarks/deep-page-latency.sh [base-url] [page-size] [max-pages]
+
+BASE_URL="${1:-http://localhost:8080}"
+SIZE="${2:-100}"
+MAX_PAGES="${3:-500}"
+REPORT_EVERY=$(( MAX_PAGES / 10 > 0 ? MAX_PAGES / 10 : 1 ))
+
+echo "📏 Deep page latency benchmark (size=$SIZE, pages=$MAX_PAGES)"
+echo "=========================================================="
+printf "%8s %14s %14s\n" "page" "offset (s)" "keyset (s)"
+
+CURSOR=""
+for (( PAGE=0; PAGE<MAX_PAGES; PAGE++ )); do
+  RESPONSE=$(curl -s -w '\n%{time_total}' "$BASE_URL/api/v1/customers?size=$SIZE&cursor=$CURSOR")
+  KEYSET_TIME=$(echo "$RESPONSE" | tail -n 1)
+  CURSOR=$(echo "$RESPONSE" | sed '$d' | jq -r '.data.nextCursor // empty')
+
+  if (( PAGE % REPORT_EVERY == 0 )); then
+    OFFSET_TIME=$(curl -s -o /dev/null -w '%{time_total}' "$BASE_URL/api/v1/customers?size=$SIZE&page=$PAGE")
+    printf "%8d %14s %14s\n" "$PAGE" "$OFFSET_TIME" "$KEYSET_TIME"
+  fi
+
+  if [ -z "$CURSOR" ]; then
+    echo "Reached the last page at page $PAGE"
+    break
+  fi
+done
@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# Customer Service API - Streaming Import Ingest Rate Benchmark
+# Generates an NDJSON file of unique customers, uploads it to POST /api/v1/customers/import and
+# reports the ingest rate, the final import summary and how the batch size adapted to write latency.
+#
+# Usage: ./benchmarks/import-ingest-rate.sh [base-url] [rows]
+
+BASE_URL="${1:-http://localhost:8080}"
+ROWS="${2:-1000000}"
+RUN_ID=$(date +%s)
+UPLOAD=$(mktemp --suffix=.ndjson)
+REPORT=$(mktemp --suffix=.ndjson)
+trap 'rm -f "$UPLOAD" "$REPORT"' EXIT
+
+echo "📥 Import ingest rate benchmark (rows=$ROWS)"
+echo "============================================="
+
+awk -v rows="$ROWS" -v run="$RUN_ID" 'BEGIN {
+  for (i = 1; i <= rows; i++) {
+    printf "{\"firstName\":\"Bench\",\"lastName\":\"Import\",\"email\":\"import-%s-%d@example.com\",\"phone\":\"+1234567890\",\"customerStatus\":\"ACTIVE\"}\n", run, i
+  }
+}' > "$UPLOAD"
+echo "Upload size: $(du -h "$UPLOAD" | cut -f1)"
+
+START=$(date +%s.%N)
+curl -s -N -X POST "$BASE_URL/api/v1/customers/import" \
+  -H "Content-Type: application/x-ndjson" \
+  --data-binary @"$UPLOAD" > "$REPORT"
+END=$(date +%s.%N)
+
+echo "Elapsed:     $(echo "$END - $START" | bc) s"
+echo "Ingest rate: $(echo "scale=1; $ROWS / ($END - $START)" | bc) rows/s"
+echo "Summary:     $(grep '"COMPLETED"' "$REPORT")"
+echo "Batch sizes: $(jq -r 'select(.type == "PROGRESS") | .batchSize' "$REPORT" | sort -n | uniq -c | sort -rn | head -5 | awk '{printf "%s×%s ", $1, $2}')"
+echo "Slowest batch write: $(jq -r 'select(.type == "PROGRESS") | .writeMillis' "$REPORT" | sort -n | tail -1) ms"
@@ -0,0 +1,26 @@
+#!/bin/bash
+
+# Customer Service API - Single-Customer JSON Rendering Microbenchmark
+# Runs the JMH benchmark CustomerJsonCacheBenchmark (src/test/java), which renders the
+# GET /api/v1/customers/{id} body by serializing ApiResponse<CustomerResponse> through Jackson and
+# from CustomerJsonCache, each as plain JSON and gzip. No server or database is needed.
+# Reports nanoseconds per render (CPU) and, from the GC profiler, bytes allocated per render
+# (gc.alloc.rate.norm).
+#
+# Usage: ./benchmarks/json-render-jmh.sh [extra JMH options, e.g. -f 3 -t 4]
+
+cd "$(dirname "$0")/.." || exit 1
+CLASSPATH_FILE=target/jmh-classpath.txt
+
+echo "🧾 JSON rendering microbenchmark (Jackson vs CustomerJsonCache)"
+echo "=============================================================="
+
+mvn -q -B test-compile dependency:build-classpath \
+  -Dmdep.includeScope=test -Dmdep.outputFile="$CLASSPATH_FILE" || exit 1
+
+java -cp "target/test-classes:target/classes:$(cat "$CLASSPATH_FILE")" org.openjdk.jmh.Main \
+  CustomerJsonCacheBenchmark -prof gc -rf json -rff target/jmh-json-render.json "$@" \
+  | grep -E "^Benchmark|CustomerJsonCacheBenchmark\.[a-zA-Z]+ |gc\.alloc\.rate\.norm|^#.*Run complete"
+
+echo ""
+echo "Full results: target/jmh-json-render.json"
@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# Customer Service API - Search Engine Latency Benchmark
+# Measures /search latency for a fixed set of terms. Run it once against an instance started with
+# customer-service.search.engine=mongo and once with customer-service.search.engine=lucene, then
+# compare the two reports. Misspelled terms only return results with the Lucene engine.
+#
+# Usage: ./benchmarks/search-engine-latency.sh [base-url] [iterations] [page-size]
+
+BASE_URL="${1:-http://localhost:8080}"
+ITERATIONS="${2:-200}"
+SIZE="${3:-20}"
+TERMS=("John" "Smi" "jo" "Jon%20Smyth" "example.com" "4155550")
+
+echo "🔎 Search engine latency benchmark (iterations=$ITERATIONS, size=$SIZE) against $BASE_URL"
+echo "========================================================================================"
+printf "%-14s %10s %10s %10s %8s\n" "term" "avg (s)" "p95 (s)" "max (s)" "hits"
+
+for TERM in "${TERMS[@]}"; do
+  TIMES_FILE=$(mktemp)
+  for (( I=0; I<ITERATIONS; I++ )); do
+    curl -s -o /dev/null -w '%{time_total}\n' "$BASE_URL/api/v1/customers/search?name=$TERM&size=$SIZE" >> "$TIMES_FILE"
+  done
+  HITS=$(curl -s "$BASE_URL/api/v1/customers/search?name=$TERM&size=$SIZE" | jq -r '.data.totalElements // 0')
+  sort -n "$TIMES_FILE" | awk -v term="$TERM" -v hits="$HITS" '
+    { t[NR] = $1; sum += $1 }
+    END {
+      p95 = t[int(NR * 0.95) > 0 ? int(NR * 0.95) : 1]
+      printf "%-14s %10.4f %10.4f %10.4f %8s\n", term, sum / NR, p95, t[NR], hits
+    }'
+  rm -f "$TIMES_FILE"
+done
+
+echo ""
+echo "Mongo queries per request (customers.list.queries, tagged by mode):"
+curl -s "$BASE_URL/actuator/metrics/customers.list.queries" | jq -c '.availableTags // empty'
@@ -0,0 +1,85 @@
+#!/bin/bash
+
+# Customer Service API - Servlet vs Reactive Lookup Benchmark
+# Fires bursts of concurrent GET /api/v1/customers/{id} lookups at two instances sharing one
+# database, the default servlet stack and the "reactive" profile, and reports throughput, latency
+# percentiles and the status code mix for each. Start the instances with:
+#   java -jar target/customer-service-1.0.0.jar
+#   java -jar target/customer-service-1.0.0.jar --spring.profiles.active=reactive --server.port=8081
+# Requests are sent by several curl processes running up to 250 parallel transfers each, so the
+# concurrency can go well beyond Tomcat's default pool of 200 request threads.
+#
+# Usage: ./benchmarks/servlet-vs-reactive-lookups.sh [servlet-url] [reactive-url] [requests] [concurrency]
+
+SERVLET_URL="${1:-http://localhost:8080}"
+REACTIVE_URL="${2:-http://localhost:8081}"
+REQUESTS="${3:-20000}"
+CONCURRENCY="${4:-2000}"
+SEED=500
+RUN_ID=$(date +%s)
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+PER_PROCESS=250
+PROCESSES=$(( (CONCURRENCY + PER_PROCESS - 1) / PER_PROCESS ))
+PARALLEL=$(( CONCURRENCY < PER_PROCESS ? CONCURRENCY : PER_PROCESS ))
+
+echo "🌊 Servlet vs reactive lookup benchmark (requests=$REQUESTS, concurrency=$CONCURRENCY)"
+echo "===================================================================================="
+
+# Seed customers through the servlet instance (bulk endpoints are servlet-only)
+BODY="["
+for (( I=0; I<SEED; I++ )); do
+  [ "$I" -gt 0 ] && BODY+=","
+  BODY+="{\"firstName\":\"Bench\",\"lastName\":\"Lookup\",\"email\":\"lookup-$RUN_ID-$I@example.com\",\"phone\":\"+1234567890\",\"customerStatus\":\"ACTIVE\"}"
+done
+BODY+="]"
+curl -s -X POST "$SERVLET_URL/api/v1/customers/bulk" -H "Content-Type: application/json" -d "$BODY" \
+  | jq -r '.data.items[] | select(.outcome == "CREATED") | .customerId' > "$WORK_DIR/ids"
+SEEDED=$(wc -l < "$WORK_DIR/ids")
+if [ "$SEEDED" -eq 0 ]; then
+  echo "❌ Could not seed customers through $SERVLET_URL"
+  exit 1
+fi
+echo "Seeded $SEEDED customers"
+
+run() {
+  local NAME="$1" BASE_URL="$2"
+
+  # One curl config per process, cycling through the seeded IDs
+  awk -v requests="$REQUESTS" -v processes="$PROCESSES" -v base="$BASE_URL" -v dir="$WORK_DIR" '
+    { ids[NR - 1] = $0 }
+    END {
+      for (i = 0; i < requests; i++) {
+        file = dir "/config-" (i % processes)
+        printf "url = \"%s/api/v1/customers/%s\"\noutput = /dev/null\n", base, ids[i % NR] > file
+      }
+    }' "$WORK_DIR/ids"
+
+  START=$(date +%s.%N)
+  for (( P=0; P<PROCESSES; P++ )); do
+    curl -s -Z --parallel-immediate --parallel-max "$PARALLEL" -K "$WORK_DIR/config-$P" \
+      -w '%{http_code} %{time_total}\n' > "$WORK_DIR/results-$P" &
+  done
+  wait
+  END=$(date +%s.%N)
+
+  cat "$WORK_DIR"/results-* > "$WORK_DIR/results"
+  ELAPSED=$(echo "$END - $START" | bc)
+  sort -n -k2 "$WORK_DIR/results" | awk '{ print $2 }' > "$WORK_DIR/latencies"
+  COUNT=$(wc -l < "$WORK_DIR/latencies")
+  P50=$(sed -n "$(( COUNT * 50 / 100 + 1 ))p" "$WORK_DIR/latencies")
+  P99=$(sed -n "$(( COUNT * 99 / 100 + 1 ))p" "$WORK_DIR/latencies")
+  MAX=$(tail -n 1 "$WORK_DIR/latencies")
+
+  echo ""
+  echo "$NAME ($BASE_URL)"
+  echo "  Throughput: $(echo "scale=1; $COUNT / $ELAPSED" | bc) lookups/s"
+  echo "  Latency p50=${P50}s p99=${P99}s max=${MAX}s"
+  echo "  Status codes:"
+  awk '{ print $1 }' "$WORK_DIR/results" | sort | uniq -c | sed 's/^/  /'
+  rm -f "$WORK_DIR"/results-*
+}
+
+run "Servlet (Tomcat, MongoRepository)" "$SERVLET_URL"
+run "Reactive (Netty, ReactiveMongoRepository)" "$REACTIVE_URL"
@@ -0,0 +1,91 @@
+#!/bin/bash
+
+# Customer Service API - Virtual vs Platform Thread Benchmark
+# Fires bursts of concurrent requests that wait on MongoDB (GET /api/v1/customers/{id} lookups and
+# counted first-page listings) at two instances sharing one database, the default platform-thread
+# Tomcat pool and the "virtual-threads" profile, and reports throughput, latency percentiles and
+# the status code mix for each. Start the instances with:
+#   java -jar target/customer-service-1.0.0.jar
+#   java -jar target/customer-service-1.0.0.jar --spring.profiles.active=virtual-threads --server.port=8082
+# With virtual threads the request thread count no longer caps concurrency, the MongoDB connection
+# pool (100 connections by default) does. Requests are sent by several curl processes running up
+# to 250 parallel transfers each, so the concurrency can go well beyond Tomcat's 200 threads.
+# Check the virtual-thread instance's log for "Virtual thread pinned" warnings afterwards.
+#
+# Usage: ./benchmarks/virtual-vs-platform-threads.sh [platform-url] [virtual-url] [requests] [concurrency]
+
+PLATFORM_URL="${1:-http://localhost:8080}"
+VIRTUAL_URL="${2:-http://localhost:8082}"
+REQUESTS="${3:-20000}"
+CONCURRENCY="${4:-2000}"
+SEED=500
+RUN_ID=$(date +%s)
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+PER_PROCESS=250
+PROCESSES=$(( (CONCURRENCY + PER_PROCESS - 1) / PER_PROCESS ))
+PARALLEL=$(( CONCURRENCY < PER_PROCESS ? CONCURRENCY : PER_PROCESS ))
+
+echo "🧵 Virtual vs platform thread benchmark (requests=$REQUESTS, concurrency=$CONCURRENCY)"
+echo "===================================================================================="
+
+BODY="["
+for (( I=0; I<SEED; I++ )); do
+  [ "$I" -gt 0 ] && BODY+=","
+  BODY+="{\"firstName\":\"Bench\",\"lastName\":\"Threads\",\"email\":\"threads-$RUN_ID-$I@example.com\",\"phone\":\"+1234567890\",\"customerStatus\":\"ACTIVE\"}"
+done
+BODY+="]"
+curl -s -X POST "$PLATFORM_URL/api/v1/customers/bulk" -H "Content-Type: application/json" -d "$BODY" \
+  | jq -r '.data.items[] | select(.outcome == "CREATED") | .customerId' > "$WORK_DIR/ids"
+SEEDED=$(wc -l < "$WORK_DIR/ids")
+if [ "$SEEDED" -eq 0 ]; then
+  echo "❌ Could not seed customers through $PLATFORM_URL"
+  exit 1
+fi
+echo "Seeded $SEEDED customers"
+
+run() {
+  local NAME="$1" BASE_URL="$2"
+
+  # One curl config per process: nine lookups for every counted listing
+  awk -v requests="$REQUESTS" -v processes="$PROCESSES" -v base="$BASE_URL" -v dir="$WORK_DIR" '
+    { ids[NR - 1] = $0 }
+    END {
+      for (i = 0; i < requests; i++) {
+        file = dir "/config-" (i % processes)
+        if (i % 10 == 9) {
+          printf "url = \"%s/api/v1/customers?status=ACTIVE&size=20\"\noutput = /dev/null\n", base > file
+        } else {
+          printf "url = \"%s/api/v1/customers/%s\"\noutput = /dev/null\n", base, ids[i % NR] > file
+        }
+      }
+    }' "$WORK_DIR/ids"
+
+  START=$(date +%s.%N)
+  for (( P=0; P<PROCESSES; P++ )); do
+    curl -s -Z --parallel-immediate --parallel-max "$PARALLEL" -K "$WORK_DIR/config-$P" \
+      -w '%{http_code} %{time_total}\n' > "$WORK_DIR/results-$P" &
+  done
+  wait
+  END=$(date +%s.%N)
+
+  cat "$WORK_DIR"/results-* > "$WORK_DIR/results"
+  ELAPSED=$(echo "$END - $START" | bc)
+  sort -n -k2 "$WORK_DIR/results" | awk '{ print $2 }' > "$WORK_DIR/latencies"
+  COUNT=$(wc -l < "$WORK_DIR/latencies")
+  P50=$(sed -n "$(( COUNT * 50 / 100 + 1 ))p" "$WORK_DIR/latencies")
+  P99=$(sed -n "$(( COUNT * 99 / 100 + 1 ))p" "$WORK_DIR/latencies")
+  MAX=$(tail -n 1 "$WORK_DIR/latencies")
+
+  echo ""
+  echo "$NAME ($BASE_URL)"
+  echo "  Throughput: $(echo "scale=1; $COUNT / $ELAPSED" | bc) requests/s"
+  echo "  Latency p50=${P50}s p99=${P99}s max=${MAX}s"
+  echo "  Status codes:"
+  awk '{ print $1 }' "$WORK_DIR/results" | sort | uniq -c | sed 's/^/  /'
+  rm -f "$WORK_DIR"/results-*
+}
+
+run "Platform threads (Tomcat pool of 200)" "$PLATFORM_URL"
+run "Virtual threads (virtual-threads profile)" "$VIRTUAL_URL"
@@ -2,6 +2,7 @@ package com.example.customerservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Main application class for the Customer Service Microservice.
@@ -15,7 +16,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *   <li>Email uniqueness validation</li>
  *   <li>Phone number format validation (E.164)</li>
  *   <li>Search and pagination capabilities</li>
- *   <li>MongoDB integration with auditing</li>
+ *   <li>MongoDB integration with auditing and managed indexes</li>
  *   <li>Comprehensive error handling</li>
  *   <li>OpenAPI/Swagger documentation</li>
  * </ul>
@@ -25,6 +26,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @since 1.0.0
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CustomerServiceApplication {
 
     /**
@@ -0,0 +1,160 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.dto.CustomerResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of {@link CustomerResponse}s by customer ID.
+ *
+ * <p>Backed by Caffeine (W-TinyLFU admission, size and time-to-live limits, see
+ * {@link CustomerCacheProperties}). Hit, miss, eviction and size metrics are published as the
+ * {@code cache.*} meters tagged {@code cache=customers}.</p>
+ *
+ * <p>A miss is loaded on the calling thread, outside of any cache lock, so MongoDB reads never
+ * block other keys nor pin a virtual thread. Concurrent misses for the same customer wait for the
+ * one load in flight instead of each reading MongoDB. A load that fails (for example because the
+ * customer does not exist) is not cached. {@link #invalidate} also discards a load in flight, so
+ * a read racing with a write can never put the pre-write customer back into the cache.</p>
+ *
+ * <p>When the cache is disabled, concurrent reads of the same customer are still coalesced into
+ * one load through a {@link SingleFlight}, which invalidation detaches from later reads. Reads that
+ * joined a load in flight are counted as {@code customers.reads.coalesced} tagged
+ * {@code read=customer}.</p>
+ *
+ * <p>Every write path must invalidate the customers it changes. Writes made by other instances
+ * are picked up by {@link CustomerChangeStreamListener} when it is enabled, and otherwise once the
+ * time to live expires.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CustomerCache {
+
+    static final String NAME = "customers";
+
+    private final AsyncCache<String, CustomerResponse> cache;
+    private final SingleFlight<String, CustomerResponse> loads;
+
+    /**
+     * Constructs a new CustomerCache.
+     *
+     * @param properties the cache limits
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public CustomerCache(CustomerCacheProperties properties, MeterRegistry meterRegistry) {
+        this.loads = new SingleFlight<>(meterRegistry, "customer");
+        if (properties.enabled()) {
+            this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .buildAsync();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns the cached customer, loading it on a miss.
+     *
+     * @param customerId the customer ID
+     * @param loader reads the customer from MongoDB; runs on the calling thread
+     * @return the cached or freshly loaded customer
+     */
+    public CustomerResponse get(String customerId, Function<String, CustomerResponse> loader) {
+        if (cache == null) {
+            return loads.execute(customerId, () -> loader.apply(customerId));
+        }
+        CompletableFuture<CustomerResponse> load = new CompletableFuture<>();
+        CompletableFuture<CustomerResponse> cached = cache.get(customerId, (key, executor) -> load);
+        if (cached != load) {
+            if (!cached.isDone()) {
+                loads.recordCoalesced();
+            }
+            return SingleFlight.await(cached);
+        }
+        try {
+            CustomerResponse response = loader.apply(customerId);
+            load.complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns a customer if it is cached, without loading it or waiting for a load in flight.
+     *
+     * @param customerId the customer ID
+     * @return the cached customer, or null
+     */
+    public CustomerResponse getIfPresent(String customerId) {
+        CompletableFuture<CustomerResponse> cached = cache != null ? cache.getIfPresent(customerId) : null;
+        return cached != null && cached.isDone() && !cached.isCompletedExceptionally() ? cached.join() : null;
+    }
+
+    /**
+     * Removes a customer, including a load in flight.
+     *
+     * @param customerId the customer ID
+     */
+    public void invalidate(String customerId) {
+        if (cache != null) {
+            cache.synchronous().invalidate(customerId);
+        } else {
+            loads.forget(customerId);
+        }
+    }
+
+    /**
+     * Removes many customers, including loads in flight.
+     *
+     * @param customerIds the customer IDs
+     */
+    public void invalidateAll(Collection<String> customerIds) {
+        if (cache == null) {
+            customerIds.forEach(loads::forget);
+        } else if (!customerIds.isEmpty()) {
+            cache.synchronous().invalidateAll(customerIds);
+        }
+    }
+
+    /**
+     * Removes every customer, including loads in flight.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.synchronous().invalidateAll();
+        } else {
+            loads.forgetAll();
+        }
+    }
+
+    /**
+     * Changes the time to live of cached customers, including those already cached.
+     *
+     * @param ttl the new time to live
+     */
+    public void setTimeToLive(Duration ttl) {
+        if (cache != null) {
+            cache.synchronous().policy().expireAfterWrite()
+                .ifPresent(expiration -> expiration.setExpiresAfter(ttl));
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.ChangeStreamProperties;
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.search.LuceneCustomerIndex;
+import com.example.customerservice.search.LuceneIndexSynchronizer;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link CustomerCache}, {@link CustomerQueryCache} and, with the Lucene search engine,
+ * the {@link LuceneCustomerIndex} of every instance coherent with writes made by other instances.
+ *
+ * <p>Watches the customers collection through a MongoDB change stream on the application task
+ * executor and invalidates each inserted, updated, replaced or deleted customer; events that
+ * affect the whole collection (drop, rename, invalidate) clear the cache. Inserts, deletes and
+ * replacements invalidate every cached list and search result, updates only the query families
+ * whose fields they change. Only the operation type, document key, update description and cluster
+ * time of each event are transferred.</p>
+ *
+ * <p>The Lucene index only sees the writes of its own instance otherwise. Inserted, replaced and
+ * deleted customers, and updates to the indexed fields, are read again by ID and indexed (or
+ * removed if gone); whole-collection events and a lost resume token reload the index. Writes
+ * made by this instance are indexed again the same way, which is harmless.</p>
+ *
+ * <p>The resume token is kept in memory across reconnects and persisted every
+ * {@code token-save-interval} under this instance's {@code node-id}, so a restarted stream resumes
+ * after the last processed event. If the token has fallen out of the oplog the stream restarts
+ * from the present and the cache is cleared.</p>
+ *
+ * <p>While the stream is not caught up (starting, reconnecting, or delivering events older than
+ * {@code max-lag}) the cache uses {@code fallback-ttl} instead of its configured time to live, so
+ * missed or delayed events bound staleness to the shorter TTL. The age of the latest event is
+ * published as the {@code cache.change.stream.lag} gauge.</p>
+ *
+ * <p>Disabled by default, since change streams need a replica set; enable it with
+ * {@code customer-service.cache.change-stream.enabled=true}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ChangeStreamProperties
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "customer-service.cache.change-stream", name = "enabled", havingValue = "true")
+public class CustomerChangeStreamListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerChangeStreamListener.class);
+
+    /** Server error code for a resume token that is no longer in the oplog. */
+    static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final CustomerCache customerCache;
+    private final CustomerQueryCache queryCache;
+    private final Optional<LuceneIndexSynchronizer> searchIndexSynchronizer;
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ChangeStreamProperties properties;
+    private final Duration cacheTtl;
+
+    private volatile boolean running;
+    private volatile boolean caughtUp;
+    private volatile Duration lag = Duration.ZERO;
+    private BsonDocument resumeToken;
+    private Instant tokenSavedAt = Instant.MIN;
+
+    /**
+     * Constructs a new CustomerChangeStreamListener.
+     *
+     * @param customerCache the cache to keep coherent
+     * @param queryCache the list and search result cache to keep coherent
+     * @param searchIndexSynchronizer the Lucene index synchronizer, present when
+     *                                {@code customer-service.search.engine=lucene}
+     * @param mongoTemplate the template giving access to the customers and resume token collections
+     * @param taskExecutor the executor running the stream
+     * @param properties the change stream configuration
+     * @param cacheProperties the cache configuration, whose TTL applies while the stream is caught up
+     * @param meterRegistry the registry the lag gauge is published to
+     */
+    public CustomerChangeStreamListener(CustomerCache customerCache, CustomerQueryCache queryCache,
+                                        Optional<LuceneIndexSynchronizer> searchIndexSynchronizer,
+                                        MongoTemplate mongoTemplate,
+                                        @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                        ChangeStreamProperties properties, CustomerCacheProperties cacheProperties,
+                                        MeterRegistry meterRegistry) {
+        this.customerCache = customerCache;
+        this.queryCache = queryCache;
+        this.searchIndexSynchronizer = searchIndexSynchronizer;
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+        this.properties = properties;
+        this.cacheTtl = cacheProperties.ttl();
+        Gauge.builder("cache.change.stream.lag", this, listener -> listener.lag.toMillis() / 1000.0)
+            .description("Age of the latest change event applied to the cache")
+            .baseUnit("seconds")
+            .tag("cache", CustomerCache.NAME)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        fallBack();
+        taskExecutor.execute(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Tells whether the stream is caught up, so that the configured cache TTL applies.
+     *
+     * @return true while events are applied within {@code max-lag}
+     */
+    public boolean isCaughtUp() {
+        return caughtUp;
+    }
+
+    private void run() {
+        resumeToken = loadResumeToken();
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open()) {
+                logger.info("Watching customer changes for cache coherence (resuming: {})", resumeToken != null);
+                while (running) {
+                    ChangeStreamDocument<Document> event = cursor.tryNext();
+                    if (event != null) {
+                        apply(event);
+                    } else {
+                        // Nothing left to read: every change so far has been applied
+                        lag = Duration.ZERO;
+                        catchUp();
+                    }
+                    if (cursor.getResumeToken() != null) {
+                        resumeToken = cursor.getResumeToken();
+                        saveResumeToken(false);
+                    }
+                }
+                saveResumeToken(true);
+            } catch (MongoException ex) {
+                if (!running) {
+                    break;
+                }
+                fallBack();
+                if (ex instanceof MongoCommandException command && command.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    logger.warn("Resume token is no longer in the oplog; clearing the cache and watching from now");
+                    resumeToken = null;
+                    customerCache.invalidateAll();
+                    queryCache.invalidateAll();
+                    searchIndexSynchronizer.ifPresent(LuceneIndexSynchronizer::reload);
+                } else {
+                    logger.warn("Customer change stream failed; reopening in {} ms", properties.retryDelay().toMillis(), ex);
+                }
+                pause();
+            } catch (RuntimeException ex) {
+                // Anything else (an undecodable event, a failing cache) must not end the thread silently
+                if (!running) {
+                    break;
+                }
+                fallBack();
+                logger.error("Failed to apply customer change events; resuming after the last applied event in {} ms",
+                    properties.retryDelay().toMillis(), ex);
+                pause();
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open() {
+        MongoCollection<Document> customers = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Customer.class));
+        var stream = customers
+            .watch(List.of(Aggregates.project(Projections.include("operationType", "documentKey", "updateDescription", "clusterTime"))))
+            .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    /**
+     * Applies one change event to the caches and the search index.
+     *
+     * @param event the change event
+     */
+    void apply(ChangeStreamDocument<Document> event) {
+        switch (event.getOperationType()) {
+            case INSERT, UPDATE, REPLACE, DELETE -> {
+                String customerId = customerId(event.getDocumentKey());
+                if (customerId != null) {
+                    customerCache.invalidate(customerId);
+                } else {
+                    customerCache.invalidateAll();
+                }
+                UpdateDescription update = event.getUpdateDescription();
+                List<String> updatedFields = event.getOperationType() == OperationType.UPDATE && update != null
+                    ? updatedFields(update) : null;
+                if (updatedFields != null) {
+                    queryCache.invalidate(CustomerQueryCache.affectedBy(updatedFields));
+                } else {
+                    queryCache.invalidateAll();
+                }
+                searchIndexSynchronizer.ifPresent(synchronizer -> {
+                    if (customerId == null) {
+                        synchronizer.reload();
+                    } else if (event.getOperationType() == OperationType.DELETE) {
+                        synchronizer.remove(customerId);
+                    } else if (updatedFields == null || changesIndexedFields(updatedFields)) {
+                        synchronizer.refresh(customerId);
+                    }
+                });
+            }
+            case DROP, DROP_DATABASE, RENAME, INVALIDATE -> {
+                customerCache.invalidateAll();
+                queryCache.invalidateAll();
+                searchIndexSynchronizer.ifPresent(LuceneIndexSynchronizer::reload);
+            }
+            default -> { }
+        }
+
+        BsonTimestamp clusterTime = event.getClusterTime();
+        if (clusterTime != null) {
+            lag = Duration.between(Instant.ofEpochSecond(clusterTime.getTime()), Instant.now());
+            if (lag.compareTo(properties.maxLag()) > 0) {
+                fallBack();
+            } else {
+                catchUp();
+            }
+        }
+    }
+
+    private void catchUp() {
+        if (!caughtUp) {
+            caughtUp = true;
+            customerCache.setTimeToLive(cacheTtl);
+            logger.info("Customer change stream caught up; cache TTL restored to {} ms", cacheTtl.toMillis());
+        }
+    }
+
+    private void fallBack() {
+        if (caughtUp) {
+            logger.warn("Customer change stream not caught up; cache TTL lowered to {} ms", properties.fallbackTtl().toMillis());
+        }
+        caughtUp = false;
+        customerCache.setTimeToLive(properties.fallbackTtl());
+    }
+
+    private BsonDocument loadResumeToken() {
+        try {
+            BsonDocument stored = tokens().find(Filters.eq("_id", properties.nodeId())).first();
+            return stored != null ? stored.getDocument("token", null) : null;
+        } catch (MongoException ex) {
+            logger.warn("Could not read the change stream resume token; watching from now", ex);
+            return null;
+        }
+    }
+
+    private void saveResumeToken(boolean force) {
+        Instant now = Instant.now();
+        if (resumeToken == null || (!force && now.isBefore(tokenSavedAt.plus(properties.tokenSaveInterval())))) {
+            return;
+        }
+        try {
+            BsonDocument stored = new BsonDocument("_id", new BsonString(properties.nodeId()))
+                .append("token", resumeToken)
+                .append("savedAt", new BsonDateTime(now.toEpochMilli()));
+            tokens().replaceOne(Filters.eq("_id", properties.nodeId()), stored, new ReplaceOptions().upsert(true));
+            tokenSavedAt = now;
+        } catch (MongoException ex) {
+            logger.warn("Could not persist the change stream resume token", ex);
+        }
+    }
+
+    private MongoCollection<BsonDocument> tokens() {
+        return mongoTemplate.getCollection(properties.tokenCollection()).withDocumentClass(BsonDocument.class);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.retryDelay().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static List<String> updatedFields(UpdateDescription update) {
+        List<String> fields = new ArrayList<>();
+        if (update.getUpdatedFields() != null) {
+            fields.addAll(update.getUpdatedFields().keySet());
+        }
+        if (update.getRemovedFields() != null) {
+            fields.addAll(update.getRemovedFields());
+        }
+        return fields;
+    }
+
+    private static boolean changesIndexedFields(List<String> updatedFields) {
+        return updatedFields.stream()
+            .anyMatch(field -> LuceneCustomerIndex.SOURCE_FIELDS.contains(field.split("\\.", 2)[0]));
+    }
+
+    private static String customerId(BsonDocument documentKey) {
+        BsonValue id = documentKey != null ? documentKey.get("_id") : null;
+        if (id == null) {
+            return null;
+        }
+        if (id.isString()) {
+            return id.asString().getValue();
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : null;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.dto.ApiResponse;
+import com.example.customerservice.dto.CustomerResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * In-process cache of customers pre-rendered as JSON, so that {@code GET /api/v1/customers/{id}}
+ * writes bytes instead of serializing an {@link ApiResponse} on every request.
+ *
+ * <p>Each entry holds the UTF-8 JSON of a {@link CustomerResponse}, as the application's
+ * {@link ObjectMapper} renders it, and the same JSON deflated. An entry is only reused for a
+ * customer equal to the one it was rendered from (same {@code updatedAt} and fields), so it never
+ * needs invalidating: the customer handed in, usually from {@link CustomerCache}, is authoritative
+ * and a changed customer is simply rendered again.</p>
+ *
+ * <p>The {@code ApiResponse} envelope is written around the cached payload. It is rendered by the
+ * same {@link ObjectMapper} once per second, with a placeholder where the customer goes, so its
+ * fields and timestamp format stay those of {@link ApiResponse}. The gzip body is a single gzip member whose deflate stream is the
+ * envelope prefix as a stored block, the cached deflate blocks (flushed to a byte boundary), and
+ * the envelope suffix as the final stored block, so nothing is compressed per request; only the
+ * CRC-32 of the uncompressed body is computed.</p>
+ *
+ * <p>Shares the limits of the customers cache ({@link CustomerCacheProperties}); its metrics are
+ * the {@code cache.*} meters tagged {@code cache=customer-json}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CustomerJsonCache {
+
+    static final String NAME = "customer-json";
+
+    private static final String PLACEHOLDER = "customer-json-placeholder";
+    private static final byte[] PLACEHOLDER_JSON = ("\"" + PLACEHOLDER + "\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private final Cache<String, Rendered> cache;
+    private final ObjectMapper objectMapper;
+    private volatile Envelope envelope = new Envelope(Long.MIN_VALUE, new byte[0], new byte[0], new byte[0], new byte[0]);
+
+    /**
+     * Constructs a new CustomerJsonCache.
+     *
+     * @param properties the limits shared with the customers cache
+     * @param objectMapper the mapper rendering the customers, as for any other response
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public CustomerJsonCache(CustomerCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        if (properties.enabled()) {
+            this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Renders {@code ApiResponse.success(customer)} as JSON.
+     *
+     * @param customer the customer
+     * @return the UTF-8 JSON body
+     */
+    public byte[] json(CustomerResponse customer) {
+        Rendered rendered = rendered(customer);
+        Envelope envelope = envelope();
+        byte[] body = new byte[envelope.prefix().length + rendered.json().length + envelope.suffix().length];
+        ByteBuffer.wrap(body).put(envelope.prefix()).put(rendered.json()).put(envelope.suffix());
+        return body;
+    }
+
+    /**
+     * Renders {@code ApiResponse.success(customer)} as gzip-compressed JSON.
+     *
+     * @param customer the customer
+     * @return the gzip body, decompressing to the body {@link #json} would return
+     */
+    public byte[] gzip(CustomerResponse customer) {
+        Rendered rendered = rendered(customer);
+        Envelope envelope = envelope();
+        CRC32 crc = new CRC32();
+        crc.update(envelope.prefix());
+        crc.update(rendered.json());
+        crc.update(envelope.suffix());
+        int length = envelope.prefix().length + rendered.json().length + envelope.suffix().length;
+
+        byte[] body = new byte[GZIP_HEADER.length + envelope.prefixBlock().length + rendered.deflated().length
+            + envelope.finalBlock().length + GZIP_TRAILER_LENGTH];
+        ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN)
+            .put(GZIP_HEADER)
+            .put(envelope.prefixBlock())
+            .put(rendered.deflated())
+            .put(envelope.finalBlock())
+            .putInt((int) crc.getValue())
+            .putInt(length);
+        return body;
+    }
+
+    private Rendered rendered(CustomerResponse customer) {
+        if (cache == null) {
+            return render(customer);
+        }
+        Rendered cached = cache.getIfPresent(customer.customerId());
+        if (cached != null && (cached.customer() == customer || cached.customer().equals(customer))) {
+            return cached;
+        }
+        Rendered rendered = render(customer);
+        cache.put(customer.customerId(), rendered);
+        return rendered;
+    }
+
+    private Rendered render(CustomerResponse customer) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(customer);
+            return new Rendered(customer, json, deflate(json));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Failed to render customer " + customer.customerId(), ex);
+        }
+    }
+
+    private Envelope envelope() {
+        Envelope current = envelope;
+        if (current.epochSecond() != Instant.now().getEpochSecond()) {
+            current = renderEnvelope(ApiResponse.success(PLACEHOLDER));
+            envelope = current;
+        }
+        return current;
+    }
+
+    /**
+     * Renders the envelope and splits it around the placeholder data, which Jackson writes as a
+     * plain JSON string.
+     */
+    private Envelope renderEnvelope(ApiResponse<String> response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Failed to render the response envelope", ex);
+        }
+        int data = indexOf(json, PLACEHOLDER_JSON);
+        if (data < 0) {
+            throw new IllegalStateException("Response envelope has no data field: " + new String(json, StandardCharsets.UTF_8));
+        }
+        byte[] prefix = Arrays.copyOfRange(json, 0, data);
+        byte[] suffix = Arrays.copyOfRange(json, data + PLACEHOLDER_JSON.length, json.length);
+        return new Envelope(response.timestamp().getEpochSecond(), prefix, suffix,
+            storedBlock(prefix, false), storedBlock(suffix, true));
+    }
+
+    private static int indexOf(byte[] array, byte[] target) {
+        for (int i = 0; i <= array.length - target.length; i++) {
+            if (Arrays.equals(array, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Deflates without a wrapper and ends with a sync flush rather than a final block, so the
+     * output is a byte-aligned run of blocks that other blocks can follow.
+     */
+    static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 64);
+            byte[] buffer = new byte[1024];
+            int written;
+            do {
+                written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, written);
+            } while (written == buffer.length);
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Wraps bytes in an uncompressed deflate block (RFC 1951, section 3.2.4), starting on a byte
+     * boundary.
+     */
+    static byte[] storedBlock(byte[] data, boolean last) {
+        int length = data.length;
+        byte[] block = new byte[5 + length];
+        block[0] = (byte) (last ? 1 : 0);
+        block[1] = (byte) length;
+        block[2] = (byte) (length >>> 8);
+        block[3] = (byte) ~length;
+        block[4] = (byte) (~length >>> 8);
+        System.arraycopy(data, 0, block, 5, length);
+        return block;
+    }
+
+    private record Rendered(CustomerResponse customer, byte[] json, byte[] deflated) {}
+
+    private record Envelope(long epochSecond, byte[] prefix, byte[] suffix, byte[] prefixBlock, byte[] finalBlock) {}
+}
@@ -0,0 +1,217 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.CustomerQueryCacheProperties;
+import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerListResponse.CustomerSummary;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-process cache of list and search results, holding the customer IDs of each page
+ * plus its totals rather than the customers themselves.
+ *
+ * <p>Results are keyed by query type, normalized parameters, page and size. Each query belongs to a
+ * {@link QueryFamily} with its own version counter: writes bump the counters of the families whose
+ * results they may change, and a result is only found under the version current when its query
+ * started. A status change thus leaves cached name searches in place, and a write racing with a
+ * query can never cache a pre-write result under the post-write version. Superseded results are
+ * never read again and age out by size or time to live.</p>
+ *
+ * <p>Because only IDs are kept, the customers of a page are read again when it is served, so
+ * changes to fields that neither filter nor order a family (email, phone, address) show up without
+ * invalidating it.</p>
+ *
+ * <p>Limits come from {@link CustomerQueryCacheProperties}; metrics are the {@code cache.*} meters
+ * tagged {@code cache=customer-queries}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CustomerQueryCache {
+
+    static final String NAME = "customer-queries";
+
+    /**
+     * Groups of queries invalidated together.
+     */
+    public enum QueryFamily {
+        /** Listings filtered by status, ordered by creation time. */
+        LISTING,
+        /** Searches matching first or last name, ordered by creation time. */
+        NAME_SEARCH
+    }
+
+    private static final Map<String, Set<QueryFamily>> FAMILIES_BY_FIELD = Map.of(
+        "customerStatus", EnumSet.of(QueryFamily.LISTING),
+        "firstName", EnumSet.of(QueryFamily.NAME_SEARCH),
+        "lastName", EnumSet.of(QueryFamily.NAME_SEARCH),
+        "nameTrigrams", EnumSet.of(QueryFamily.NAME_SEARCH),
+        "namePhonetics", EnumSet.of(QueryFamily.NAME_SEARCH),
+        "createdAt", EnumSet.allOf(QueryFamily.class)
+    );
+
+    private final Cache<VersionedKey, IdPage> cache;
+    private final Map<QueryFamily, AtomicLong> versions = new EnumMap<>(QueryFamily.class);
+
+    /**
+     * Constructs a new CustomerQueryCache.
+     *
+     * @param properties the cache limits
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public CustomerQueryCache(CustomerQueryCacheProperties properties, MeterRegistry meterRegistry) {
+        for (QueryFamily family : QueryFamily.values()) {
+            versions.put(family, new AtomicLong());
+        }
+        if (properties.enabled()) {
+            this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Tells whether results are cached.
+     *
+     * @return false when the cache is disabled
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the current version of a family, to be read before running one of its queries and
+     * passed to {@link #put}.
+     *
+     * @param family the query family
+     * @return the version
+     */
+    public long version(QueryFamily family) {
+        return versions.get(family).get();
+    }
+
+    /**
+     * Returns a cached result that is still current.
+     *
+     * @param key the query
+     * @return the cached page, or null
+     */
+    public IdPage get(QueryKey key) {
+        return cache != null ? cache.getIfPresent(new VersionedKey(key, version(key.family()))) : null;
+    }
+
+    /**
+     * Caches a result under the version its query started at.
+     *
+     * @param key the query
+     * @param version the family version read before the query ran
+     * @param page the result
+     */
+    public void put(QueryKey key, long version, IdPage page) {
+        if (cache != null && version == version(key.family())) {
+            cache.put(new VersionedKey(key, version), page);
+        }
+    }
+
+    /**
+     * Invalidates every cached result of some families.
+     *
+     * @param families the families whose results may have changed
+     */
+    public void invalidate(Collection<QueryFamily> families) {
+        families.forEach(family -> versions.get(family).incrementAndGet());
+    }
+
+    /**
+     * Invalidates every cached result, as any insert or delete requires.
+     */
+    public void invalidateAll() {
+        invalidate(EnumSet.allOf(QueryFamily.class));
+    }
+
+    /**
+     * Returns the families whose results an update of the given fields may change.
+     *
+     * @param fields the names of the updated document fields; dotted paths count as their top-level field
+     * @return the affected families, empty if no cached result depends on these fields
+     */
+    public static Set<QueryFamily> affectedBy(Collection<String> fields) {
+        Set<QueryFamily> families = EnumSet.noneOf(QueryFamily.class);
+        for (String field : fields) {
+            int dot = field.indexOf('.');
+            families.addAll(FAMILIES_BY_FIELD.getOrDefault(dot < 0 ? field : field.substring(0, dot), Set.of()));
+        }
+        return families;
+    }
+
+    /**
+     * Identifies a cached query.
+     *
+     * @param family the family the query belongs to
+     * @param type the query type, such as {@code list} or {@code search}
+     * @param params the normalized query parameters
+     * @param page the page number
+     * @param size the page size
+     */
+    public record QueryKey(QueryFamily family, String type, String params, int page, int size) {}
+
+    /**
+     * A cached result page: the customer IDs in order, plus what the page reported about the
+     * whole result.
+     *
+     * @param customerIds the IDs of the customers on the page, in order
+     * @param totalElements the total number of results, if counted
+     * @param totalPages the total number of pages, if counted
+     * @param hasNext whether a next page exists
+     * @param nextCursor the keyset cursor of the next page, if any
+     */
+    public record IdPage(List<String> customerIds, Long totalElements, Integer totalPages,
+                         boolean hasNext, String nextCursor) {
+
+        /**
+         * Captures the IDs and totals of a list response.
+         *
+         * @param response the response of the query
+         * @return the page to cache
+         */
+        public static IdPage of(CustomerListResponse response) {
+            return new IdPage(response.customers().stream().map(CustomerSummary::customerId).toList(),
+                response.totalElements(), response.totalPages(), response.hasNext(), response.nextCursor());
+        }
+
+        /**
+         * Rebuilds the list response with freshly read customers.
+         *
+         * @param customers the customers, in the order of {@link #customerIds}
+         * @param page the page number
+         * @param size the page size
+         * @return the list response
+         */
+        public CustomerListResponse toResponse(List<CustomerSummary> customers, int page, int size) {
+            return new CustomerListResponse(customers, page, size, totalElements, totalPages,
+                hasNext, page > 0, nextCursor);
+        }
+    }
+
+    private record VersionedKey(QueryKey key, long version) {}
+}
@@ -0,0 +1,114 @@
+package com.example.customerservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: while a call for a key is in flight, other callers for
+ * the same key wait for its result (or exception) instead of issuing their own.
+ *
+ * <p>The first caller for a key runs the call on its own thread. Callers arriving while it runs
+ * share its future and get the same result, or the same exception rethrown. The key is removed
+ * as soon as the call returns or throws, so the next caller always starts a fresh call: neither
+ * results nor failures are cached.</p>
+ *
+ * <p>A caller that must not observe a read started before its own write calls {@link #forget}
+ * after writing, so later callers start a new call instead of joining the one in flight.</p>
+ *
+ * <p>Calls that joined one in flight are counted as {@code customers.reads.coalesced}, tagged
+ * with the kind of {@code read}.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    /**
+     * Constructs a new SingleFlight.
+     *
+     * @param meterRegistry the registry the coalesced call counter is published to
+     * @param read the kind of read coalesced, such as {@code customer} or {@code query}
+     */
+    public SingleFlight(MeterRegistry meterRegistry, String read) {
+        this.coalesced = Counter.builder("customers.reads.coalesced")
+            .description("Reads served by joining an identical read already in flight")
+            .tag("read", read)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call, or waits for the identical call in flight.
+     *
+     * @param key the key identifying identical calls
+     * @param call the read to run if none is in flight for the key
+     * @return the result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            recordCoalesced();
+            return await(inFlight);
+        }
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the call in flight for a key, if any, from later callers.
+     *
+     * @param key the key
+     */
+    public void forget(K key) {
+        flights.remove(key);
+    }
+
+    /**
+     * Detaches every call in flight from later callers.
+     */
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    /**
+     * Counts a read that joined one in flight through another mechanism, such as a cache load.
+     */
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
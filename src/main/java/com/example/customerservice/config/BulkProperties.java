@@ -0,0 +1,27 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for bulk customer operations.
+ *
+ * <p>Bound from the {@code customer-service.bulk} prefix:</p>
+ * <ul>
+ *   <li>{@code max-items}: largest number of items accepted in one bulk request</li>
+ *   <li>{@code chunk-size}: number of customers written per statement by filter-based operations,
+ *       bounding how long each statement holds its write locks</li>
+ * </ul>
+ *
+ * @param maxItems maximum number of items per bulk request
+ * @param chunkSize maximum number of customers changed per statement by filter-based operations
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.bulk")
+public record BulkProperties(
+    @DefaultValue("1000") int maxItems,
+    @DefaultValue("5000") int chunkSize
+) {}
@@ -0,0 +1,46 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for cross-instance cache coherence through a MongoDB change stream.
+ *
+ * <p>Bound from the {@code customer-service.cache.change-stream} prefix:</p>
+ * <ul>
+ *   <li>{@code enabled}: whether the customers collection is watched; change streams require a
+ *       replica set or sharded cluster</li>
+ *   <li>{@code node-id}: key under which this instance persists its resume token; must be stable
+ *       across restarts of the same instance and unique among instances</li>
+ *   <li>{@code token-collection}: collection holding the resume tokens</li>
+ *   <li>{@code token-save-interval}: how often the resume token is persisted</li>
+ *   <li>{@code max-lag}: age of the latest change event above which the stream counts as lagging</li>
+ *   <li>{@code fallback-ttl}: cache time to live applied while the stream is lagging, reconnecting
+ *       or not yet caught up; {@code customer-service.cache.customers.ttl} applies otherwise</li>
+ *   <li>{@code retry-delay}: pause before reopening a failed stream</li>
+ * </ul>
+ *
+ * @param enabled whether the change stream listener runs
+ * @param nodeId identifier of this instance's resume token
+ * @param tokenCollection collection storing resume tokens
+ * @param tokenSaveInterval minimum interval between resume token writes
+ * @param maxLag largest tolerated event age
+ * @param fallbackTtl cache time to live while the stream is not caught up
+ * @param retryDelay delay before reopening the stream after an error
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.cache.change-stream")
+public record ChangeStreamProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("local") String nodeId,
+    @DefaultValue("cacheResumeTokens") String tokenCollection,
+    @DefaultValue("5s") Duration tokenSaveInterval,
+    @DefaultValue("10s") Duration maxLag,
+    @DefaultValue("30s") Duration fallbackTtl,
+    @DefaultValue("5s") Duration retryDelay
+) {}
@@ -0,0 +1,34 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the single-customer read cache.
+ *
+ * <p>Bound from the {@code customer-service.cache.customers} prefix:</p>
+ * <ul>
+ *   <li>{@code enabled}: whether {@code GET /api/v1/customers/{id}} is served from the cache</li>
+ *   <li>{@code maximum-size}: number of customers kept; beyond it, entries are evicted by the
+ *       W-TinyLFU policy, which only admits a new customer if it is read more often than the
+ *       eviction candidate</li>
+ *   <li>{@code ttl}: time after which a cached customer is read again from MongoDB, bounding
+ *       staleness for writes made by other instances</li>
+ * </ul>
+ *
+ * @param enabled whether the cache is used
+ * @param maximumSize maximum number of cached customers
+ * @param ttl time to live of a cached customer
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.cache.customers")
+public record CustomerCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("5m") Duration ttl
+) {}
@@ -0,0 +1,51 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator reporting whether the required customer indexes exist.
+ *
+ * <p>Included in the readiness health group so that an instance does not receive traffic while
+ * its queries would collection-scan. When {@code customer-service.indexes.required-for-readiness}
+ * is disabled the indicator stays UP and only reports the missing indexes as details. Indexes whose
+ * build failed are listed with the error under {@code failedIndexes}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CustomerIndexManager
+ */
+@Component
+public class CustomerIndexHealthIndicator implements HealthIndicator {
+
+    private final CustomerIndexManager indexManager;
+    private final IndexProperties indexProperties;
+
+    /**
+     * Constructs a new CustomerIndexHealthIndicator.
+     *
+     * @param indexManager the manager tracking index verification state
+     * @param indexProperties the index bootstrap configuration
+     */
+    public CustomerIndexHealthIndicator(CustomerIndexManager indexManager, IndexProperties indexProperties) {
+        this.indexManager = indexManager;
+        this.indexProperties = indexProperties;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        if (indexManager.isReady() || !indexProperties.requiredForReadiness()) {
+            builder = Health.up();
+        } else {
+            builder = Health.outOfService();
+        }
+        return builder
+            .withDetail("verified", indexManager.isVerified())
+            .withDetail("missingIndexes", indexManager.getMissingIndexes())
+            .withDetail("failedIndexes", indexManager.getFailedIndexes())
+            .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.customerservice.config;
+
+import com.example.customerservice.model.Customer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declares, builds and verifies the indexes the customer queries depend on.
+ *
+ * <p>Spring Boot 3 leaves {@code spring.data.mongodb.auto-index-creation} disabled, so the
+ * {@code @Indexed} annotations on {@link Customer} are not applied by the framework. This
+ * manager owns the full index set instead:</p>
+ * <ul>
+ *   <li>{@code email} (unique) for uniqueness enforcement and email lookups</li>
+ *   <li>{@code phone} for phone lookups</li>
+ *   <li>{@code customerStatus} for status filters and counts</li>
+ *   <li>{@code (customerStatus, createdAt desc, _id desc)} for status-filtered listings</li>
+ *   <li>{@code (createdAt desc, _id desc)} for unfiltered listings and keyset pagination</li>
+ *   <li>{@code nameTrigrams} (multikey) for substring name search</li>
+ *   <li>{@code namePhonetics} (multikey) for phonetic name search</li>
+ *   <li>{@code firstNameKey}, {@code lastNameKey}, {@code emailKey} for anchored prefix suggestions</li>
+ * </ul>
+ *
+ * <p>After the application is ready, missing indexes are built on a background task (MongoDB 4.2+
+ * builds indexes without holding an exclusive collection lock for the duration of the build) and
+ * the resulting index set is verified. Each index is built independently, so one failed build (for
+ * example the unique email index over existing duplicates) does not hold back the others. Until
+ * every index verifies, the attempt is repeated with a delay doubling from
+ * {@code retry-delay} up to {@code max-retry-delay}. {@link CustomerIndexHealthIndicator} reports
+ * the missing indexes and the last build error of each, so the readiness probe can hold traffic
+ * back until the indexes exist.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class CustomerIndexManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerIndexManager.class);
+
+    /**
+     * An index the service requires on the customers collection.
+     *
+     * @param name index name used when the index is created
+     * @param keys ordered index key specification
+     * @param unique whether the index must enforce uniqueness
+     */
+    public record RequiredIndex(String name, Document keys, boolean unique) {}
+
+    /**
+     * The full set of indexes required by the customer queries.
+     */
+    public static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+        new RequiredIndex("email_unique", new Document("email", 1), true),
+        new RequiredIndex("phone", new Document("phone", 1), false),
+        new RequiredIndex("customerStatus", new Document("customerStatus", 1), false),
+        new RequiredIndex("customerStatus_createdAt_id",
+            new Document("customerStatus", 1).append("createdAt", -1).append("_id", -1), false),
+        new RequiredIndex("createdAt_id", new Document("createdAt", -1).append("_id", -1), false),
+        new RequiredIndex("nameTrigrams", new Document("nameTrigrams", 1), false),
+        new RequiredIndex("namePhonetics", new Document("namePhonetics", 1), false),
+        new RequiredIndex("firstNameKey", new Document("firstNameKey", 1), false),
+        new RequiredIndex("lastNameKey", new Document("lastNameKey", 1), false),
+        new RequiredIndex("emailKey", new Document("emailKey", 1), false)
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final IndexProperties indexProperties;
+
+    private volatile List<String> missingIndexes = REQUIRED_INDEXES.stream().map(RequiredIndex::name).toList();
+    private volatile Map<String, String> failedIndexes = Map.of();
+    private volatile boolean verified;
+
+    /**
+     * Constructs a new CustomerIndexManager.
+     *
+     * @param mongoTemplate the template used to inspect and create indexes
+     * @param taskExecutor the executor running the background index build
+     * @param indexProperties the index bootstrap configuration
+     */
+    public CustomerIndexManager(MongoTemplate mongoTemplate,
+                                @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                IndexProperties indexProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+        this.indexProperties = indexProperties;
+    }
+
+    /**
+     * Starts the background index build and verification once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::ensureIndexesUntilReady);
+    }
+
+    /**
+     * Repeats {@link #ensureIndexes()} with a growing delay until every required index verifies
+     * or the thread is interrupted.
+     */
+    void ensureIndexesUntilReady() {
+        Duration delay = indexProperties.retryDelay();
+        while (!ensureIndexes()) {
+            logger.warn("Customer indexes are not ready; retrying in {} ms", delay.toMillis());
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = min(delay.multipliedBy(2), indexProperties.maxRetryDelay());
+        }
+    }
+
+    /**
+     * Creates any missing required indexes (when enabled) and verifies the resulting index set.
+     * A failed build is recorded for its index and the remaining indexes are still built.
+     *
+     * @return true if every required index was found afterwards
+     */
+    public boolean ensureIndexes() {
+        try {
+            List<RequiredIndex> missing = findMissing();
+            Map<String, String> failed = new LinkedHashMap<>();
+            if (!missing.isEmpty() && indexProperties.createOnStartup()) {
+                IndexOperations indexOps = mongoTemplate.indexOps(Customer.class);
+                for (RequiredIndex index : missing) {
+                    try {
+                        build(indexOps, index);
+                    } catch (RuntimeException ex) {
+                        logger.error("Failed to build customer index {}", index.name(), ex);
+                        failed.put(index.name(), String.valueOf(ex.getMessage()));
+                    }
+                }
+            }
+            failedIndexes = Map.copyOf(failed);
+            return verify().isEmpty();
+        } catch (RuntimeException ex) {
+            logger.error("Failed to bootstrap customer indexes", ex);
+            return false;
+        }
+    }
+
+    /**
+     * Compares the indexes present on the customers collection with {@link #REQUIRED_INDEXES}.
+     *
+     * @return names of required indexes that are missing
+     */
+    public List<String> verify() {
+        List<String> missing = findMissing().stream().map(RequiredIndex::name).toList();
+        missingIndexes = missing;
+        verified = true;
+        if (missing.isEmpty()) {
+            logger.info("All {} required customer indexes are present", REQUIRED_INDEXES.size());
+        } else {
+            logger.warn("Required customer indexes are missing: {}; queries will fall back to collection scans", missing);
+        }
+        return missing;
+    }
+
+    /**
+     * Returns whether all required indexes were found by the last verification.
+     *
+     * @return true once verification has run and found no missing index
+     */
+    public boolean isReady() {
+        return verified && missingIndexes.isEmpty();
+    }
+
+    /**
+     * Returns whether index verification has completed at least once.
+     *
+     * @return true once verification has run
+     */
+    public boolean isVerified() {
+        return verified;
+    }
+
+    /**
+     * Returns the required indexes missing at the last verification.
+     *
+     * @return names of missing indexes (all required indexes before the first verification)
+     */
+    public List<String> getMissingIndexes() {
+        return missingIndexes;
+    }
+
+    /**
+     * Returns the required indexes whose build failed at the last attempt, with the error.
+     *
+     * @return error messages keyed by index name, empty if no build failed
+     */
+    public Map<String, String> getFailedIndexes() {
+        return failedIndexes;
+    }
+
+    private static void build(IndexOperations indexOps, RequiredIndex index) {
+        logger.info("Building missing customer index {} on {}", index.name(), index.keys().toJson());
+        CompoundIndexDefinition definition = new CompoundIndexDefinition(index.keys());
+        definition.named(index.name());
+        if (index.unique()) {
+            definition.unique();
+        }
+        indexOps.ensureIndex(definition);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private List<RequiredIndex> findMissing() {
+        List<IndexInfo> existing = mongoTemplate.indexOps(Customer.class).getIndexInfo();
+        return REQUIRED_INDEXES.stream()
+            .filter(required -> existing.stream().noneMatch(info -> matches(required, info)))
+            .toList();
+    }
+
+    private static boolean matches(RequiredIndex required, IndexInfo info) {
+        if (required.unique() && !info.isUnique()) {
+            return false;
+        }
+        List<IndexField> fields = info.getIndexFields();
+        if (fields.size() != required.keys().size()) {
+            return false;
+        }
+        int position = 0;
+        for (String key : required.keys().keySet()) {
+            IndexField field = fields.get(position++);
+            Sort.Direction direction = required.keys().getInteger(key) > 0 ? Sort.Direction.ASC : Sort.Direction.DESC;
+            if (!field.getKey().equals(key) || field.getDirection() != direction) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the list and search result cache.
+ *
+ * <p>Bound from the {@code customer-service.cache.queries} prefix:</p>
+ * <ul>
+ *   <li>{@code enabled}: whether offset listings and name searches are served from the cache</li>
+ *   <li>{@code maximum-size}: number of result pages kept</li>
+ *   <li>{@code ttl}: time after which a result page is queried again; keep it short, since writes
+ *       made by other instances only invalidate it through the change stream</li>
+ * </ul>
+ *
+ * @param enabled whether the cache is used
+ * @param maximumSize maximum number of cached result pages
+ * @param ttl time to live of a cached result page
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.cache.queries")
+public record CustomerQueryCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1000") long maximumSize,
+    @DefaultValue("30s") Duration ttl
+) {}
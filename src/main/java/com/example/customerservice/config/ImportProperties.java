@@ -0,0 +1,33 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for streaming customer imports.
+ *
+ * <p>Bound from the {@code customer-service.import} prefix:</p>
+ * <ul>
+ *   <li>{@code batch-size}: largest number of rows written per bulk insert (capped by
+ *       {@code customer-service.bulk.max-items})</li>
+ *   <li>{@code min-batch-size}: smallest batch the import shrinks to while writes are slow</li>
+ *   <li>{@code target-write-latency}: bulk insert duration above which the batch size is halved;
+ *       below half of it, the batch size grows again</li>
+ * </ul>
+ *
+ * @param batchSize maximum rows per bulk insert
+ * @param minBatchSize minimum rows per bulk insert
+ * @param targetWriteLatency write latency the import adapts its batch size to
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.import")
+public record ImportProperties(
+    @DefaultValue("1000") int batchSize,
+    @DefaultValue("50") int minBatchSize,
+    @DefaultValue("250ms") Duration targetWriteLatency
+) {}
@@ -0,0 +1,36 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the customer index bootstrapper.
+ *
+ * <p>Bound from the {@code customer-service.indexes} prefix:</p>
+ * <ul>
+ *   <li>{@code create-on-startup}: build missing indexes in the background after startup</li>
+ *   <li>{@code required-for-readiness}: report the service as not ready while a required index is missing;
+ *       when disabled, missing indexes are only logged as warnings</li>
+ *   <li>{@code retry-delay}: delay before building and verifying again while an index is missing;
+ *       doubled after each attempt</li>
+ *   <li>{@code max-retry-delay}: upper bound of the retry delay</li>
+ * </ul>
+ *
+ * @param createOnStartup whether missing indexes are created on startup
+ * @param requiredForReadiness whether missing indexes fail the readiness probe
+ * @param retryDelay initial delay between attempts while an index is missing
+ * @param maxRetryDelay longest delay between attempts
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.indexes")
+public record IndexProperties(
+    @DefaultValue("true") boolean createOnStartup,
+    @DefaultValue("true") boolean requiredForReadiness,
+    @DefaultValue("30s") Duration retryDelay,
+    @DefaultValue("10m") Duration maxRetryDelay
+) {}
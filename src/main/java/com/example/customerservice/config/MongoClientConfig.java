@@ -0,0 +1,111 @@
+package com.example.customerservice.config;
+
+import com.mongodb.connection.ConnectionPoolSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB client configuration: connection pool sizing and per-operation driver metrics.
+ *
+ * <p>Customizes the {@code MongoClientSettings} built by Spring Boot from
+ * {@code spring.data.mongodb.uri} (for both the blocking and the reactive client):</p>
+ * <ul>
+ *   <li>applies the {@link MongoPoolProperties} that are set to the connection pool, leaving
+ *       the pool options of the URI in place otherwise</li>
+ *   <li>registers {@link MongoOperationMetrics} as command and connection pool listener</li>
+ *   <li>installs {@link RepositoryOperationContext} as context provider, and wraps every
+ *       repository so that driver events know the repository method that caused them</li>
+ * </ul>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class MongoClientConfig {
+
+    /**
+     * Creates the listener publishing per-operation command and checkout timers.
+     *
+     * @param meterRegistry the registry the timers are published to
+     * @return the metrics listener
+     */
+    @Bean
+    public MongoOperationMetrics mongoOperationMetrics(MeterRegistry meterRegistry) {
+        return new MongoOperationMetrics(meterRegistry);
+    }
+
+    /**
+     * Applies the configured pool options and registers the metrics listeners on the client settings.
+     *
+     * @param pool the connection pool configuration
+     * @param metrics the listener publishing per-operation metrics
+     * @return the client settings customizer
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoClientSettingsCustomizer(MongoPoolProperties pool,
+                                                                               MongoOperationMetrics metrics) {
+        return settings -> settings
+            .contextProvider(new RepositoryOperationContext())
+            .addCommandListener(metrics)
+            .applyToConnectionPoolSettings(builder -> {
+                applyPool(builder, pool);
+                builder.addConnectionPoolListener(metrics);
+            });
+    }
+
+    /**
+     * Applies the pool options that are set. Boot has already applied the connection string, so
+     * unset options keep its values.
+     */
+    static void applyPool(ConnectionPoolSettings.Builder builder, MongoPoolProperties pool) {
+        if (pool.maxSize() != null) {
+            builder.maxSize(pool.maxSize());
+        }
+        if (pool.minSize() != null) {
+            builder.minSize(pool.minSize());
+        }
+        if (pool.maxWaitTime() != null) {
+            builder.maxWaitTime(pool.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (pool.maxConnectionIdleTime() != null) {
+            builder.maxConnectionIdleTime(pool.maxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (pool.maxConnectionLifeTime() != null) {
+            builder.maxConnectionLifeTime(pool.maxConnectionLifeTime().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (pool.maintenanceFrequency() != null) {
+            builder.maintenanceFrequency(pool.maintenanceFrequency().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (pool.maxConnecting() != null) {
+            builder.maxConnecting(pool.maxConnecting());
+        }
+    }
+
+    /**
+     * Wraps every repository with the interceptor exposing the current repository operation.
+     *
+     * @return the post processor customizing repository factory beans
+     */
+    @Bean
+    public static BeanPostProcessor repositoryOperationPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory ->
+                        factory.addRepositoryProxyPostProcessor((proxy, repository) ->
+                            proxy.addAdvice(RepositoryOperationContext.interceptor(
+                                repository.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
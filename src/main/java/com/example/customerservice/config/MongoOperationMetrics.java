@@ -0,0 +1,93 @@
+package com.example.customerservice.config;
+
+import com.mongodb.RequestContext;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes MongoDB command latency and connection checkout wait per repository operation.
+ *
+ * <p>Registered by {@link MongoClientConfig} as a command and connection pool listener. Two timers
+ * are recorded, both tagged with the {@code operation} that issued the work (see
+ * {@link RepositoryOperationContext}):</p>
+ * <ul>
+ *   <li>{@code mongodb.repository.commands}: time the server took for each command, tagged with
+ *       the {@code command} name and its {@code status} ({@code success} or {@code failed})</li>
+ *   <li>{@code mongodb.repository.pool.wait}: time spent waiting for a pooled connection, tagged
+ *       with the checkout {@code outcome} ({@code success}, {@code timeout}, ...)</li>
+ * </ul>
+ *
+ * <p>A pool that is too small shows up as growing checkout waits (and {@code timeout} outcomes)
+ * while command times stay flat; slow queries show up in the command timer of their operation.
+ * Checkouts happen on the calling thread only for blocking repositories, so reactive checkouts are
+ * tagged with operation {@code none}. Pool size, checked-out connections and wait queue gauges
+ * are published by Spring Boot as {@code mongodb.driver.pool.*}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MongoOperationMetrics implements CommandListener, ConnectionPoolListener {
+
+    static final String COMMAND_METRIC = "mongodb.repository.commands";
+    static final String POOL_WAIT_METRIC = "mongodb.repository.pool.wait";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new MongoOperationMetrics.
+     *
+     * @param meterRegistry the registry the timers are published to
+     */
+    public MongoOperationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        recordCommand(event.getRequestContext(), event.getCommandName(), "success", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        recordCommand(event.getRequestContext(), event.getCommandName(), "failed", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        recordCheckout("success", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        recordCheckout(event.getReason().name().toLowerCase(Locale.ROOT), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void recordCommand(RequestContext context, String command, String status, long elapsedNanos) {
+        Timer.builder(COMMAND_METRIC)
+            .description("Time MongoDB took to execute commands, per repository operation")
+            .tag("operation", RepositoryOperationContext.of(context))
+            .tag("command", command)
+            .tag("status", status)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordCheckout(String outcome, long elapsedNanos) {
+        Timer.builder(POOL_WAIT_METRIC)
+            .description("Time spent waiting for a pooled MongoDB connection, per repository operation")
+            .tag("operation", RepositoryOperationContext.current())
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
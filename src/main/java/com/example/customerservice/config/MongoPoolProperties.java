@@ -0,0 +1,51 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the MongoDB connection pool.
+ *
+ * <p>Bound from the {@code customer-service.mongo.pool} prefix and applied by
+ * {@link MongoClientConfig} on top of {@code spring.data.mongodb.uri}. Only options that are set
+ * are applied, and they take precedence over the matching URI option; an unset option keeps the
+ * value from the URI, or else the driver default given in parentheses:</p>
+ * <ul>
+ *   <li>{@code max-size} ({@code maxPoolSize}, 100): most connections open per server; requests
+ *       beyond it wait for one</li>
+ *   <li>{@code min-size} ({@code minPoolSize}, 0): connections kept open per server even when idle</li>
+ *   <li>{@code max-wait-time} ({@code waitQueueTimeoutMS}, 2m): how long a request waits for a
+ *       connection before failing; zero fails immediately when the pool is exhausted</li>
+ *   <li>{@code max-connection-idle-time} ({@code maxIdleTimeMS}, 0s): idle time after which a
+ *       connection is closed; zero keeps idle connections open</li>
+ *   <li>{@code max-connection-life-time} ({@code maxLifeTimeMS}, 0s): age after which a connection
+ *       is closed; zero keeps connections open indefinitely</li>
+ *   <li>{@code maintenance-frequency} (no URI option, 60s): how often idle and expired connections
+ *       are pruned</li>
+ *   <li>{@code max-connecting} ({@code maxConnecting}, 2): connections established concurrently
+ *       per server</li>
+ * </ul>
+ *
+ * @param maxSize maximum connections per server, or null to keep the URI or driver value
+ * @param minSize minimum connections per server, or null to keep the URI or driver value
+ * @param maxWaitTime longest wait for a pooled connection, or null to keep the URI or driver value
+ * @param maxConnectionIdleTime idle time before a connection is closed, or null to keep the URI or driver value
+ * @param maxConnectionLifeTime lifetime before a connection is closed, or null to keep the URI or driver value
+ * @param maintenanceFrequency interval of the pool maintenance task, or null to keep the driver value
+ * @param maxConnecting maximum connections being established at once, or null to keep the URI or driver value
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.mongo.pool")
+public record MongoPoolProperties(
+    Integer maxSize,
+    Integer minSize,
+    Duration maxWaitTime,
+    Duration maxConnectionIdleTime,
+    Duration maxConnectionLifeTime,
+    Duration maintenanceFrequency,
+    Integer maxConnecting
+) {}
@@ -0,0 +1,40 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+/**
+ * Configuration of the reactive stack, applied when the application runs as a reactive web
+ * application (the {@code reactive} profile).
+ *
+ * <p>Tomcat stays on the classpath for the default servlet stack and would otherwise be preferred
+ * by Spring Boot for a reactive application too, so the Netty server factory is declared
+ * explicitly. Auditing is enabled for the reactive template, which does not use the callbacks
+ * registered by {@link MongoConfig}.</p>
+ *
+ * <p>The blocking services and caches are only created for the servlet stack. The blocking
+ * {@code MongoClient} is kept, as index bootstrap and other startup tasks use
+ * {@code MongoTemplate} in both stacks.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableReactiveMongoAuditing
+public class ReactiveWebConfig {
+
+    /**
+     * Serves the reactive stack from Reactor Netty.
+     *
+     * @return the Netty web server factory, configured from the {@code server.*} properties
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.customerservice.config;
+
+import com.mongodb.RequestContext;
+import com.mongodb.client.SynchronousContextProvider;
+import com.mongodb.reactivestreams.client.ReactiveContextProvider;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.reactivestreams.Subscriber;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Carries the repository method that issued a MongoDB operation down to the driver.
+ *
+ * <p>{@link #interceptor(String)} wraps every repository method: blocking calls expose the
+ * operation name (for example {@code CustomerRepository.findByEmail}) in a thread-local for the
+ * duration of the call, reactive calls in the Reactor context of the returned publisher. The
+ * driver asks this class, registered as the client's context provider, for a
+ * {@link RequestContext} at the start of each operation and hands it to the command listeners, so
+ * {@link MongoOperationMetrics} can tag commands by repository operation. Nested repository calls
+ * keep the outermost operation. Commands issued outside a repository are tagged {@value #NONE}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class RepositoryOperationContext implements SynchronousContextProvider, ReactiveContextProvider {
+
+    static final String KEY = "customer-service.repository-operation";
+    static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public RequestContext getContext() {
+        return new OperationRequestContext(current());
+    }
+
+    @Override
+    public RequestContext getContext(Subscriber<?> subscriber) {
+        String operation = subscriber instanceof CoreSubscriber<?> coreSubscriber
+            ? coreSubscriber.currentContext().getOrDefault(KEY, NONE)
+            : NONE;
+        return new OperationRequestContext(operation);
+    }
+
+    /**
+     * Returns the repository operation running on the current thread.
+     *
+     * @return the operation name, or {@value #NONE} outside a blocking repository call
+     */
+    static String current() {
+        String operation = CURRENT.get();
+        return operation != null ? operation : NONE;
+    }
+
+    /**
+     * Reads the repository operation from a driver request context.
+     *
+     * @param context the context attached to a driver event, may be null
+     * @return the operation name, or {@value #NONE} if the context carries none
+     */
+    static String of(RequestContext context) {
+        return context != null && context.hasKey(KEY) ? context.get(KEY) : NONE;
+    }
+
+    /**
+     * Creates the interceptor naming the operations of one repository.
+     *
+     * @param repositoryName the simple name of the repository interface
+     * @return an interceptor exposing {@code repositoryName.methodName} while a method runs
+     */
+    static MethodInterceptor interceptor(String repositoryName) {
+        return invocation -> {
+            String outer = CURRENT.get();
+            String operation = outer != null ? outer : repositoryName + "." + invocation.getMethod().getName();
+            CURRENT.set(operation);
+            try {
+                Object result = invocation.proceed();
+                if (result instanceof Mono<?> mono) {
+                    return mono.contextWrite(context -> context.hasKey(KEY) ? context : context.put(KEY, operation));
+                }
+                if (result instanceof Flux<?> flux) {
+                    return flux.contextWrite(context -> context.hasKey(KEY) ? context : context.put(KEY, operation));
+                }
+                return result;
+            } finally {
+                if (outer == null) {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    private static final class OperationRequestContext implements RequestContext {
+
+        private final Map<Object, Object> values = new HashMap<>();
+
+        OperationRequestContext(String operation) {
+            values.put(KEY, operation);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key) {
+            if (!values.containsKey(key)) {
+                throw new NoSuchElementException(String.valueOf(key));
+            }
+            return (T) values.get(key);
+        }
+
+        @Override
+        public boolean hasKey(Object key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void delete(Object key) {
+            values.remove(key);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public Stream<Map.Entry<Object, Object>> stream() {
+            return values.entrySet().stream();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.customerservice.config;
+
+import com.example.customerservice.repository.CustomerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Populates the derived search fields ({@code nameTrigrams}, {@code namePhonetics} and the
+ * normalized name and email keys) for customers stored before those fields existed.
+ *
+ * <p>Name search still finds such customers through its regex verification, but only the
+ * backfilled ones benefit from the trigram index, and phonetic search and prefix suggestions only
+ * see backfilled customers at all. The backfill runs once after startup on the application task
+ * executor, in batches, and is a no-op once every customer has its search fields.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class SearchFieldBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchFieldBackfill.class);
+
+    static final int BATCH_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final TaskExecutor taskExecutor;
+
+    /**
+     * Constructs a new SearchFieldBackfill.
+     *
+     * @param customerRepository the repository used to find and update customers
+     * @param taskExecutor the executor running the backfill
+     */
+    public SearchFieldBackfill(CustomerRepository customerRepository,
+                               @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.customerRepository = customerRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Starts the backfill once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::backfill);
+    }
+
+    /**
+     * Backfills search fields batch by batch until no customer is left without them.
+     *
+     * @return total number of customers updated
+     */
+    public long backfill() {
+        long total = 0;
+        try {
+            long updated;
+            do {
+                updated = customerRepository.backfillSearchFields(BATCH_SIZE);
+                total += updated;
+            } while (updated > 0);
+            if (total > 0) {
+                logger.info("Backfilled search fields for {} customers", total);
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Search field backfill stopped after {} customers", total, ex);
+        }
+        return total;
+    }
+}
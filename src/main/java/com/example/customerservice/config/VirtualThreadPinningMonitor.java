@@ -0,0 +1,136 @@
+package com.example.customerservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block or a native frame cannot
+ * unmount, so it keeps one of the few carrier threads busy for the whole wait. The monitor streams
+ * the JFR {@code jdk.VirtualThreadPinned} event while the application runs with
+ * {@code spring.threads.virtual.enabled}, logs the stack of every pinning longer than
+ * {@code customer-service.virtual-threads.pinning-threshold} and records it in the
+ * {@code virtual.threads.pinned} timer. The timer's {@code source} tag names the code closest to
+ * the blocking call: {@code mongodb-driver}, {@code application} or {@code other}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see VirtualThreadProperties
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "customer-service.virtual-threads", name = "pinning-diagnostics",
+    havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "virtual.threads.pinned";
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private volatile RecordingStream recording;
+
+    /**
+     * Constructs a new VirtualThreadPinningMonitor.
+     *
+     * @param properties the virtual-thread configuration
+     * @param meterRegistry the registry the pinning timer is published to
+     */
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(properties.pinningThreshold()).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            recording = stream;
+            logger.info("Reporting virtual threads pinned for more than {} ms", properties.pinningThreshold().toMillis());
+        } catch (RuntimeException ex) {
+            logger.warn("Virtual thread pinning diagnostics unavailable: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recording;
+        recording = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null
+            ? List.of()
+            : event.getStackTrace().getFrames().stream().map(VirtualThreadPinningMonitor::describe).toList();
+        recordPinning(event.getDuration(), frames);
+    }
+
+    /**
+     * Logs and records one pinning.
+     *
+     * @param duration how long the virtual thread was pinned
+     * @param frames the pinned thread's stack, innermost frame first
+     */
+    void recordPinning(Duration duration, List<String> frames) {
+        String source = source(frames);
+        Timer.builder(PINNED_METRIC)
+            .description("Time virtual threads spent blocked while pinned to their carrier thread")
+            .tag("source", source)
+            .register(meterRegistry)
+            .record(duration);
+
+        List<String> logged = frames.subList(0, Math.min(frames.size(), properties.pinningStackDepth()));
+        logger.warn("Virtual thread pinned for {} ms in {} code:\n\tat {}",
+            duration.toMillis(), source, String.join("\n\tat ", logged));
+    }
+
+    /**
+     * Attributes a pinning to the innermost driver or application frame of the stack.
+     *
+     * @param frames the pinned thread's stack, innermost frame first
+     * @return {@code mongodb-driver}, {@code application} or {@code other}
+     */
+    static String source(List<String> frames) {
+        for (String frame : frames) {
+            if (frame.startsWith("com.mongodb.")) {
+                return "mongodb-driver";
+            }
+            if (frame.startsWith("com.example.customerservice.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
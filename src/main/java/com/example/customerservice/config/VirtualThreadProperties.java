@@ -0,0 +1,32 @@
+package com.example.customerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the virtual-thread mode ({@code virtual-threads} profile).
+ *
+ * <p>Bound from the {@code customer-service.virtual-threads} prefix:</p>
+ * <ul>
+ *   <li>{@code pinning-diagnostics}: whether pinned virtual threads are reported while
+ *       {@code spring.threads.virtual.enabled} is set</li>
+ *   <li>{@code pinning-threshold}: shortest pinned duration that is reported</li>
+ *   <li>{@code pinning-stack-depth}: number of stack frames logged per pinned thread</li>
+ * </ul>
+ *
+ * @param pinningDiagnostics whether {@link VirtualThreadPinningMonitor} runs
+ * @param pinningThreshold minimum duration of a reported pinning
+ * @param pinningStackDepth stack frames logged per pinning
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "customer-service.virtual-threads")
+public record VirtualThreadProperties(
+    @DefaultValue("true") boolean pinningDiagnostics,
+    @DefaultValue("20ms") Duration pinningThreshold,
+    @DefaultValue("12") int pinningStackDepth
+) {}
@@ -0,0 +1,276 @@
+package com.example.customerservice.controller;
+
+import com.example.customerservice.dto.ApiResponse;
+import com.example.customerservice.dto.BatchGetRequest;
+import com.example.customerservice.dto.BatchGetResponse;
+import com.example.customerservice.dto.BulkDeleteRequest;
+import com.example.customerservice.dto.BulkDeleteResponse;
+import com.example.customerservice.dto.BulkOperationResponse;
+import com.example.customerservice.dto.BulkUpdateItem;
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.ImportFormat;
+import com.example.customerservice.dto.StatusTransitionRequest;
+import com.example.customerservice.dto.StatusTransitionResponse;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerFilter;
+import com.example.customerservice.service.CustomerBulkService;
+import com.example.customerservice.service.CustomerExportService;
+import com.example.customerservice.service.CustomerImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST controller for operations on many customers per request.
+ * 
+ * <p>Bulk endpoints validate and apply every item independently and respond with a
+ * {@link BulkOperationResponse} listing the outcome of each item in request order. A request is
+ * only rejected as a whole when it is empty or larger than {@code customer-service.bulk.max-items}.</p>
+ * 
+ * <p>Exports are streamed from a database cursor instead of being paged, and imports are read
+ * incrementally from the upload.</p>
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/customers")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Tag(name = "Customer Bulk Operations", description = "APIs for reading and changing many customers per request")
+public class CustomerBulkController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CustomerBulkController.class);
+    
+    private final CustomerBulkService customerBulkService;
+    private final CustomerExportService customerExportService;
+    private final CustomerImportService customerImportService;
+    
+    /**
+     * Constructs a new CustomerBulkController with the required service dependencies.
+     * 
+     * @param customerBulkService the service for bulk customer operations
+     * @param customerExportService the service for streaming customer exports
+     * @param customerImportService the service for streaming customer imports
+     */
+    public CustomerBulkController(CustomerBulkService customerBulkService, CustomerExportService customerExportService,
+                                  CustomerImportService customerImportService) {
+        this.customerBulkService = customerBulkService;
+        this.customerExportService = customerExportService;
+        this.customerImportService = customerImportService;
+    }
+    
+    /**
+     * Creates many customers in one request.
+     * 
+     * @param requests the customers to create
+     * @return HTTP 200 with the outcome of every item
+     */
+    @PostMapping("/bulk")
+    @Operation(
+        summary = "Create customers in bulk",
+        description = "Validates every item, rejects emails repeated within the request and inserts the rest "
+            + "with one unordered bulk write. Items whose email already exists fail individually."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Bulk create processed; see per-item results"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or oversized request")
+    })
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> createCustomers(
+            @RequestBody List<CreateCustomerRequest> requests) {
+        
+        logger.info("Received request to bulk create {} customers", requests.size());
+        
+        BulkOperationResponse response = customerBulkService.createCustomers(requests);
+        return ResponseEntity.ok(ApiResponse.success("Bulk create processed", response));
+    }
+    
+    /**
+     * Applies partial updates to many customers in one request.
+     * 
+     * @param items the customer IDs and the updates to apply to them
+     * @return HTTP 200 with the outcome of every item
+     */
+    @PatchMapping("/bulk")
+    @Operation(
+        summary = "Update customers in bulk",
+        description = "Applies each partial update with one unordered bulk write. New emails are checked for "
+            + "uniqueness with one query; items that change nothing are reported as unchanged."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Bulk update processed; see per-item results"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or oversized request")
+    })
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> updateCustomers(
+            @RequestBody List<BulkUpdateItem> items) {
+        
+        logger.info("Received request to bulk update {} customers", items.size());
+        
+        BulkOperationResponse response = customerBulkService.updateCustomers(items);
+        return ResponseEntity.ok(ApiResponse.success("Bulk update processed", response));
+    }
+    
+    /**
+     * Moves every customer selected by a filter to a new status.
+     * 
+     * @param request the filter, the target status and whether to only count
+     * @return HTTP 200 with the matched and modified counts
+     */
+    @PostMapping("/bulk/status")
+    @Operation(
+        summary = "Transition customer status by filter",
+        description = "Sets the status of every customer matching the filter with chunked updateMany statements. "
+            + "With dryRun, only counts the customers that would change."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Transition applied or counted"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Missing target status or empty filter")
+    })
+    public ResponseEntity<ApiResponse<StatusTransitionResponse>> transitionStatus(
+            @Valid @RequestBody StatusTransitionRequest request) {
+        
+        logger.info("Received request to transition customers to status {} (dry run: {})",
+            request.targetStatus(), request.dryRun());
+        
+        StatusTransitionResponse response = customerBulkService.transitionStatus(request);
+        String message = request.dryRun() ? "Status transition counted" : "Status transition applied";
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+    
+    /**
+     * Deletes many customers, selected either by ID or by filter.
+     * 
+     * @param request the customer IDs or the filter
+     * @return HTTP 200 with the number of customers deleted
+     */
+    @PostMapping("/bulk/delete")
+    @Operation(
+        summary = "Delete customers in bulk",
+        description = "Deletes the customers with the given IDs, or every customer matching the filter, "
+            + "with chunked deleteMany statements."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Customers deleted"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Neither or both of IDs and filter given, or too many IDs")
+    })
+    public ResponseEntity<ApiResponse<BulkDeleteResponse>> deleteCustomers(@RequestBody BulkDeleteRequest request) {
+        
+        logger.info("Received request to bulk delete customers");
+        
+        BulkDeleteResponse response = customerBulkService.deleteCustomers(request);
+        return ResponseEntity.ok(ApiResponse.success("Bulk delete processed", response));
+    }
+    
+    /**
+     * Fetches many customers by ID, email and phone number in one call.
+     * 
+     * @param request the keys to look up
+     * @return HTTP 200 with one result per requested key, in request order
+     */
+    @PostMapping("/batch-get")
+    @Operation(
+        summary = "Get many customers",
+        description = "Resolves customer IDs, emails and phone numbers with one query per key type. Results "
+            + "follow the request order; keys without a customer are marked as not found."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Customers resolved"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "No keys or too many keys")
+    })
+    public ResponseEntity<ApiResponse<BatchGetResponse>> batchGetCustomers(@RequestBody BatchGetRequest request) {
+        
+        BatchGetResponse response = customerBulkService.batchGetCustomers(request);
+        return ResponseEntity.ok(ApiResponse.success("Customers retrieved successfully", response));
+    }
+    
+    /**
+     * Streams customers as newline-delimited JSON, one customer per line.
+     * 
+     * <p>The response is written while the MongoDB cursor is read, so it starts immediately and is
+     * never held in memory as a whole.</p>
+     * 
+     * @param status optional status filter
+     * @param createdAfter optional lower bound (inclusive) on the creation timestamp
+     * @param createdBefore optional upper bound (exclusive) on the creation timestamp
+     * @param response the servlet response the customers are written to
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Export customers as NDJSON",
+        description = "Streams every matching customer from a database cursor, one JSON document per line, "
+            + "without pagination or count queries."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Customers streamed")
+    })
+    public void exportCustomers(
+            @Parameter(description = "Filter by customer status")
+            @RequestParam(required = false) CustomerStatus status,
+            
+            @Parameter(description = "Only customers created at or after this instant (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
+            
+            @Parameter(description = "Only customers created before this instant (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdBefore,
+            
+            HttpServletResponse response) throws IOException {
+        
+        logger.info("Received request to export customers - status: {}, createdAfter: {}, createdBefore: {}",
+            status, createdAfter, createdBefore);
+        
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("customers.ndjson").build().toString());
+        customerExportService.exportCustomers(
+            new CustomerFilter(status, createdBefore, createdAfter, null), response.getOutputStream());
+    }
+    
+    /**
+     * Imports customers from an NDJSON or CSV upload, streaming back a report.
+     * 
+     * <p>The upload is read incrementally and written in bulk batches; rejected rows and progress
+     * are reported as NDJSON while the import runs, ending with a {@code COMPLETED} event.</p>
+     * 
+     * @param request the servlet request carrying the upload
+     * @param response the servlet response the report is written to
+     * @throws IOException if the upload cannot be read or the report cannot be written
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(
+        summary = "Import customers from NDJSON or CSV",
+        description = "Reads the upload incrementally, validates every row like a create request and inserts rows "
+            + "in unordered bulk batches sized by the write latency. Streams per-row errors and progress as NDJSON."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import report streamed"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Missing or invalid CSV header")
+    })
+    public void importCustomers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        logger.info("Received request to import customers from {} upload", format);
+        
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        customerImportService.importCustomers(request.getInputStream(), format, response.getOutputStream());
+    }
+}
@@ -1,23 +1,34 @@
 package com.example.customerservice.controller;
 
+import com.example.customerservice.cache.CustomerJsonCache;
 import com.example.customerservice.dto.ApiResponse;
 import com.example.customerservice.dto.CreateCustomerRequest;
 import com.example.customerservice.dto.UpdateCustomerRequest;
 import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.SearchMode;
 import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerListResponse.CustomerSummary;
 import com.example.customerservice.model.CustomerStatus;
 import com.example.customerservice.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * REST controller for customer management operations.
  * 
@@ -40,20 +51,24 @@ import org.springframework.web.bind.annotation.*;
  */
 @RestController
 @RequestMapping("/api/v1/customers")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "Customer Management", description = "APIs for managing customer information")
 public class CustomerController {
     
     private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
     
     private final CustomerService customerService;
+    private final CustomerJsonCache customerJsonCache;
     
     /**
-     * Constructs a new CustomerController with the required service dependency.
+     * Constructs a new CustomerController with the required dependencies.
      * 
      * @param customerService the service for customer business operations
+     * @param customerJsonCache the pre-rendered JSON of single-customer responses
      */
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, CustomerJsonCache customerJsonCache) {
         this.customerService = customerService;
+        this.customerJsonCache = customerJsonCache;
     }
     
     /**
@@ -86,29 +101,51 @@ public class CustomerController {
             .body(ApiResponse.success("Customer created successfully", response));
     }
     
+    /**
+     * Retrieves a customer by ID.
+     * 
+     * <p>The body is written from {@link CustomerJsonCache} rather than serialized per request,
+     * gzip-compressed when the client accepts it.</p>
+     * 
+     * @param customerId the customer ID
+     * @param acceptEncoding the request's Accept-Encoding header, if any
+     * @return HTTP 200 with the {@link ApiResponse} JSON of the customer
+     */
     @GetMapping("/{customerId}")
     @Operation(
         summary = "Get customer by ID",
         description = "Retrieves detailed information about a customer by their unique ID"
     )
     @ApiResponses(value = {
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Customer found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Customer found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = CustomerApiResponse.class))),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Customer not found")
     })
-    public ResponseEntity<ApiResponse<CustomerResponse>> getCustomer(
+    public ResponseEntity<byte[]> getCustomer(
             @Parameter(description = "Customer unique identifier")
-            @PathVariable String customerId) {
+            @PathVariable String customerId,
+            
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
         logger.debug("Received request to get customer with ID: {}", customerId);
         
         CustomerResponse response = customerService.getCustomerById(customerId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(customerJsonCache.gzip(response));
+        }
+        return ok.body(customerJsonCache.json(response));
     }
     
     @GetMapping
     @Operation(
         summary = "Get paginated list of customers",
-        description = "Retrieves a paginated list of customers with optional status filtering"
+        description = "Retrieves a paginated list of customers with optional status filtering. "
+            + "When a cursor is supplied, keyset pagination is used and the page parameter is ignored."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Customers retrieved successfully")
@@ -121,11 +158,32 @@ public class CustomerController {
             @RequestParam(defaultValue = "10") int size,
             
             @Parameter(description = "Filter by customer status")
-            @RequestParam(required = false) CustomerStatus status) {
+            @RequestParam(required = false) CustomerStatus status,
+            
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor (empty to start keyset pagination)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Whether to run a count query and return totalElements/totalPages")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            
+            @Parameter(description = "Whether to return per-status customer counts (one indexed $group aggregation, offset pagination only)")
+            @RequestParam(defaultValue = "false") boolean includeStatusCounts) {
+        
+        logger.debug("Received request to get customers - page: {}, size: {}, status: {}, cursor: {}",
+            page, size, status, cursor);
         
-        logger.debug("Received request to get customers - page: {}, size: {}, status: {}", page, size, status);
+        if (includeStatusCounts && cursor != null) {
+            throw new IllegalArgumentException("includeStatusCounts cannot be combined with cursor pagination");
+        }
         
-        CustomerListResponse response = customerService.getCustomers(page, size, status);
+        CustomerListResponse response;
+        if (includeStatusCounts) {
+            response = customerService.getCustomersWithStatusCounts(page, size, status);
+        } else if (cursor != null) {
+            response = customerService.getCustomersAfter(cursor, size, status, includeTotal);
+        } else {
+            response = customerService.getCustomers(page, size, status, includeTotal);
+        }
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
@@ -174,7 +232,9 @@ public class CustomerController {
     @GetMapping("/search")
     @Operation(
         summary = "Search customers by name",
-        description = "Search customers by first name or last name with pagination"
+        description = "Search customers by first name or last name with pagination. "
+            + "When a cursor is supplied, keyset pagination is used and the page parameter is ignored. "
+            + "With mode=phonetic, names that sound alike match (offset pagination only)."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully")
@@ -187,11 +247,91 @@ public class CustomerController {
             @RequestParam(defaultValue = "0") int page,
             
             @Parameter(description = "Number of customers per page (max 1000)")
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor (empty to start keyset pagination)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Whether to run a count query and return totalElements/totalPages")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            
+            @Parameter(description = "Matching mode: substring (default) or phonetic")
+            @RequestParam(defaultValue = "substring") String mode) {
         
-        logger.debug("Received request to search customers with name: {}", name);
+        logger.debug("Received request to search customers with name: {}, mode: {}", name, mode);
         
-        CustomerListResponse response = customerService.searchCustomers(name, page, size);
+        if (SearchMode.fromParameter(mode) == SearchMode.PHONETIC) {
+            if (cursor != null) {
+                throw new IllegalArgumentException("Phonetic search does not support cursor pagination");
+            }
+            return ResponseEntity.ok(ApiResponse.success(
+                customerService.searchCustomersPhonetic(name, page, size, includeTotal)));
+        }
+        
+        CustomerListResponse response = cursor != null
+            ? customerService.searchCustomersAfter(name, cursor, size, includeTotal)
+            : customerService.searchCustomers(name, page, size, includeTotal);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+    
+    @GetMapping("/suggest")
+    @Operation(
+        summary = "Suggest customers by prefix",
+        description = "Autocomplete lookup matching the start of first name, last name or email, "
+            + "ignoring case and accents. Returns lightweight summaries without pagination."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions returned successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Blank prefix")
+    })
+    public ResponseEntity<ApiResponse<List<CustomerSummary>>> suggestCustomers(
+            @Parameter(description = "Prefix of a first name, last name or email")
+            @RequestParam String q,
+            
+            @Parameter(description = "Maximum number of suggestions (max 25)")
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        logger.debug("Received request to suggest customers for prefix: {}", q);
+        
+        List<CustomerSummary> suggestions = customerService.suggestCustomers(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+    
+    /**
+     * OpenAPI schema of the {@code ApiResponse<CustomerResponse>} body that {@link #getCustomer}
+     * writes as bytes. Only used for the API docs; its components mirror {@link ApiResponse}.
+     *
+     * @param status operation status
+     * @param message descriptive message about the operation result
+     * @param data the customer
+     * @param timestamp when the response was generated
+     */
+    @Schema(name = "ApiResponseCustomerResponse")
+    public record CustomerApiResponse(
+        String status,
+        String message,
+        CustomerResponse data,
+        @Schema(type = "string", example = "2024-01-01T10:00:00Z") Instant timestamp
+    ) {}
+    
+    /**
+     * Tells whether an Accept-Encoding header allows gzip, by name or else through {@code *},
+     * with a non-zero quality.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length == 1 || !parts[1].trim().matches("(?i)q=0(\\.0{0,3})?");
+            if (name.equalsIgnoreCase("gzip")) {
+                return accepted;
+            }
+            wildcard |= name.equals("*") && accepted;
+        }
+        return wildcard;
+    }
 }
@@ -0,0 +1,158 @@
+package com.example.customerservice.controller;
+
+import com.example.customerservice.dto.ApiResponse;
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerListResponse.CustomerSummary;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.SearchMode;
+import com.example.customerservice.dto.UpdateCustomerRequest;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.service.ReactiveCustomerService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux counterpart of {@link CustomerController}, active with the {@code reactive} profile.
+ *
+ * <p>Exposes the same endpoints, parameters, status codes and {@link ApiResponse} bodies as
+ * {@link CustomerController}, backed by {@link ReactiveCustomerService}. Errors are mapped by the
+ * shared {@code GlobalExceptionHandler}. The bulk, import and export endpoints of
+ * {@link CustomerBulkController} are only served by the servlet stack.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/customers")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Customer Management", description = "APIs for managing customer information")
+public class ReactiveCustomerController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCustomerController.class);
+
+    private final ReactiveCustomerService customerService;
+
+    /**
+     * Constructs a new ReactiveCustomerController with the required service dependency.
+     *
+     * @param customerService the service for customer business operations
+     */
+    public ReactiveCustomerController(ReactiveCustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<CustomerResponse>>> createCustomer(
+            @Valid @RequestBody CreateCustomerRequest request) {
+
+        logger.info("Received request to create customer with email: {}", request.email());
+
+        return customerService.createCustomer(request)
+            .map(response -> ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Customer created successfully", response)));
+    }
+
+    @GetMapping("/{customerId}")
+    public Mono<ResponseEntity<ApiResponse<CustomerResponse>>> getCustomer(@PathVariable String customerId) {
+
+        logger.debug("Received request to get customer with ID: {}", customerId);
+
+        return customerService.getCustomerById(customerId)
+            .map(response -> ResponseEntity.ok(ApiResponse.success(response)));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<CustomerListResponse>>> getCustomers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) CustomerStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "false") boolean includeStatusCounts) {
+
+        logger.debug("Received request to get customers - page: {}, size: {}, status: {}, cursor: {}",
+            page, size, status, cursor);
+
+        if (includeStatusCounts && cursor != null) {
+            throw new IllegalArgumentException("includeStatusCounts cannot be combined with cursor pagination");
+        }
+
+        Mono<CustomerListResponse> response;
+        if (includeStatusCounts) {
+            response = customerService.getCustomersWithStatusCounts(page, size, status);
+        } else if (cursor != null) {
+            response = customerService.getCustomersAfter(cursor, size, status, includeTotal);
+        } else {
+            response = customerService.getCustomers(page, size, status, includeTotal);
+        }
+        return response.map(list -> ResponseEntity.ok(ApiResponse.success(list)));
+    }
+
+    @PutMapping("/{customerId}")
+    public Mono<ResponseEntity<ApiResponse<CustomerResponse>>> updateCustomer(
+            @PathVariable String customerId,
+            @Valid @RequestBody UpdateCustomerRequest request) {
+
+        logger.info("Received request to update customer with ID: {}", customerId);
+
+        return customerService.updateCustomer(customerId, request)
+            .map(response -> ResponseEntity.ok(ApiResponse.success("Customer updated successfully", response)));
+    }
+
+    @DeleteMapping("/{customerId}")
+    public Mono<ResponseEntity<ApiResponse<String>>> deleteCustomer(@PathVariable String customerId) {
+
+        logger.info("Received request to delete customer with ID: {}", customerId);
+
+        return customerService.deleteCustomer(customerId)
+            .thenReturn(ResponseEntity.ok(ApiResponse.success("Customer deleted successfully", customerId)));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ApiResponse<CustomerListResponse>>> searchCustomers(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "substring") String mode) {
+
+        logger.debug("Received request to search customers with name: {}, mode: {}", name, mode);
+
+        Mono<CustomerListResponse> response;
+        if (SearchMode.fromParameter(mode) == SearchMode.PHONETIC) {
+            if (cursor != null) {
+                throw new IllegalArgumentException("Phonetic search does not support cursor pagination");
+            }
+            response = customerService.searchCustomersPhonetic(name, page, size, includeTotal);
+        } else if (cursor != null) {
+            response = customerService.searchCustomersAfter(name, cursor, size, includeTotal);
+        } else {
+            response = customerService.searchCustomers(name, page, size, includeTotal);
+        }
+        return response.map(list -> ResponseEntity.ok(ApiResponse.success(list)));
+    }
+
+    @GetMapping("/suggest")
+    public Mono<ResponseEntity<ApiResponse<List<CustomerSummary>>>> suggestCustomers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("Received request to suggest customers for prefix: {}", q);
+
+        return customerService.suggestCustomers(q, limit)
+            .map(suggestions -> ResponseEntity.ok(ApiResponse.success(suggestions)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.customerservice.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for fetching many customers in one call.
+ * 
+ * <p>Customers can be looked up by any combination of IDs, emails and phone numbers. Emails and
+ * phone numbers must match the stored values exactly. The total number of keys is limited by
+ * {@code customer-service.bulk.max-items}.</p>
+ * 
+ * @param customerIds customer IDs to look up (optional)
+ * @param emails email addresses to look up (optional)
+ * @param phones phone numbers to look up (optional)
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BatchGetRequest(
+    List<String> customerIds,
+    List<String> emails,
+    List<String> phones
+) {}
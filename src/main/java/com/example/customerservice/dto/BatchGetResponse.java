@@ -0,0 +1,50 @@
+package com.example.customerservice.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object returned by a multi-get, with one result per requested key.
+ * 
+ * <p>Each list follows the order of the corresponding request list, including repeated keys, and
+ * is empty when no keys of that type were requested.</p>
+ * 
+ * @param customerIds results for the requested customer IDs
+ * @param emails results for the requested emails
+ * @param phones results for the requested phone numbers
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BatchGetResponse(
+    List<Result> customerIds,
+    List<Result> emails,
+    List<Result> phones
+) {
+    
+    /**
+     * Result of looking up one key.
+     * 
+     * @param key the requested ID, email or phone number
+     * @param found whether any customer matched the key
+     * @param customers the matching customers; at most one for IDs and emails, possibly several for
+     *                  phone numbers, which are not unique
+     */
+    public record Result(
+        String key,
+        boolean found,
+        List<CustomerResponse> customers
+    ) {
+        
+        /**
+         * Creates the result for a key from its matching customers.
+         * 
+         * @param key the requested key
+         * @param customers the matching customers (empty if none)
+         * @return the result, marked not found when there are no customers
+         */
+        public static Result of(String key, List<CustomerResponse> customers) {
+            return new Result(key, !customers.isEmpty(), customers);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.customerservice.dto;
+
+import com.example.customerservice.repository.CustomerFilter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a bulk delete request.
+ * 
+ * <p>Selects the customers to delete either by ID or by filter; exactly one of the two must be
+ * supplied, and a filter must have at least one criterion.</p>
+ * 
+ * @param customerIds IDs of the customers to delete (up to {@code customer-service.bulk.max-items})
+ * @param filter the cohort of customers to delete
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BulkDeleteRequest(
+    List<String> customerIds,
+    CustomerFilter filter
+) {}
@@ -0,0 +1,12 @@
+package com.example.customerservice.dto;
+
+/**
+ * Data Transfer Object reporting the result of a bulk delete.
+ * 
+ * @param deletedCount number of customers deleted; requested IDs without a customer are not counted
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BulkDeleteResponse(long deletedCount) {}
@@ -0,0 +1,71 @@
+package com.example.customerservice.dto;
+
+/**
+ * Data Transfer Object describing the outcome of one item of a bulk operation.
+ * 
+ * @param index position of the item in the request (0-based)
+ * @param customerId ID of the affected customer (null if the item was rejected before an ID was known)
+ * @param outcome what happened to the item
+ * @param error reason the item failed (null unless the outcome is {@link Outcome#FAILED})
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BulkItemResult(
+    int index,
+    String customerId,
+    Outcome outcome,
+    String error
+) {
+    
+    /**
+     * Possible outcomes of a bulk item.
+     */
+    public enum Outcome {
+        
+        /**
+         * The customer was created.
+         */
+        CREATED,
+        
+        /**
+         * The customer was updated.
+         */
+        UPDATED,
+        
+        /**
+         * The item requested no change; nothing was written.
+         */
+        UNCHANGED,
+        
+        /**
+         * The item was rejected; see {@link BulkItemResult#error()}.
+         */
+        FAILED
+    }
+    
+    /**
+     * Creates a result for an item that was applied.
+     * 
+     * @param index position of the item in the request
+     * @param customerId ID of the affected customer
+     * @param outcome the outcome of the item
+     * @return the item result
+     */
+    public static BulkItemResult succeeded(int index, String customerId, Outcome outcome) {
+        return new BulkItemResult(index, customerId, outcome, null);
+    }
+    
+    /**
+     * Creates a result for an item that was rejected.
+     * 
+     * @param index position of the item in the request
+     * @param customerId ID of the customer the item referred to, if known
+     * @param error reason the item failed
+     * @return the item result
+     */
+    public static BulkItemResult failed(int index, String customerId, String error) {
+        return new BulkItemResult(index, customerId, Outcome.FAILED, error);
+    }
+}
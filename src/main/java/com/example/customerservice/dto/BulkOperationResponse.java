@@ -0,0 +1,39 @@
+package com.example.customerservice.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object summarizing a bulk operation with per-item results.
+ * 
+ * <p>Items are processed independently: a failed item does not prevent the others from being
+ * applied. Results are listed in request order.</p>
+ * 
+ * @param requested number of items in the request
+ * @param succeeded number of items that did not fail
+ * @param failed number of items that failed
+ * @param items per-item results in request order
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BulkOperationResponse(
+    int requested,
+    int succeeded,
+    int failed,
+    List<BulkItemResult> items
+) {
+    
+    /**
+     * Builds a response from per-item results, deriving the counts.
+     * 
+     * @param items per-item results in request order
+     * @return the bulk operation response
+     */
+    public static BulkOperationResponse of(List<BulkItemResult> items) {
+        int failed = (int) items.stream()
+            .filter(item -> item.outcome() == BulkItemResult.Outcome.FAILED)
+            .count();
+        return new BulkOperationResponse(items.size(), items.size() - failed, failed, items);
+    }
+}
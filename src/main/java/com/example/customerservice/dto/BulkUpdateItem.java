@@ -0,0 +1,27 @@
+package com.example.customerservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object for one item of a bulk update request.
+ * 
+ * <p>Pairs the ID of an existing customer with the partial update to apply to it. The update has
+ * the same semantics as {@code PUT /api/v1/customers/{customerId}}: null fields are left unchanged.</p>
+ * 
+ * @param customerId ID of the customer to update (required)
+ * @param update the changes to apply (required)
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BulkUpdateItem(
+    @NotBlank(message = "Customer ID is required")
+    String customerId,
+    
+    @NotNull(message = "Update is required")
+    @Valid
+    UpdateCustomerRequest update
+) {}
@@ -1,6 +1,9 @@
 package com.example.customerservice.dto;
 
+import com.example.customerservice.model.CustomerStatus;
+
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Transfer Object for paginated customer list responses.
@@ -13,17 +16,21 @@ import java.util.List;
  * <ul>
  *   <li>Customer list with summary information for each customer</li>
  *   <li>Current page information and size configuration</li>
- *   <li>Total count metrics for complete dataset understanding</li>
+ *   <li>Total count metrics for complete dataset understanding (omitted in count-free mode)</li>
  *   <li>Navigation flags for previous/next page availability</li>
+ *   <li>An opaque cursor for fetching the next page with keyset pagination</li>
+ *   <li>Optional per-status customer counts for dashboard tabs</li>
  * </ul>
  * 
  * @param customers list of customer summary objects for the current page
  * @param page current page number (0-based indexing)
  * @param size number of customers per page
- * @param totalElements total number of customers across all pages
- * @param totalPages total number of pages available
+ * @param totalElements total number of customers across all pages (null when totals were not requested)
+ * @param totalPages total number of pages available (null when totals were not requested)
  * @param hasNext indicates if there are more pages after the current one
  * @param hasPrevious indicates if there are pages before the current one
+ * @param nextCursor opaque cursor for the next page (null when there is no next page)
+ * @param statusCounts number of customers per status (null unless status counts were requested)
  * 
  * @author Customer Service Team
  * @version 1.0.0
@@ -33,12 +40,47 @@ public record CustomerListResponse(
     List<CustomerSummary> customers,
     int page,
     int size,
-    long totalElements,
-    int totalPages,
+    Long totalElements,
+    Integer totalPages,
     boolean hasNext,
-    boolean hasPrevious
+    boolean hasPrevious,
+    String nextCursor,
+    Map<CustomerStatus, Long> statusCounts
 ) {
     
+    /**
+     * Creates a list response without per-status counts.
+     * 
+     * @param customers list of customer summary objects for the current page
+     * @param page current page number (0-based indexing)
+     * @param size number of customers per page
+     * @param totalElements total number of customers across all pages (null when totals were not requested)
+     * @param totalPages total number of pages available (null when totals were not requested)
+     * @param hasNext indicates if there are more pages after the current one
+     * @param hasPrevious indicates if there are pages before the current one
+     * @param nextCursor opaque cursor for the next page (null when there is no next page)
+     */
+    public CustomerListResponse(List<CustomerSummary> customers, int page, int size, Long totalElements,
+                                Integer totalPages, boolean hasNext, boolean hasPrevious, String nextCursor) {
+        this(customers, page, size, totalElements, totalPages, hasNext, hasPrevious, nextCursor, null);
+    }
+    
+    /**
+     * Creates a list response without a next-page cursor.
+     * 
+     * @param customers list of customer summary objects for the current page
+     * @param page current page number (0-based indexing)
+     * @param size number of customers per page
+     * @param totalElements total number of customers across all pages
+     * @param totalPages total number of pages available
+     * @param hasNext indicates if there are more pages after the current one
+     * @param hasPrevious indicates if there are pages before the current one
+     */
+    public CustomerListResponse(List<CustomerSummary> customers, int page, int size,
+                                long totalElements, int totalPages, boolean hasNext, boolean hasPrevious) {
+        this(customers, page, size, totalElements, totalPages, hasNext, hasPrevious, null, null);
+    }
+    
     /**
      * Simplified customer information for list displays.
      * 
@@ -61,6 +103,6 @@ public record CustomerListResponse(
         String firstName,
         String lastName,
         String email,
-        com.example.customerservice.model.CustomerStatus customerStatus
+        CustomerStatus customerStatus
     ) {}
 }
@@ -0,0 +1,91 @@
+package com.example.customerservice.dto;
+
+/**
+ * Data Transfer Object for one line of the streamed import report.
+ * 
+ * <p>An import reports a {@link Type#ROW_FAILED} event for every rejected row, a {@link Type#PROGRESS}
+ * event after every written batch and a final {@link Type#COMPLETED} event. Fields that do not apply
+ * to an event type are null and omitted from the JSON.</p>
+ * 
+ * @param type the kind of event
+ * @param line line number of the failed row in the upload (1-based, ROW_FAILED only)
+ * @param error reason the row failed (ROW_FAILED only)
+ * @param rowsRead number of rows read so far
+ * @param created number of customers created so far
+ * @param failed number of rows rejected so far
+ * @param batchSize size of the next insert batch, as adjusted to the write latency (PROGRESS only)
+ * @param writeMillis duration of the last batch write in milliseconds (PROGRESS only)
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ImportEvent(
+    Type type,
+    Long line,
+    String error,
+    Long rowsRead,
+    Long created,
+    Long failed,
+    Integer batchSize,
+    Long writeMillis
+) {
+    
+    /**
+     * Kinds of import report events.
+     */
+    public enum Type {
+        
+        /**
+         * A row was rejected.
+         */
+        ROW_FAILED,
+        
+        /**
+         * A batch was written.
+         */
+        PROGRESS,
+        
+        /**
+         * The whole upload was processed.
+         */
+        COMPLETED
+    }
+    
+    /**
+     * Creates the event for a rejected row.
+     * 
+     * @param line line number of the row in the upload
+     * @param error reason the row failed
+     * @return the event
+     */
+    public static ImportEvent rowFailed(long line, String error) {
+        return new ImportEvent(Type.ROW_FAILED, line, error, null, null, null, null, null);
+    }
+    
+    /**
+     * Creates the event reported after a batch was written.
+     * 
+     * @param rowsRead rows read so far
+     * @param created customers created so far
+     * @param failed rows rejected so far
+     * @param batchSize size of the next batch
+     * @param writeMillis duration of the batch write
+     * @return the event
+     */
+    public static ImportEvent progress(long rowsRead, long created, long failed, int batchSize, long writeMillis) {
+        return new ImportEvent(Type.PROGRESS, null, null, rowsRead, created, failed, batchSize, writeMillis);
+    }
+    
+    /**
+     * Creates the final event of an import.
+     * 
+     * @param rowsRead rows read
+     * @param created customers created
+     * @param failed rows rejected
+     * @return the event
+     */
+    public static ImportEvent completed(long rowsRead, long created, long failed) {
+        return new ImportEvent(Type.COMPLETED, null, null, rowsRead, created, failed, null, null);
+    }
+}
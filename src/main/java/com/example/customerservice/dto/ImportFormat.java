@@ -0,0 +1,43 @@
+package com.example.customerservice.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Enumeration of the upload formats accepted by the customer import.
+ * 
+ * <ul>
+ *   <li><strong>NDJSON</strong>: One {@code CreateCustomerRequest} JSON document per line</li>
+ *   <li><strong>CSV</strong>: A header row naming {@code CreateCustomerRequest} fields, then one customer per row</li>
+ * </ul>
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ImportFormat {
+    
+    /**
+     * Newline-delimited JSON ({@code application/x-ndjson}).
+     */
+    NDJSON,
+    
+    /**
+     * Comma-separated values with a header row ({@code text/csv}).
+     */
+    CSV;
+    
+    /**
+     * Media type of CSV uploads.
+     */
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    
+    /**
+     * Determines the format of an upload from its content type.
+     * 
+     * @param contentType the request content type
+     * @return {@link #CSV} for {@code text/csv}, {@link #NDJSON} otherwise
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        return contentType != null && TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType)) ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.customerservice.dto;
+
+import java.util.Locale;
+
+/**
+ * Enumeration of the name matching modes supported by customer search.
+ * 
+ * <ul>
+ *   <li><strong>SUBSTRING</strong>: Case-insensitive substring match on first or last name</li>
+ *   <li><strong>PHONETIC</strong>: Typo-tolerant match on names that sound alike</li>
+ * </ul>
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum SearchMode {
+    
+    /**
+     * Case-insensitive substring match on first or last name.
+     * This is the default mode.
+     */
+    SUBSTRING,
+    
+    /**
+     * Every word of the search term must sound like a word of the customer's name.
+     * Tolerates misspellings such as "Jon Smyth" for "John Smith".
+     */
+    PHONETIC;
+    
+    /**
+     * Parses a request parameter value, ignoring case.
+     * 
+     * @param value the parameter value (for example {@code phonetic})
+     * @return the matching mode
+     * @throws IllegalArgumentException if the value names no mode
+     */
+    public static SearchMode fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown search mode: " + value, ex);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.customerservice.dto;
+
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerFilter;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object for a filter-based status transition.
+ * 
+ * <p>Moves every customer selected by {@code filter} to {@code targetStatus}. With {@code dryRun}
+ * set, nothing is written and the response reports what the transition would change.</p>
+ * 
+ * @param filter the customers to transition (required, must have at least one criterion)
+ * @param targetStatus the status to set (required)
+ * @param dryRun whether to only count the affected customers
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record StatusTransitionRequest(
+    @NotNull(message = "Filter is required")
+    CustomerFilter filter,
+    
+    @NotNull(message = "Target status is required")
+    CustomerStatus targetStatus,
+    
+    boolean dryRun
+) {}
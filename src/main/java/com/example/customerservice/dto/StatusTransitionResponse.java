@@ -0,0 +1,22 @@
+package com.example.customerservice.dto;
+
+import com.example.customerservice.model.CustomerStatus;
+
+/**
+ * Data Transfer Object reporting the result of a filter-based status transition.
+ * 
+ * @param targetStatus the status the customers were moved to
+ * @param dryRun whether the transition was only counted
+ * @param matchedCount number of customers selected by the filter, including those already in the target status
+ * @param modifiedCount number of customers whose status changed (or would change, for a dry run)
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record StatusTransitionResponse(
+    CustomerStatus targetStatus,
+    boolean dryRun,
+    long matchedCount,
+    long modifiedCount
+) {}
@@ -1,5 +1,10 @@
 package com.example.customerservice.exception;
 
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Exception thrown when attempting to create or update a customer with an email
  * address that already exists in the system.
@@ -21,6 +26,8 @@ package com.example.customerservice.exception;
  */
 public class DuplicateEmailException extends RuntimeException {
     
+    private static final Pattern DUPLICATE_EMAIL_KEY = Pattern.compile("dup key: \\{ ?email: \"((?:[^\"\\\\]|\\\\.)*)\"");
+    
     /**
      * Constructs a new DuplicateEmailException with a message indicating
      * which email address is already in use.
@@ -30,4 +37,28 @@ public class DuplicateEmailException extends RuntimeException {
     public DuplicateEmailException(String email) {
         super("Customer with email '" + email + "' already exists");
     }
+    
+    /**
+     * Constructs a new DuplicateEmailException caused by a unique index violation.
+     * 
+     * @param email the email address that already exists in the system (null if unknown)
+     * @param cause the duplicate key error reported by MongoDB
+     */
+    public DuplicateEmailException(String email, Throwable cause) {
+        super(email != null
+            ? "Customer with email '" + email + "' already exists"
+            : "Customer with this email already exists", cause);
+    }
+    
+    /**
+     * Translates a duplicate key error on the unique email index, recovering the email address
+     * from the MongoDB error message when it is present.
+     * 
+     * @param ex the duplicate key error
+     * @return the equivalent DuplicateEmailException
+     */
+    public static DuplicateEmailException from(DuplicateKeyException ex) {
+        Matcher matcher = DUPLICATE_EMAIL_KEY.matcher(String.valueOf(ex.getMessage()));
+        return new DuplicateEmailException(matcher.find() ? matcher.group(1) : null, ex);
+    }
 }
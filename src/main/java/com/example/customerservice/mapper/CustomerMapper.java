@@ -9,6 +9,8 @@ import com.example.customerservice.model.CustomerStatus;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Mapper component for converting between Customer entities and DTOs.
@@ -16,7 +18,7 @@ import java.time.Instant;
  * <p>This mapper provides bidirectional conversion between:</p>
  * <ul>
  *   <li>{@link CreateCustomerRequest} DTOs and {@link Customer} entities</li>
- *   <li>{@link UpdateCustomerRequest} DTOs and {@link Customer} entities</li>
+ *   <li>{@link UpdateCustomerRequest} DTOs and {@link Customer} entities, including the set of changed fields</li>
  *   <li>{@link Customer} entities and {@link CustomerResponse} DTOs</li>
  *   <li>{@link Customer} entities and {@link CustomerSummary} DTOs</li>
  * </ul>
@@ -97,6 +99,16 @@ public class CustomerMapper {
         );
     }
     
+    public CustomerSummary toSummary(CustomerResponse response) {
+        return new CustomerSummary(
+            response.customerId(),
+            response.firstName(),
+            response.lastName(),
+            response.email(),
+            response.customerStatus()
+        );
+    }
+    
     public void updateEntityFromRequest(UpdateCustomerRequest request, Customer customer) {
         if (request.firstName() != null) {
             customer.setFirstName(request.firstName());
@@ -123,4 +135,32 @@ public class CustomerMapper {
         // Update the timestamp
         customer.setUpdatedAt(Instant.now());
     }
+    
+    /**
+     * Computes the fields an update request would change on the given customer.
+     * 
+     * <p>Fields absent from the request (null) or equal to the stored value are omitted, so an
+     * empty result means the request is a no-op.</p>
+     * 
+     * @param request the update request
+     * @param customer the customer as currently stored
+     * @return entity property names mapped to their new values, in declaration order
+     */
+    public Map<String, Object> changedFields(UpdateCustomerRequest request, Customer customer) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "firstName", request.firstName(), customer.getFirstName());
+        putIfChanged(changes, "lastName", request.lastName(), customer.getLastName());
+        putIfChanged(changes, "email", request.email(), customer.getEmail());
+        putIfChanged(changes, "phone", request.phone(), customer.getPhone());
+        putIfChanged(changes, "address", request.address(), customer.getAddress());
+        putIfChanged(changes, "dateOfBirth", request.dateOfBirth(), customer.getDateOfBirth());
+        putIfChanged(changes, "customerStatus", request.customerStatus(), customer.getCustomerStatus());
+        return changes;
+    }
+    
+    private static void putIfChanged(Map<String, Object> changes, String field, Object requested, Object stored) {
+        if (requested != null && !requested.equals(stored)) {
+            changes.put(field, requested);
+        }
+    }
 }
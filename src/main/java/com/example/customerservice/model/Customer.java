@@ -12,6 +12,7 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -27,6 +28,8 @@ import java.util.Objects;
  *   <li>Phone number validation in international format</li>
  *   <li>Automatic audit fields (createdAt, updatedAt) via MongoDB auditing</li>
  *   <li>Customer status management (ACTIVE, INACTIVE, SUSPENDED)</li>
+ *   <li>Derived search fields (name trigrams, phonetic keys, normalized name and email keys) kept
+ *       in sync with the source fields for indexed substring, phonetic and prefix search</li>
  * </ul>
  * 
  * @author Customer Service Team
@@ -114,6 +117,39 @@ public class Customer {
     @LastModifiedDate
     private Instant updatedAt;
     
+    /**
+     * Lower-cased trigrams of the first and last name.
+     * Derived field recomputed whenever either name changes; stored as a multikey index
+     * so substring name searches can narrow candidates without an unanchored regex scan.
+     * Null for documents written before the field existed until they are backfilled.
+     */
+    @Indexed
+    private List<String> nameTrigrams;
+    
+    /**
+     * Double Metaphone keys of every word of the first and last name, for phonetic search.
+     */
+    @Indexed
+    private List<String> namePhonetics;
+    
+    /**
+     * Lower-cased, accent-folded first name for indexed prefix (autocomplete) lookups.
+     */
+    @Indexed
+    private String firstNameKey;
+    
+    /**
+     * Lower-cased, accent-folded last name for indexed prefix (autocomplete) lookups.
+     */
+    @Indexed
+    private String lastNameKey;
+    
+    /**
+     * Lower-cased, accent-folded email for indexed prefix (autocomplete) lookups.
+     */
+    @Indexed
+    private String emailKey;
+    
     /**
      * Default constructor for JPA/MongoDB.
      */
@@ -133,6 +169,7 @@ public class Customer {
         this.email = email;
         this.phone = phone;
         this.customerStatus = CustomerStatus.ACTIVE;
+        refreshSearchFields();
     }
     
     // Getters and Setters
@@ -150,6 +187,7 @@ public class Customer {
     
     public void setFirstName(String firstName) {
         this.firstName = firstName;
+        refreshSearchFields();
     }
     
     public String getLastName() {
@@ -158,6 +196,7 @@ public class Customer {
     
     public void setLastName(String lastName) {
         this.lastName = lastName;
+        refreshSearchFields();
     }
     
     public String getEmail() {
@@ -166,6 +205,7 @@ public class Customer {
     
     public void setEmail(String email) {
         this.email = email;
+        refreshSearchFields();
     }
     
     public String getPhone() {
@@ -216,6 +256,41 @@ public class Customer {
         this.updatedAt = updatedAt;
     }
     
+    public List<String> getNameTrigrams() {
+        return nameTrigrams;
+    }
+    
+    public List<String> getNamePhonetics() {
+        return namePhonetics;
+    }
+    
+    public String getFirstNameKey() {
+        return firstNameKey;
+    }
+    
+    public String getLastNameKey() {
+        return lastNameKey;
+    }
+    
+    public String getEmailKey() {
+        return emailKey;
+    }
+    
+    /**
+     * Recomputes the derived search fields from the current name and email.
+     * 
+     * <p>Called by the name and email setters. Entities loaded from MongoDB are populated through
+     * field access, so documents written before a derived field existed need an explicit call
+     * before their search fields are persisted.</p>
+     */
+    public void refreshSearchFields() {
+        this.nameTrigrams = NameTrigrams.of(firstName, lastName);
+        this.namePhonetics = NamePhonetics.of(firstName, lastName);
+        this.firstNameKey = SearchKeys.normalize(firstName);
+        this.lastNameKey = SearchKeys.normalize(lastName);
+        this.emailKey = SearchKeys.normalize(email);
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
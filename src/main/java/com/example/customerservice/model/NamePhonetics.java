@@ -0,0 +1,75 @@
+package com.example.customerservice.model;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Builds Double Metaphone keys for typo-tolerant name search.
+ *
+ * <p>Names that sound alike share a key ("Jon" and "John" both encode to {@code JN}, "Smyth"
+ * and "Smith" to {@code SM0}), so a misspelled name can be found with an indexed equality match.
+ * Every word is encoded separately, with both its primary and alternate encoding, after
+ * accent folding.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NamePhonetics {
+
+    private static final DoubleMetaphone ENCODER = new DoubleMetaphone();
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}]+");
+
+    private NamePhonetics() {}
+
+    /**
+     * Returns the distinct phonetic keys of every word of the given values, sorted.
+     *
+     * @param values the names to encode; null values are ignored
+     * @return sorted distinct keys (empty if no value contains a letter)
+     */
+    public static List<String> of(String... values) {
+        TreeSet<String> keys = new TreeSet<>();
+        for (String value : values) {
+            for (List<String> wordKeys : perWord(value)) {
+                keys.addAll(wordKeys);
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Returns the phonetic keys of each word of a search term.
+     *
+     * <p>A customer matches the term when, for every word, it carries at least one of that word's keys.</p>
+     *
+     * @param term the search term
+     * @return one sorted list of keys per word that yields a key
+     */
+    public static List<List<String>> perWord(String term) {
+        List<List<String>> words = new ArrayList<>();
+        if (term == null) {
+            return words;
+        }
+        for (String word : WORD_SEPARATOR.split(SearchKeys.normalize(term))) {
+            TreeSet<String> wordKeys = new TreeSet<>();
+            addKey(wordKeys, ENCODER.doubleMetaphone(word));
+            addKey(wordKeys, ENCODER.doubleMetaphone(word, true));
+            if (!wordKeys.isEmpty()) {
+                words.add(List.copyOf(wordKeys));
+            }
+        }
+        return words;
+    }
+
+    private static void addKey(TreeSet<String> keys, String key) {
+        if (key != null && !key.isEmpty()) {
+            keys.add(key);
+        }
+    }
+}
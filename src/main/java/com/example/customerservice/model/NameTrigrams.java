@@ -0,0 +1,66 @@
+package com.example.customerservice.model;
+
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Builds normalized trigram tokens for case-insensitive substring name search.
+ *
+ * <p>Every substring of length three or more of a name contains all trigrams of that substring,
+ * so a customer whose name contains a search term necessarily carries every trigram of the term.
+ * Matching trigrams therefore yields a candidate superset that an exact check narrows down.</p>
+ *
+ * <p>Normalization lower-cases code point by code point, which keeps string lengths stable and
+ * mirrors the case-insensitive regex used for verification.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NameTrigrams {
+
+    /**
+     * Number of code points per token.
+     */
+    public static final int GRAM_LENGTH = 3;
+
+    private NameTrigrams() {}
+
+    /**
+     * Returns the distinct trigrams of all given values, sorted.
+     *
+     * <p>Trigrams never span two values, so first and last names are tokenized independently.</p>
+     *
+     * @param values the names to tokenize; null values are ignored
+     * @return sorted distinct trigrams (empty if no value has at least three code points)
+     */
+    public static List<String> of(String... values) {
+        TreeSet<String> trigrams = new TreeSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            int[] codePoints = normalize(value).codePoints().toArray();
+            for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+                trigrams.add(new String(codePoints, i, GRAM_LENGTH));
+            }
+        }
+        return List.copyOf(trigrams);
+    }
+
+    /**
+     * Returns whether a search term is long enough to be served by trigram lookups.
+     *
+     * @param term the search term
+     * @return true if the term has at least three code points
+     */
+    public static boolean isSearchable(String term) {
+        return term != null && term.codePointCount(0, term.length()) >= GRAM_LENGTH;
+    }
+
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        value.codePoints().map(Character::toLowerCase).forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+}
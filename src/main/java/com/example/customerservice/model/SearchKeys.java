@@ -0,0 +1,52 @@
+package com.example.customerservice.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes values into keys for prefix lookups.
+ *
+ * <p>Keys are lower-cased and accent-folded ("Zoë" becomes "zoe"), so that a plain,
+ * case-sensitive index range scan on the stored key behaves like a case- and
+ * accent-insensitive prefix match on the original value.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SearchKeys {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Largest code point; appended to a prefix it bounds the range of keys starting with that prefix.
+     */
+    private static final String MAX_CODE_POINT = new String(Character.toChars(Character.MAX_CODE_POINT));
+
+    private SearchKeys() {}
+
+    /**
+     * Normalizes a value into its search key.
+     *
+     * @param value the value to normalize
+     * @return the lower-cased, accent-folded key, or null if the value is null
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the exclusive upper bound of the key range that starts with the given normalized prefix.
+     *
+     * @param normalizedPrefix a prefix already passed through {@link #normalize(String)}
+     * @return the upper bound for a {@code $gte prefix, $lt bound} range query
+     */
+    public static String upperBound(String normalizedPrefix) {
+        return normalizedPrefix + MAX_CODE_POINT;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.customerservice.repository;
+
+import java.util.Set;
+
+/**
+ * Outcome of an unordered bulk of compare-and-set updates, by position of the update in the batch.
+ *
+ * <p>Updates that are in neither set were applied.</p>
+ *
+ * @param duplicates positions of the updates rejected by a unique index (a duplicate email)
+ * @param conflicts positions of the updates that matched no document because the customer was
+ *                  deleted or modified concurrently
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record BulkUpdateResult(Set<Integer> duplicates, Set<Integer> conflicts) {
+
+    /**
+     * Returns whether the update at the given position was applied.
+     *
+     * @param position position of the update in the batch
+     * @return true if the update was neither a duplicate nor a conflict
+     */
+    public boolean applied(int position) {
+        return !duplicates.contains(position) && !conflicts.contains(position);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position marker for keyset (cursor) pagination over customers.
+ *
+ * <p>Customer listings are ordered by {@code createdAt} descending with the customer ID
+ * as a tie-breaker. A cursor captures the sort key of the last customer returned so the
+ * next page can be fetched with a range predicate instead of skipping documents, which
+ * keeps the cost of deep pages equal to the cost of the first page.</p>
+ *
+ * <p>Cursors are exchanged with clients as opaque, URL-safe Base64 tokens.</p>
+ *
+ * @param createdAt creation timestamp of the last customer on the previous page
+ * @param customerId ID of the last customer on the previous page
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record CustomerCursor(Instant createdAt, String customerId) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Creates a cursor positioned after the given customer.
+     *
+     * @param customer the last customer on the current page
+     * @return a cursor for the following page, or null if the customer has no creation timestamp
+     */
+    public static CustomerCursor after(Customer customer) {
+        if (customer.getCreatedAt() == null || customer.getCustomerId() == null) {
+            return null;
+        }
+        return new CustomerCursor(customer.getCreatedAt(), customer.getCustomerId());
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return URL-safe Base64 token
+     */
+    public String encode() {
+        String raw = createdAt.toEpochMilli() + String.valueOf(SEPARATOR) + customerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the cursor token supplied by the client; null or blank means "start from the first page"
+     * @return the decoded cursor, or null when no token was supplied
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CustomerCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            Instant createdAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(0, separator)));
+            return new CustomerCursor(createdAt, raw.substring(separator + 1));
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException and Base64 decoding errors are both IllegalArgumentExceptions
+            throw new IllegalArgumentException("Invalid cursor: " + token, ex);
+        }
+    }
+}
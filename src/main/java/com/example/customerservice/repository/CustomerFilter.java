@@ -0,0 +1,40 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.CustomerStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Criteria selecting a cohort of customers for filter-based bulk operations.
+ *
+ * <p>All supplied criteria must hold (they are combined with AND); null or empty criteria are
+ * ignored. A filter without any criterion would select every customer, so bulk operations reject it
+ * (see {@link #isEmpty()}).</p>
+ *
+ * @param customerStatus current status of the customers (null for any status)
+ * @param createdBefore only customers created strictly before this instant (null for no bound)
+ * @param createdAfter only customers created at or after this instant (null for no bound)
+ * @param emailDomains only customers whose email is in one of these domains, ignoring case (null or empty for any)
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record CustomerFilter(
+    CustomerStatus customerStatus,
+    Instant createdBefore,
+    Instant createdAfter,
+    List<String> emailDomains
+) {
+
+    /**
+     * Returns whether this filter has no criterion and therefore matches every customer.
+     *
+     * @return true if no criterion is set
+     */
+    public boolean isEmpty() {
+        return customerStatus == null && createdBefore == null && createdAfter == null
+            && (emailDomains == null || emailDomains.isEmpty());
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,15 +25,16 @@ import java.util.Optional;
  *   <li>Searching customers by name with case-insensitive matching</li>
  * </ul>
  * 
- * <p>All query methods support pagination and are automatically implemented by
- * Spring Data MongoDB based on method naming conventions.</p>
+ * <p>Derived query methods support pagination and are automatically implemented by
+ * Spring Data MongoDB based on method naming conventions. Keyset pagination and other
+ * template-based queries are provided by {@link CustomerRepositoryCustom}.</p>
  * 
  * @author Customer Service Team
  * @version 1.0.0
  * @since 1.0.0
  */
 @Repository
-public interface CustomerRepository extends MongoRepository<Customer, String> {
+public interface CustomerRepository extends MongoRepository<Customer, String>, CustomerRepositoryCustom {
     
     /**
      * Finds a customer by their email address.
@@ -59,6 +62,38 @@ public interface CustomerRepository extends MongoRepository<Customer, String> {
      */
     boolean existsByEmailAndCustomerIdNot(String email, String customerId);
     
+    /**
+     * Finds the customers holding any of the given email addresses with a single {@code $in} query.
+     * 
+     * @param emails the email addresses to look up
+     * @return the customers holding one of the emails
+     */
+    List<Customer> findByEmailIn(Collection<String> emails);
+    
+    /**
+     * Finds the customers with any of the given phone numbers with a single {@code $in} query.
+     * 
+     * @param phones the phone numbers to look up
+     * @return the customers with one of the phone numbers
+     */
+    List<Customer> findByPhoneIn(Collection<String> phones);
+    
+    /**
+     * Deletes a customer by ID with a single delete statement.
+     * 
+     * @param customerId the ID of the customer to delete
+     * @return the number of customers deleted (0 if no customer has this ID)
+     */
+    long deleteByCustomerId(String customerId);
+    
+    /**
+     * Deletes the customers with the given IDs with a single delete statement.
+     * 
+     * @param customerIds the IDs of the customers to delete
+     * @return the number of customers deleted; IDs without a customer are ignored
+     */
+    long deleteByCustomerIdIn(Collection<String> customerIds);
+    
     /**
      * Finds customers by their status with pagination support.
      * 
@@ -68,6 +103,14 @@ public interface CustomerRepository extends MongoRepository<Customer, String> {
      */
     Page<Customer> findByCustomerStatus(CustomerStatus customerStatus, Pageable pageable);
     
+    /**
+     * Counts customers with the given status.
+     * 
+     * @param customerStatus the status to filter by
+     * @return the number of customers with the specified status
+     */
+    long countByCustomerStatus(CustomerStatus customerStatus);
+    
     /**
      * Searches customers by first name or last name with case-insensitive partial matching.
      * 
@@ -0,0 +1,259 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for customer queries that cannot be expressed as
+ * Spring Data derived query methods.
+ *
+ * <p>Implemented by {@link CustomerRepositoryImpl} on top of {@code MongoTemplate} and
+ * exposed through {@link CustomerRepository}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Finds customers positioned after the given cursor, ordered by createdAt descending
+     * and customer ID descending.
+     *
+     * @param customerStatus optional status filter (null for all customers)
+     * @param cursor position of the last customer already returned (null for the first page)
+     * @param limit maximum number of customers to return
+     * @return customers following the cursor
+     */
+    List<Customer> findByCustomerStatusAfter(CustomerStatus customerStatus, CustomerCursor cursor, int limit);
+
+    /**
+     * Searches customers by first or last name (case-insensitive substring match),
+     * positioned after the given cursor.
+     *
+     * @param name the name fragment to search for
+     * @param cursor position of the last customer already returned (null for the first page)
+     * @param limit maximum number of customers to return
+     * @return matching customers following the cursor
+     */
+    List<Customer> searchByNameAfter(String name, CustomerCursor cursor, int limit);
+
+    /**
+     * Searches customers by first or last name (case-insensitive substring match) using the
+     * {@code nameTrigrams} index to narrow candidates before the exact match.
+     *
+     * @param name the name fragment to search for
+     * @param pageable pagination information
+     * @return a page of matching customers
+     */
+    Page<Customer> searchByName(String name, Pageable pageable);
+
+    /**
+     * Searches customers whose name sounds like the given name: every word of it must share a
+     * Double Metaphone key with the customer's first or last name ("Jon Smyth" finds "John Smith").
+     *
+     * @param name the possibly misspelled name to search for
+     * @param pageable pagination information
+     * @return a page of matching customers
+     * @throws IllegalArgumentException if the name contains no letters
+     */
+    Page<Customer> searchByNamePhonetic(String name, Pageable pageable);
+
+    /**
+     * Phonetic variant of {@link #searchByNamePhonetic(String, Pageable)} without a count query.
+     *
+     * @param name the possibly misspelled name to search for
+     * @param pageable pagination information
+     * @return a slice of matching customers
+     * @throws IllegalArgumentException if the name contains no letters
+     */
+    Slice<Customer> searchSliceByNamePhonetic(String name, Pageable pageable);
+
+    /**
+     * Counts customers whose first or last name contains the given fragment (case-insensitive).
+     *
+     * @param name the name fragment to search for
+     * @return the number of matching customers
+     */
+    long countByName(String name);
+
+    /**
+     * Inserts customers with one unordered bulk write. Every customer is attempted even if others
+     * fail, and customers rejected by a unique index (a duplicate email) are reported instead of
+     * failing the whole batch.
+     *
+     * @param customers the customers to insert, with IDs assigned
+     * @return positions in {@code customers} of the customers rejected as duplicates
+     */
+    Set<Integer> insertUnordered(List<Customer> customers);
+
+    /**
+     * Writes only the given changed fields of a customer with one {@code findAndModify}.
+     *
+     * <p>The update is a compare-and-set against {@code stored}: it applies only while the changed
+     * fields (and, when a name or the email changes, all fields the derived search fields are
+     * computed from) still hold their stored values. Derived search fields are recomputed and
+     * written along with their sources, and {@code updatedAt} is set.</p>
+     *
+     * @param stored the customer as read before computing the changes
+     * @param changes entity property names mapped to their new values (must not be empty)
+     * @return the updated customer, or empty if the customer was deleted or modified concurrently
+     * @throws IllegalArgumentException if a field is not updatable
+     */
+    Optional<Customer> updateChangedFields(Customer stored, Map<String, Object> changes);
+
+    /**
+     * Applies many partial updates with one unordered bulk of {@code updateOne} operations.
+     *
+     * <p>Each update has the compare-and-set semantics of {@link #updateChangedFields(Customer, Map)}.
+     * Updates rejected by the unique email index or matching no document are reported by position
+     * instead of failing the batch; the others are applied.</p>
+     *
+     * @param stored the customers as read before computing the changes
+     * @param changes the changed fields of each customer, at the same positions as {@code stored}
+     * @return positions of the updates that were not applied
+     * @throws IllegalArgumentException if a field is not updatable
+     */
+    BulkUpdateResult updateChangedFieldsUnordered(List<Customer> stored, List<Map<String, Object>> changes);
+
+    /**
+     * Counts the customers selected by a filter.
+     *
+     * @param filter the cohort to count
+     * @return the number of matching customers
+     */
+    long countByFilter(CustomerFilter filter);
+
+    /**
+     * Counts the customers selected by a filter that are not already in the given status, i.e. the
+     * customers a transition to that status would modify.
+     *
+     * @param filter the cohort to count
+     * @param customerStatus the target status
+     * @return the number of matching customers in another status
+     */
+    long countStatusChanges(CustomerFilter filter, CustomerStatus customerStatus);
+
+    /**
+     * Finds the IDs of up to {@code limit} customers selected by a filter that are not already in the
+     * given status. Used to split a large transition into bounded chunks.
+     *
+     * @param filter the cohort to transition
+     * @param customerStatus the target status
+     * @param limit maximum number of IDs to return
+     * @return IDs of customers still to transition
+     */
+    List<String> findStatusChangeCandidates(CustomerFilter filter, CustomerStatus customerStatus, int limit);
+
+    /**
+     * Sets the status of the given customers with one {@code updateMany}. The filter is re-applied so
+     * customers that stopped matching it since they were selected are left unchanged.
+     *
+     * @param customerIds the customers to transition
+     * @param filter the cohort the customers were selected from
+     * @param customerStatus the status to set
+     * @return the number of customers modified
+     */
+    long updateStatus(Collection<String> customerIds, CustomerFilter filter, CustomerStatus customerStatus);
+
+    /**
+     * Finds the IDs of up to {@code limit} customers selected by a filter.
+     *
+     * @param filter the cohort to select from
+     * @param limit maximum number of IDs to return
+     * @return IDs of matching customers
+     */
+    List<String> findIdsByFilter(CustomerFilter filter, int limit);
+
+    /**
+     * Deletes the given customers with one {@code deleteMany}. The filter is re-applied so customers
+     * that stopped matching it since they were selected are kept.
+     *
+     * @param customerIds the customers to delete
+     * @param filter the cohort the customers were selected from
+     * @return the number of customers deleted
+     */
+    long deleteMatching(Collection<String> customerIds, CustomerFilter filter);
+
+    /**
+     * Streams the customers selected by a filter from a server-side cursor, in natural order.
+     *
+     * <p>Documents are fetched {@code batchSize} at a time as the stream is consumed, so memory use
+     * does not depend on the number of customers. An empty filter streams the whole collection. The
+     * cursor does not time out while idle, so the stream must be closed.</p>
+     *
+     * @param filter the customers to stream (may be empty)
+     * @param batchSize number of documents fetched per round trip
+     * @return a stream of customers that must be closed after use
+     */
+    Stream<Customer> streamByFilter(CustomerFilter filter, int batchSize);
+
+    /**
+     * Computes the derived search fields ({@code nameTrigrams}, {@code namePhonetics} and the
+     * normalized name and email keys) for up to {@code batchSize} customers that do not have them yet.
+     * A customer whose name or email changed since it was read is skipped, as that write already set
+     * its search fields.
+     *
+     * @param batchSize maximum number of customers to update
+     * @return number of customers updated (0 once every customer has been backfilled)
+     */
+    long backfillSearchFields(int batchSize);
+
+    /**
+     * Finds customers whose first name, last name or email starts with the given prefix, ignoring
+     * case and accents.
+     *
+     * <p>Each branch is an anchored range scan on a normalized key index, so the cost depends on
+     * the number of matches read rather than on the collection size. Only the fields needed for a
+     * customer summary are loaded. The result is unordered.</p>
+     *
+     * @param prefix the prefix typed by the user
+     * @param limit maximum number of customers to return
+     * @return matching customers with summary fields populated
+     */
+    List<Customer> suggestByPrefix(String prefix, int limit);
+
+    /**
+     * Finds a slice of customers by offset without issuing a count query. One extra row is
+     * fetched to determine whether a next slice exists.
+     *
+     * @param customerStatus optional status filter (null for all customers)
+     * @param pageable pagination information
+     * @return a slice of customers
+     */
+    Slice<Customer> findSliceByCustomerStatus(CustomerStatus customerStatus, Pageable pageable);
+
+    /**
+     * Searches customers by first or last name (case-insensitive substring match) without
+     * issuing a count query.
+     *
+     * @param name the name fragment to search for
+     * @param pageable pagination information
+     * @return a slice of matching customers
+     */
+    Slice<Customer> searchSliceByName(String name, Pageable pageable);
+
+    /**
+     * Fetches a page of customers and the per-status customer counts.
+     *
+     * <p>The page is an indexed find and the counts one {@code $group} aggregation over the
+     * {@code customerStatus} index, replacing one count query per status. The two are kept apart
+     * because stages inside a {@code $facet} cannot use indexes and would sort the whole
+     * collection in memory.</p>
+     *
+     * @param customerStatus optional status filter for the page (counts always cover every status)
+     * @param pageable pagination information
+     * @return the page of customers and the status counts
+     */
+    CustomerStatusCountPage findPageWithStatusCounts(CustomerStatus customerStatus, Pageable pageable);
+}
@@ -0,0 +1,591 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.model.NamePhonetics;
+import com.example.customerservice.model.NameTrigrams;
+import com.example.customerservice.model.SearchKeys;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@code MongoTemplate}-based implementation of {@link CustomerRepositoryCustom}.
+ *
+ * <p>Spring Data picks this class up by naming convention and merges it into the
+ * {@link CustomerRepository} proxy.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+
+    /**
+     * Listing order shared by offset and keyset pagination. The customer ID makes the order total
+     * so that customers created in the same millisecond are neither skipped nor repeated.
+     */
+    public static final Sort LISTING_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "customerId");
+
+    /**
+     * Fields a partial update may set, with accessors for their stored values.
+     */
+    private static final Map<String, Function<Customer, Object>> UPDATABLE_FIELDS = Map.of(
+        "firstName", Customer::getFirstName,
+        "lastName", Customer::getLastName,
+        "email", Customer::getEmail,
+        "phone", Customer::getPhone,
+        "address", Customer::getAddress,
+        "dateOfBirth", Customer::getDateOfBirth,
+        "customerStatus", Customer::getCustomerStatus
+    );
+
+    /**
+     * Fields the derived search fields are computed from.
+     */
+    private static final Set<String> SEARCH_SOURCE_FIELDS = Set.of("firstName", "lastName", "email");
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructs a new CustomerRepositoryImpl.
+     *
+     * @param mongoTemplate the template used to run queries
+     */
+    public CustomerRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Customer> findByCustomerStatusAfter(CustomerStatus customerStatus, CustomerCursor cursor, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (customerStatus != null) {
+            criteria.add(Criteria.where("customerStatus").is(customerStatus));
+        }
+        return findAfter(criteria, cursor, limit);
+    }
+
+    @Override
+    public List<Customer> searchByNameAfter(String name, CustomerCursor cursor, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(nameContains(name));
+        return findAfter(criteria, cursor, limit);
+    }
+
+    @Override
+    public Page<Customer> searchByName(String name, Pageable pageable) {
+        Query query = new Query(nameContains(name)).with(pageable);
+        if (pageable.getSort().isUnsorted()) {
+            query.with(LISTING_SORT);
+        }
+        List<Customer> customers = mongoTemplate.find(query, Customer.class);
+        return PageableExecutionUtils.getPage(customers, pageable, () -> countByName(name));
+    }
+
+    @Override
+    public long countByName(String name) {
+        return mongoTemplate.count(new Query(nameContains(name)), Customer.class);
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class).insert(customers).execute();
+            return Set.of();
+        } catch (DataAccessException ex) {
+            return duplicateKeyPositions(ex);
+        }
+    }
+
+    @Override
+    public Optional<Customer> updateChangedFields(Customer stored, Map<String, Object> changes) {
+        Update update = changedFieldsUpdate(stored, changes, Instant.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+            changedFieldsGuard(stored, changes), update, FindAndModifyOptions.options().returnNew(true), Customer.class));
+    }
+
+    @Override
+    public BulkUpdateResult updateChangedFieldsUnordered(List<Customer> stored, List<Map<String, Object>> changes) {
+        if (stored.isEmpty()) {
+            return new BulkUpdateResult(Set.of(), Set.of());
+        }
+        Instant updatedAt = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+        for (int i = 0; i < stored.size(); i++) {
+            Update update = changedFieldsUpdate(stored.get(i), changes.get(i), updatedAt);
+            bulk.updateOne(changedFieldsGuard(stored.get(i), changes.get(i)), update);
+        }
+
+        Set<Integer> duplicates;
+        long matched;
+        try {
+            matched = bulk.execute().getMatchedCount();
+            duplicates = Set.of();
+        } catch (DataAccessException ex) {
+            duplicates = duplicateKeyPositions(ex);
+            matched = -1;
+        }
+        if (matched == stored.size() - duplicates.size()) {
+            return new BulkUpdateResult(duplicates, Set.of());
+        }
+        return new BulkUpdateResult(duplicates, unappliedPositions(stored, duplicates, updatedAt));
+    }
+
+    @Override
+    public long countByFilter(CustomerFilter filter) {
+        return mongoTemplate.count(new Query(matching(filter)), Customer.class);
+    }
+
+    @Override
+    public long countStatusChanges(CustomerFilter filter, CustomerStatus customerStatus) {
+        return mongoTemplate.count(new Query(statusChanges(filter, customerStatus)), Customer.class);
+    }
+
+    @Override
+    public List<String> findStatusChangeCandidates(CustomerFilter filter, CustomerStatus customerStatus, int limit) {
+        Query query = new Query(statusChanges(filter, customerStatus)).limit(limit);
+        query.fields().include("customerId");
+        return mongoTemplate.find(query, Customer.class).stream()
+            .map(Customer::getCustomerId)
+            .toList();
+    }
+
+    @Override
+    public long updateStatus(Collection<String> customerIds, CustomerFilter filter, CustomerStatus customerStatus) {
+        Query query = new Query(new Criteria().andOperator(
+            Criteria.where("customerId").in(customerIds),
+            statusChanges(filter, customerStatus)
+        ));
+        Update update = new Update().set("customerStatus", customerStatus).set("updatedAt", Instant.now());
+        return mongoTemplate.updateMulti(query, update, Customer.class).getModifiedCount();
+    }
+
+    @Override
+    public List<String> findIdsByFilter(CustomerFilter filter, int limit) {
+        Query query = new Query(matching(filter)).limit(limit);
+        query.fields().include("customerId");
+        return mongoTemplate.find(query, Customer.class).stream()
+            .map(Customer::getCustomerId)
+            .toList();
+    }
+
+    @Override
+    public long deleteMatching(Collection<String> customerIds, CustomerFilter filter) {
+        Query query = new Query(new Criteria().andOperator(
+            Criteria.where("customerId").in(customerIds),
+            matching(filter)
+        ));
+        return mongoTemplate.remove(query, Customer.class).getDeletedCount();
+    }
+
+    @Override
+    public Stream<Customer> streamByFilter(CustomerFilter filter, int batchSize) {
+        Query query = toQuery(criteriaOf(filter)).cursorBatchSize(batchSize).noCursorTimeout();
+        return mongoTemplate.stream(query, Customer.class);
+    }
+
+    @Override
+    public long backfillSearchFields(int batchSize) {
+        Query pending = new Query(new Criteria().orOperator(missingSearchFields())).limit(batchSize);
+        pending.fields().include("firstName", "lastName", "email");
+        List<Customer> customers = mongoTemplate.find(pending, Customer.class);
+        if (customers.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class);
+        for (Customer customer : customers) {
+            // Skip customers written since they were read: their update already set fresh search fields
+            Criteria unchanged = Criteria.where("customerId").is(customer.getCustomerId())
+                .and("firstName").is(customer.getFirstName())
+                .and("lastName").is(customer.getLastName())
+                .and("email").is(customer.getEmail())
+                .orOperator(missingSearchFields());
+            customer.refreshSearchFields();
+            bulk.updateOne(
+                Query.query(unchanged),
+                new Update()
+                    .set("nameTrigrams", customer.getNameTrigrams())
+                    .set("namePhonetics", customer.getNamePhonetics())
+                    .set("firstNameKey", customer.getFirstNameKey())
+                    .set("lastNameKey", customer.getLastNameKey())
+                    .set("emailKey", customer.getEmailKey()));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public List<Customer> suggestByPrefix(String prefix, int limit) {
+        return mongoTemplate.find(suggestionQuery(prefix, limit), Customer.class);
+    }
+
+    @Override
+    public Page<Customer> searchByNamePhonetic(String name, Pageable pageable) {
+        Criteria criteria = nameSoundsLike(name);
+        Query query = new Query(criteria).with(pageable);
+        if (pageable.getSort().isUnsorted()) {
+            query.with(LISTING_SORT);
+        }
+        List<Customer> customers = mongoTemplate.find(query, Customer.class);
+        return PageableExecutionUtils.getPage(customers, pageable,
+            () -> mongoTemplate.count(new Query(criteria), Customer.class));
+    }
+
+    @Override
+    public Slice<Customer> searchSliceByNamePhonetic(String name, Pageable pageable) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(nameSoundsLike(name));
+        return findSlice(criteria, pageable);
+    }
+
+    @Override
+    public Slice<Customer> findSliceByCustomerStatus(CustomerStatus customerStatus, Pageable pageable) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (customerStatus != null) {
+            criteria.add(Criteria.where("customerStatus").is(customerStatus));
+        }
+        return findSlice(criteria, pageable);
+    }
+
+    @Override
+    public Slice<Customer> searchSliceByName(String name, Pageable pageable) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(nameContains(name));
+        return findSlice(criteria, pageable);
+    }
+
+    @Override
+    public CustomerStatusCountPage findPageWithStatusCounts(CustomerStatus customerStatus, Pageable pageable) {
+        List<Customer> customers = mongoTemplate.find(listingPageQuery(customerStatus, pageable), Customer.class);
+        List<Document> counts = mongoTemplate.aggregate(statusCountsAggregation(), Document.class).getMappedResults();
+        return new CustomerStatusCountPage(customers, toStatusCounts(counts));
+    }
+
+    /**
+     * Anchored range scans on the normalized name and email keys, loading only the summary fields.
+     */
+    static Query suggestionQuery(String prefix, int limit) {
+        String key = SearchKeys.normalize(prefix);
+        String upperBound = SearchKeys.upperBound(key);
+        Query query = new Query(new Criteria().orOperator(
+            Criteria.where("firstNameKey").gte(key).lt(upperBound),
+            Criteria.where("lastNameKey").gte(key).lt(upperBound),
+            Criteria.where("emailKey").gte(key).lt(upperBound)
+        )).limit(limit);
+        query.fields().include("firstName", "lastName", "email", "customerStatus");
+        return query;
+    }
+
+    /**
+     * One offset page of a listing, read through the {@code (customerStatus, createdAt, _id)} or
+     * {@code (createdAt, _id)} index in {@link #LISTING_SORT} order.
+     */
+    static Query listingPageQuery(CustomerStatus customerStatus, Pageable pageable) {
+        Query query = new Query();
+        if (customerStatus != null) {
+            query.addCriteria(Criteria.where("customerStatus").is(customerStatus));
+        }
+        return query.with(pageable.getSort().isSorted() ? pageable.getSort() : LISTING_SORT)
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize());
+    }
+
+    /**
+     * {@code $group} aggregation counting customers per status. Sorting on the grouped field first
+     * lets MongoDB read the {@code customerStatus} index in order and only that field, instead of
+     * fetching and sorting the documents.
+     */
+    static TypedAggregation<Customer> statusCountsAggregation() {
+        return Aggregation.newAggregation(Customer.class,
+            Aggregation.sort(Sort.Direction.ASC, "customerStatus"),
+            Aggregation.group("customerStatus").count().as("count"));
+    }
+
+    /**
+     * Reads the result of {@link #statusCountsAggregation()}, reporting zero for statuses without
+     * customers.
+     */
+    static Map<CustomerStatus, Long> toStatusCounts(List<Document> counts) {
+        Map<CustomerStatus, Long> statusCounts = new EnumMap<>(CustomerStatus.class);
+        for (CustomerStatus status : CustomerStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        for (Document count : counts) {
+            Object status = count.get("_id");
+            if (status != null) {
+                statusCounts.put(CustomerStatus.valueOf(status.toString()), count.get("count", Number.class).longValue());
+            }
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Update setting the changed fields, the derived search fields when a name or the email changes,
+     * and {@code updatedAt}.
+     */
+    static Update changedFieldsUpdate(Customer stored, Map<String, Object> changes, Instant updatedAt) {
+        Update update = new Update();
+        changes.forEach((field, value) -> {
+            if (!UPDATABLE_FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException("Field is not updatable: " + field);
+            }
+            update.set(field, value);
+        });
+
+        if (changesSearchSource(changes)) {
+            Customer updated = new Customer(
+                (String) changes.getOrDefault("firstName", stored.getFirstName()),
+                (String) changes.getOrDefault("lastName", stored.getLastName()),
+                (String) changes.getOrDefault("email", stored.getEmail()),
+                null);
+            update.set("nameTrigrams", updated.getNameTrigrams())
+                .set("namePhonetics", updated.getNamePhonetics())
+                .set("firstNameKey", updated.getFirstNameKey())
+                .set("lastNameKey", updated.getLastNameKey())
+                .set("emailKey", updated.getEmailKey());
+        }
+        return update.set("updatedAt", updatedAt);
+    }
+
+    /**
+     * Matches customers lacking any of the derived search fields written by the backfill.
+     */
+    private static Criteria[] missingSearchFields() {
+        return new Criteria[] {
+            Criteria.where("nameTrigrams").exists(false),
+            Criteria.where("namePhonetics").exists(false),
+            Criteria.where("emailKey").exists(false)
+        };
+    }
+
+    /**
+     * Filter matching the customer only while the changed fields, and the search source fields when
+     * derived fields are rewritten, still hold their stored values.
+     */
+    static Query changedFieldsGuard(Customer stored, Map<String, Object> changes) {
+        Set<String> guarded = new LinkedHashSet<>(changes.keySet());
+        if (changesSearchSource(changes)) {
+            guarded.addAll(SEARCH_SOURCE_FIELDS);
+        }
+        Criteria criteria = Criteria.where("customerId").is(stored.getCustomerId());
+        for (String field : guarded) {
+            criteria.and(field).is(UPDATABLE_FIELDS.get(field).apply(stored));
+        }
+        return new Query(criteria);
+    }
+
+    private static boolean changesSearchSource(Map<String, Object> changes) {
+        return !Collections.disjoint(changes.keySet(), SEARCH_SOURCE_FIELDS);
+    }
+
+    /**
+     * Positions of the bulk updates that did not apply, found by reading back which customers carry
+     * the {@code updatedAt} written by the batch. Only needed when the bulk result reports fewer
+     * matches than updates, as it does not say which ones missed.
+     */
+    private Set<Integer> unappliedPositions(List<Customer> stored, Set<Integer> duplicates, Instant updatedAt) {
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < stored.size(); i++) {
+            if (!duplicates.contains(i)) {
+                candidates.add(stored.get(i).getCustomerId());
+            }
+        }
+        Query applied = new Query(Criteria.where("customerId").in(candidates).and("updatedAt").is(updatedAt));
+        applied.fields().include("customerId");
+        Set<String> appliedIds = new HashSet<>();
+        for (Customer customer : mongoTemplate.find(applied, Customer.class)) {
+            appliedIds.add(customer.getCustomerId());
+        }
+
+        Set<Integer> positions = new TreeSet<>();
+        for (int i = 0; i < stored.size(); i++) {
+            if (!duplicates.contains(i) && !appliedIds.contains(stored.get(i).getCustomerId())) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Positions of the writes a bulk write rejected with a duplicate key error. Any other write
+     * error fails the call, as it cannot be attributed to a single item.
+     */
+    private static Set<Integer> duplicateKeyPositions(DataAccessException ex) {
+        List<BulkWriteError> errors;
+        if (ex instanceof BulkOperationException bulkException) {
+            errors = bulkException.getErrors();
+        } else if (ex.getCause() instanceof MongoBulkWriteException bulkWriteException) {
+            errors = bulkWriteException.getWriteErrors();
+        } else {
+            throw ex;
+        }
+        Set<Integer> positions = new TreeSet<>();
+        for (BulkWriteError error : errors) {
+            if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                throw ex;
+            }
+            positions.add(error.getIndex());
+        }
+        return positions;
+    }
+
+    private Slice<Customer> findSlice(List<Criteria> criteria, Pageable pageable) {
+        Query query = toQuery(criteria)
+            .with(pageable.getSort().isSorted() ? pageable.getSort() : LISTING_SORT)
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1);
+
+        List<Customer> customers = mongoTemplate.find(query, Customer.class);
+        boolean hasNext = customers.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? customers.subList(0, pageable.getPageSize()) : customers, pageable, hasNext);
+    }
+
+    private List<Customer> findAfter(List<Criteria> criteria, CustomerCursor cursor, int limit) {
+        if (cursor != null) {
+            criteria.add(after(cursor));
+        }
+
+        Query query = toQuery(criteria).with(LISTING_SORT).limit(limit);
+        return mongoTemplate.find(query, Customer.class);
+    }
+
+    static Query toQuery(List<Criteria> criteria) {
+        Query query = new Query();
+        if (criteria.size() == 1) {
+            query.addCriteria(criteria.get(0));
+        } else if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+        return query;
+    }
+
+    /**
+     * Range predicate selecting everything strictly after the cursor in {@link #LISTING_SORT} order.
+     */
+    static Criteria after(CustomerCursor cursor) {
+        return new Criteria().orOperator(
+            Criteria.where("createdAt").lt(cursor.createdAt()),
+            Criteria.where("createdAt").is(cursor.createdAt()).and("customerId").lt(cursor.customerId())
+        );
+    }
+
+    /**
+     * Every word of the name must share a Double Metaphone key with the customer's name. Each word
+     * is an equality match on the multikey {@code namePhonetics} index.
+     */
+    static Criteria nameSoundsLike(String name) {
+        List<Criteria> words = NamePhonetics.perWord(name).stream()
+            .map(keys -> Criteria.where("namePhonetics").in(keys))
+            .toList();
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("Phonetic search requires at least one letter");
+        }
+        return words.size() == 1 ? words.get(0) : new Criteria().andOperator(words);
+    }
+
+    /**
+     * Criteria of a {@link CustomerFilter}, rejecting a filter without any criterion so that bulk
+     * writes can never select the whole collection.
+     */
+    private static Criteria matching(CustomerFilter filter) {
+        List<Criteria> criteria = criteriaOf(filter);
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("Filter must specify at least one criterion");
+        }
+        return criteria.size() == 1 ? criteria.get(0) : new Criteria().andOperator(criteria);
+    }
+
+    /**
+     * Criteria of each supplied {@link CustomerFilter} field. Email domains are matched as an anchored
+     * suffix of the normalized {@code emailKey}, so they ignore case.
+     */
+    private static List<Criteria> criteriaOf(CustomerFilter filter) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (filter.customerStatus() != null) {
+            criteria.add(Criteria.where("customerStatus").is(filter.customerStatus()));
+        }
+        if (filter.createdBefore() != null || filter.createdAfter() != null) {
+            Criteria createdAt = Criteria.where("createdAt");
+            if (filter.createdBefore() != null) {
+                createdAt.lt(filter.createdBefore());
+            }
+            if (filter.createdAfter() != null) {
+                createdAt.gte(filter.createdAfter());
+            }
+            criteria.add(createdAt);
+        }
+        if (filter.emailDomains() != null && !filter.emailDomains().isEmpty()) {
+            List<Pattern> domains = filter.emailDomains().stream()
+                .map(domain -> SearchKeys.normalize(domain.startsWith("@") ? domain.substring(1) : domain))
+                .map(domain -> Pattern.compile("@" + Pattern.quote(domain) + "$"))
+                .toList();
+            criteria.add(Criteria.where("emailKey").in(domains));
+        }
+        return criteria;
+    }
+
+    private static Criteria statusChanges(CustomerFilter filter, CustomerStatus customerStatus) {
+        return new Criteria().andOperator(matching(filter), Criteria.where("customerStatus").ne(customerStatus));
+    }
+
+    /**
+     * Same semantics as the derived {@code FirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase} query.
+     *
+     * <p>For terms of three or more characters, candidates are first narrowed through the multikey
+     * {@code nameTrigrams} index: a matching customer must carry every trigram of the term. The
+     * case-insensitive regex then verifies the remaining candidates. Documents written before
+     * trigrams existed are still considered until they are backfilled.</p>
+     */
+    static Criteria nameContains(String name) {
+        String pattern = Pattern.quote(name);
+        Criteria verification = new Criteria().orOperator(
+            Criteria.where("firstName").regex(pattern, "i"),
+            Criteria.where("lastName").regex(pattern, "i")
+        );
+        if (!NameTrigrams.isSearchable(name)) {
+            return verification;
+        }
+        Criteria candidates = new Criteria().orOperator(
+            Criteria.where("nameTrigrams").all(NameTrigrams.of(name)),
+            Criteria.where("nameTrigrams").exists(false)
+        );
+        return new Criteria().andOperator(candidates, verification);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of customers together with the number of customers in each {@link CustomerStatus}.
+ * The page comes from the regular indexed listing query and the counts from a separate
+ * {@code $group} aggregation over the status index.
+ *
+ * @param customers the requested page of customers
+ * @param statusCounts number of customers per status across the whole collection; every status is present
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record CustomerStatusCountPage(List<Customer> customers, Map<CustomerStatus, Long> statusCounts) {
+
+    /**
+     * Returns the total number of customers across all statuses.
+     *
+     * @return the total customer count
+     */
+    public long total() {
+        return statusCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
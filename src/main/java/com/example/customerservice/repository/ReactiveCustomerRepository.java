@@ -0,0 +1,60 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CustomerRepository}, backed by the reactive MongoDB driver.
+ *
+ * <p>Only registered with the {@code reactive} profile, where the reactive MongoDB auto-configuration
+ * is enabled. It offers the queries the customer API needs; bulk, import and export operations stay
+ * on {@link CustomerRepository}. Template-based queries are provided by
+ * {@link ReactiveCustomerRepositoryCustom} and build the same MongoDB queries as
+ * {@link CustomerRepositoryImpl}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ReactiveCustomerRepository
+        extends ReactiveMongoRepository<Customer, String>, ReactiveCustomerRepositoryCustom {
+
+    /**
+     * Finds a page of customers.
+     *
+     * @param pageable pagination information
+     * @return the customers of the requested page
+     */
+    Flux<Customer> findAllBy(Pageable pageable);
+
+    /**
+     * Finds a page of customers with the given status.
+     *
+     * @param customerStatus the status to filter by
+     * @param pageable pagination information
+     * @return the customers of the requested page
+     */
+    Flux<Customer> findByCustomerStatus(CustomerStatus customerStatus, Pageable pageable);
+
+    /**
+     * Counts customers with the given status.
+     *
+     * @param customerStatus the status to filter by
+     * @return the number of customers with the specified status
+     */
+    Mono<Long> countByCustomerStatus(CustomerStatus customerStatus);
+
+    /**
+     * Deletes a customer by ID with a single delete statement.
+     *
+     * @param customerId the ID of the customer to delete
+     * @return the number of customers deleted (0 if no customer has this ID)
+     */
+    Mono<Long> deleteByCustomerId(String customerId);
+}
@@ -0,0 +1,141 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Custom reactive repository fragment mirroring the customer API queries of
+ * {@link CustomerRepositoryCustom}.
+ *
+ * <p>Implemented by {@link ReactiveCustomerRepositoryImpl} on top of {@code ReactiveMongoTemplate} and
+ * exposed through {@link ReactiveCustomerRepository}. Slice queries return the rows of the slice plus
+ * one extra row when a next slice exists, leaving it to the caller to trim it.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ReactiveCustomerRepositoryCustom {
+
+    /**
+     * Finds customers positioned after the given cursor, ordered by createdAt descending
+     * and customer ID descending.
+     *
+     * @param customerStatus optional status filter (null for all customers)
+     * @param cursor position of the last customer already returned (null for the first page)
+     * @param limit maximum number of customers to return
+     * @return customers following the cursor
+     */
+    Flux<Customer> findByCustomerStatusAfter(CustomerStatus customerStatus, CustomerCursor cursor, int limit);
+
+    /**
+     * Finds up to {@code pageSize + 1} customers from the offset of the given page.
+     *
+     * @param customerStatus optional status filter (null for all customers)
+     * @param pageable pagination information
+     * @return the customers of the slice, followed by the first customer of the next slice if any
+     */
+    Flux<Customer> findSliceByCustomerStatus(CustomerStatus customerStatus, Pageable pageable);
+
+    /**
+     * Searches customers by first or last name (case-insensitive substring match) using the
+     * {@code nameTrigrams} index to narrow candidates before the exact match.
+     *
+     * @param name the name fragment to search for
+     * @param pageable pagination information
+     * @return the matching customers of the requested page
+     */
+    Flux<Customer> searchByName(String name, Pageable pageable);
+
+    /**
+     * Name search returning up to {@code pageSize + 1} customers from the offset of the given page.
+     *
+     * @param name the name fragment to search for
+     * @param pageable pagination information
+     * @return the customers of the slice, followed by the first customer of the next slice if any
+     */
+    Flux<Customer> searchSliceByName(String name, Pageable pageable);
+
+    /**
+     * Searches customers by first or last name (case-insensitive substring match),
+     * positioned after the given cursor.
+     *
+     * @param name the name fragment to search for
+     * @param cursor position of the last customer already returned (null for the first page)
+     * @param limit maximum number of customers to return
+     * @return matching customers following the cursor
+     */
+    Flux<Customer> searchByNameAfter(String name, CustomerCursor cursor, int limit);
+
+    /**
+     * Counts customers whose first or last name contains the given fragment (case-insensitive).
+     *
+     * @param name the name fragment to search for
+     * @return the number of matching customers
+     */
+    Mono<Long> countByName(String name);
+
+    /**
+     * Searches customers whose name sounds like the given name.
+     *
+     * @param name the possibly misspelled name to search for
+     * @param pageable pagination information
+     * @return the matching customers of the requested page, or an {@link IllegalArgumentException}
+     *         if the name contains no letters
+     */
+    Flux<Customer> searchByNamePhonetic(String name, Pageable pageable);
+
+    /**
+     * Phonetic search returning up to {@code pageSize + 1} customers from the offset of the given page.
+     *
+     * @param name the possibly misspelled name to search for
+     * @param pageable pagination information
+     * @return the customers of the slice, followed by the first customer of the next slice if any,
+     *         or an {@link IllegalArgumentException} if the name contains no letters
+     */
+    Flux<Customer> searchSliceByNamePhonetic(String name, Pageable pageable);
+
+    /**
+     * Counts customers whose name sounds like the given name.
+     *
+     * @param name the possibly misspelled name to search for
+     * @return the number of matching customers, or an {@link IllegalArgumentException} if the name
+     *         contains no letters
+     */
+    Mono<Long> countByNamePhonetic(String name);
+
+    /**
+     * Writes only the given changed fields of a customer with one {@code findAndModify}, with the
+     * compare-and-set semantics of {@link CustomerRepositoryCustom#updateChangedFields}.
+     *
+     * @param stored the customer as read before computing the changes
+     * @param changes entity property names mapped to their new values (must not be empty)
+     * @return the updated customer, or empty if the customer was deleted or modified concurrently
+     */
+    Mono<Customer> updateChangedFields(Customer stored, Map<String, Object> changes);
+
+    /**
+     * Finds customers whose first name, last name or email starts with the given prefix, ignoring
+     * case and accents. Only the fields needed for a customer summary are loaded.
+     *
+     * @param prefix the prefix typed by the user
+     * @param limit maximum number of customers to return
+     * @return matching customers, unordered
+     */
+    Flux<Customer> suggestByPrefix(String prefix, int limit);
+
+    /**
+     * Fetches a page of customers with an indexed find and the per-status customer counts with one
+     * {@code $group} aggregation, run concurrently.
+     *
+     * @param customerStatus optional status filter for the page (counts always cover every status)
+     * @param pageable pagination information
+     * @return the page of customers and the status counts
+     */
+    Mono<CustomerStatusCountPage> findPageWithStatusCounts(CustomerStatus customerStatus, Pageable pageable);
+}
@@ -0,0 +1,162 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.customerservice.repository.CustomerRepositoryImpl.LISTING_SORT;
+
+/**
+ * {@code ReactiveMongoTemplate}-based implementation of {@link ReactiveCustomerRepositoryCustom}.
+ *
+ * <p>Queries are built by the same static helpers as {@link CustomerRepositoryImpl}, so both stacks
+ * send identical commands to MongoDB and use the same indexes. Criteria that reject their input
+ * (a phonetic search without letters) fail the returned publisher rather than the call.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReactiveCustomerRepositoryImpl implements ReactiveCustomerRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * Constructs a new ReactiveCustomerRepositoryImpl.
+     *
+     * @param mongoTemplate the template used to run queries
+     */
+    public ReactiveCustomerRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Flux<Customer> findByCustomerStatusAfter(CustomerStatus customerStatus, CustomerCursor cursor, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (customerStatus != null) {
+            criteria.add(Criteria.where("customerStatus").is(customerStatus));
+        }
+        return findAfter(criteria, cursor, limit);
+    }
+
+    @Override
+    public Flux<Customer> findSliceByCustomerStatus(CustomerStatus customerStatus, Pageable pageable) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (customerStatus != null) {
+            criteria.add(Criteria.where("customerStatus").is(customerStatus));
+        }
+        return findSlice(criteria, pageable);
+    }
+
+    @Override
+    public Flux<Customer> searchByName(String name, Pageable pageable) {
+        return Flux.defer(() -> mongoTemplate.find(
+            paged(new Query(CustomerRepositoryImpl.nameContains(name)), pageable), Customer.class));
+    }
+
+    @Override
+    public Flux<Customer> searchSliceByName(String name, Pageable pageable) {
+        return Flux.defer(() -> {
+            List<Criteria> criteria = new ArrayList<>();
+            criteria.add(CustomerRepositoryImpl.nameContains(name));
+            return findSlice(criteria, pageable);
+        });
+    }
+
+    @Override
+    public Flux<Customer> searchByNameAfter(String name, CustomerCursor cursor, int limit) {
+        return Flux.defer(() -> {
+            List<Criteria> criteria = new ArrayList<>();
+            criteria.add(CustomerRepositoryImpl.nameContains(name));
+            return findAfter(criteria, cursor, limit);
+        });
+    }
+
+    @Override
+    public Mono<Long> countByName(String name) {
+        return Mono.defer(() -> mongoTemplate.count(
+            new Query(CustomerRepositoryImpl.nameContains(name)), Customer.class));
+    }
+
+    @Override
+    public Flux<Customer> searchByNamePhonetic(String name, Pageable pageable) {
+        return Flux.defer(() -> mongoTemplate.find(
+            paged(new Query(CustomerRepositoryImpl.nameSoundsLike(name)), pageable), Customer.class));
+    }
+
+    @Override
+    public Flux<Customer> searchSliceByNamePhonetic(String name, Pageable pageable) {
+        return Flux.defer(() -> {
+            List<Criteria> criteria = new ArrayList<>();
+            criteria.add(CustomerRepositoryImpl.nameSoundsLike(name));
+            return findSlice(criteria, pageable);
+        });
+    }
+
+    @Override
+    public Mono<Long> countByNamePhonetic(String name) {
+        return Mono.defer(() -> mongoTemplate.count(
+            new Query(CustomerRepositoryImpl.nameSoundsLike(name)), Customer.class));
+    }
+
+    @Override
+    public Mono<Customer> updateChangedFields(Customer stored, Map<String, Object> changes) {
+        return Mono.defer(() -> {
+            Update update = CustomerRepositoryImpl.changedFieldsUpdate(stored, changes, Instant.now());
+            return mongoTemplate.findAndModify(CustomerRepositoryImpl.changedFieldsGuard(stored, changes), update,
+                FindAndModifyOptions.options().returnNew(true), Customer.class);
+        });
+    }
+
+    @Override
+    public Flux<Customer> suggestByPrefix(String prefix, int limit) {
+        return Flux.defer(() -> mongoTemplate.find(CustomerRepositoryImpl.suggestionQuery(prefix, limit), Customer.class));
+    }
+
+    @Override
+    public Mono<CustomerStatusCountPage> findPageWithStatusCounts(CustomerStatus customerStatus, Pageable pageable) {
+        return Mono.zip(
+                mongoTemplate.find(CustomerRepositoryImpl.listingPageQuery(customerStatus, pageable), Customer.class)
+                    .collectList(),
+                mongoTemplate.aggregate(CustomerRepositoryImpl.statusCountsAggregation(), Document.class).collectList())
+            .map(result -> new CustomerStatusCountPage(
+                result.getT1(), CustomerRepositoryImpl.toStatusCounts(result.getT2())));
+    }
+
+    private Flux<Customer> findSlice(List<Criteria> criteria, Pageable pageable) {
+        Query query = CustomerRepositoryImpl.toQuery(criteria)
+            .with(pageable.getSort().isSorted() ? pageable.getSort() : LISTING_SORT)
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1);
+        return mongoTemplate.find(query, Customer.class);
+    }
+
+    private Flux<Customer> findAfter(List<Criteria> criteria, CustomerCursor cursor, int limit) {
+        if (cursor != null) {
+            criteria.add(CustomerRepositoryImpl.after(cursor));
+        }
+        Query query = CustomerRepositoryImpl.toQuery(criteria).with(LISTING_SORT).limit(limit);
+        return mongoTemplate.find(query, Customer.class);
+    }
+
+    private static Query paged(Query query, Pageable pageable) {
+        query.with(pageable);
+        if (pageable.getSort().isUnsorted()) {
+            query.with(LISTING_SORT);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,466 @@
+package com.example.customerservice.search;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.model.SearchKeys;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Lucene index over customers for fuzzy, multi-field, relevance-ranked search.
+ *
+ * <p>Enabled with {@code customer-service.search.engine=lucene}. Name, email and address are
+ * indexed as accent-folded, lower-cased text and the phone number as its digits. Every query term
+ * must match at least one field, either exactly, as a prefix, or within a small edit distance, and
+ * results are ranked by score with newer customers first on ties.</p>
+ *
+ * <p>The index stores the customer summary fields, so a search is answered without touching
+ * MongoDB. MongoDB remains the source of truth: {@link LuceneIndexSynchronizer} populates the index
+ * from a collection scan after startup and keeps it current from entity save and delete events.
+ * Until the initial load completes the index reports itself as not ready and callers fall back to
+ * the MongoDB search.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "customer-service.search", name = "engine", havingValue = "lucene")
+public class LuceneCustomerIndex implements DisposableBean {
+
+    /**
+     * Deepest result position served; pages beyond it are returned empty, as scoring them would
+     * require collecting every preceding hit.
+     */
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    /**
+     * Customer fields the index is built from; other fields can change without a reindex.
+     */
+    public static final Set<String> SOURCE_FIELDS =
+        Set.of("firstName", "lastName", "email", "phone", "address", "customerStatus", "createdAt");
+
+    private static final Logger logger = LoggerFactory.getLogger(LuceneCustomerIndex.class);
+
+    private static final String ID = "customerId";
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String EMAIL = "email";
+    private static final String STATUS = "customerStatus";
+    private static final String CREATED_AT = "createdAt";
+
+    private static final String SEARCH_PHONE = "search.phone";
+
+    /**
+     * Analyzed search fields and their relevance boosts.
+     */
+    private static final Map<String, Float> TEXT_FIELDS = Map.of(
+        "search.firstName", 3f,
+        "search.lastName", 3f,
+        "search.email", 2f,
+        "search.address", 1f
+    );
+
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(CREATED_AT, SortField.Type.LONG, true));
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory = new ByteBuffersDirectory();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private final Set<String> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Boolean> indexedByCaller = ThreadLocal.withInitial(() -> false);
+    private volatile boolean loading;
+    private volatile boolean ready;
+
+    /**
+     * Constructs a new, empty LuceneCustomerIndex.
+     */
+    public LuceneCustomerIndex() {
+        try {
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open the customer search index", ex);
+        }
+    }
+
+    /**
+     * Whether the initial load has completed and searches reflect every stored customer.
+     *
+     * @return true once the index is ready to serve searches
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Adds or replaces a customer in the index. The change is visible to the next search.
+     *
+     * @param customer the customer as stored in MongoDB
+     */
+    public void index(Customer customer) {
+        if (loading) {
+            changedDuringLoad.add(customer.getCustomerId());
+        }
+        try {
+            writer.updateDocument(new Term(ID, customer.getCustomerId()), toDocument(customer));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to index customer " + customer.getCustomerId(), ex);
+        }
+    }
+
+    /**
+     * Adds or replaces a customer in the index, logging instead of throwing when that fails. Used
+     * for writes whose caller must not fail once MongoDB has accepted them.
+     *
+     * @param customer the customer as stored in MongoDB
+     * @return whether the customer was indexed
+     */
+    public boolean tryIndex(Customer customer) {
+        try {
+            index(customer);
+            return true;
+        } catch (RuntimeException ex) {
+            logger.error("Failed to index customer {}", customer.getCustomerId(), ex);
+            return false;
+        }
+    }
+
+    /**
+     * Adds or replaces several customers, refreshing the searcher once for the whole batch.
+     *
+     * @param customers the customers as stored in MongoDB
+     */
+    public void indexAll(Collection<Customer> customers) {
+        try {
+            for (Customer customer : customers) {
+                if (loading) {
+                    changedDuringLoad.add(customer.getCustomerId());
+                }
+                writer.updateDocument(new Term(ID, customer.getCustomerId()), toDocument(customer));
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to index " + customers.size() + " customers", ex);
+        }
+    }
+
+    /**
+     * Runs a bulk write whose customers the caller indexes itself with {@link #indexAll}. Save
+     * events the write raises on this thread are then ignored by {@link LuceneIndexSynchronizer},
+     * so each customer is indexed once and the searcher refreshed once for the whole batch.
+     *
+     * @param write the bulk write
+     * @param <T> the result type of the write
+     * @return the result of the write
+     */
+    public <T> T indexedByCaller(Supplier<T> write) {
+        boolean outer = !indexedByCaller.get();
+        indexedByCaller.set(true);
+        try {
+            return write.get();
+        } finally {
+            if (outer) {
+                indexedByCaller.remove();
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread is running a write inside {@link #indexedByCaller}.
+     *
+     * @return true if the caller indexes the customers written
+     */
+    public boolean isIndexedByCaller() {
+        return indexedByCaller.get();
+    }
+
+    /**
+     * Removes a customer from the index. The change is visible to the next search.
+     *
+     * @param customerId the ID of the deleted customer
+     */
+    public void remove(String customerId) {
+        if (loading) {
+            changedDuringLoad.add(customerId);
+        }
+        try {
+            writer.deleteDocuments(new Term(ID, customerId));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to remove customer " + customerId, ex);
+        }
+    }
+
+    /**
+     * Removes several customers, refreshing the searcher once for the whole batch.
+     *
+     * @param customerIds the IDs of the deleted customers
+     */
+    public void removeAll(Collection<String> customerIds) {
+        if (loading) {
+            changedDuringLoad.addAll(customerIds);
+        }
+        try {
+            writer.deleteDocuments(customerIds.stream().map(id -> new Term(ID, id)).toArray(Term[]::new));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to remove " + customerIds.size() + " customers", ex);
+        }
+    }
+
+    /**
+     * Loads customers from a scan of the source collection and marks the index ready.
+     *
+     * <p>Customers indexed or removed through {@link #index(Customer)} or {@link #remove(String)}
+     * while the load is running are newer than the scanned copy and are skipped.</p>
+     *
+     * @param customers the scanned customers
+     * @return number of customers loaded
+     */
+    public long load(Stream<Customer> customers) {
+        changedDuringLoad.clear();
+        loading = true;
+        return addScanned(customers);
+    }
+
+    /**
+     * Replaces the whole index with a new scan of the source collection, for when changes to it
+     * may have been missed (such as a dropped collection). The index reports itself as not ready
+     * until the scan completes, so searches fall back to MongoDB meanwhile.
+     *
+     * @param customers the scanned customers
+     * @return number of customers loaded
+     */
+    public long reload(Stream<Customer> customers) {
+        ready = false;
+        try {
+            writer.deleteAll();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to clear the customer search index", ex);
+        }
+        changedDuringLoad.clear();
+        loading = true;
+        return addScanned(customers);
+    }
+
+    /**
+     * Adds the scanned customers not changed since the load started, then marks the index ready.
+     */
+    private long addScanned(Stream<Customer> customers) {
+        try {
+            long loaded = 0;
+            for (Customer customer : (Iterable<Customer>) customers::iterator) {
+                if (!changedDuringLoad.contains(customer.getCustomerId())) {
+                    writer.updateDocument(new Term(ID, customer.getCustomerId()), toDocument(customer));
+                    loaded++;
+                }
+            }
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            return loaded;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to load the customer search index", ex);
+        } finally {
+            loading = false;
+            changedDuringLoad.clear();
+        }
+    }
+
+    /**
+     * Searches customers by name, email, phone or address.
+     *
+     * @param text free-text search input; each term must match some field
+     * @param pageable pagination information (sorting is always by relevance)
+     * @param includeTotal whether to count all hits and return a {@code Page}
+     * @return customers with summary fields populated, as a {@code Page} when totals are included
+     */
+    public Slice<Customer> search(String text, Pageable pageable, boolean includeTotal) {
+        Query query = buildQuery(text);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                List<Customer> customers = new ArrayList<>();
+                boolean hasNext = false;
+                if (pageable.getOffset() < MAX_RESULT_WINDOW) {
+                    int from = (int) pageable.getOffset();
+                    int to = Math.min(from + pageable.getPageSize(), MAX_RESULT_WINDOW);
+                    ScoreDoc[] hits = searcher.search(query, to + 1, RELEVANCE, true).scoreDocs;
+                    StoredFields storedFields = searcher.storedFields();
+                    for (int i = from; i < Math.min(hits.length, to); i++) {
+                        customers.add(toCustomer(storedFields.document(hits[i].doc)));
+                    }
+                    hasNext = hits.length > to;
+                }
+                if (includeTotal) {
+                    return new PageImpl<>(customers, pageable, searcher.count(query));
+                }
+                return new SliceImpl<>(customers, pageable, hasNext);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Customer search failed", ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Builds a query requiring every term of the input to match at least one field. Exact matches
+     * score highest, then prefix matches, then matches within the edit distance allowed for the
+     * term length.
+     */
+    Query buildQuery(String text) {
+        BooleanQuery.Builder allTerms = new BooleanQuery.Builder();
+        for (String term : analyze(text)) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            TEXT_FIELDS.forEach((field, boost) -> {
+                Term fieldTerm = new Term(field, term);
+                anyField.add(new BoostQuery(new TermQuery(fieldTerm), boost * 2), BooleanClause.Occur.SHOULD);
+                anyField.add(new BoostQuery(new PrefixQuery(fieldTerm), boost), BooleanClause.Occur.SHOULD);
+                int maxEdits = maxEdits(term);
+                if (maxEdits > 0) {
+                    anyField.add(new BoostQuery(new FuzzyQuery(fieldTerm, maxEdits), boost / 2), BooleanClause.Occur.SHOULD);
+                }
+            });
+            String digits = digits(term);
+            if (!digits.isEmpty()) {
+                anyField.add(new PrefixQuery(new Term(SEARCH_PHONE, digits)), BooleanClause.Occur.SHOULD);
+            }
+            allTerms.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return allTerms.build();
+    }
+
+    private List<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream tokens = analyzer.tokenStream("search", SearchKeys.normalize(text))) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * Edit distance tolerated for a term: none below three characters, one up to five, two beyond.
+     */
+    private static int maxEdits(String term) {
+        if (term.length() < 3) {
+            return 0;
+        }
+        return term.length() < 6 ? 1 : 2;
+    }
+
+    private static String digits(String value) {
+        return value == null ? "" : value.replaceAll("\\D", "");
+    }
+
+    private static Document toDocument(Customer customer) {
+        Document document = new Document();
+        document.add(new StringField(ID, customer.getCustomerId(), Field.Store.YES));
+        addText(document, "search.firstName", customer.getFirstName());
+        addText(document, "search.lastName", customer.getLastName());
+        addText(document, "search.email", customer.getEmail());
+        addText(document, "search.address", customer.getAddress());
+        String phoneDigits = digits(customer.getPhone());
+        if (!phoneDigits.isEmpty()) {
+            document.add(new StringField(SEARCH_PHONE, phoneDigits, Field.Store.NO));
+        }
+
+        addStored(document, FIRST_NAME, customer.getFirstName());
+        addStored(document, LAST_NAME, customer.getLastName());
+        addStored(document, EMAIL, customer.getEmail());
+        if (customer.getCustomerStatus() != null) {
+            document.add(new StoredField(STATUS, customer.getCustomerStatus().name()));
+        }
+        long createdAt = customer.getCreatedAt() != null ? customer.getCreatedAt().toEpochMilli() : 0L;
+        document.add(new NumericDocValuesField(CREATED_AT, createdAt));
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, SearchKeys.normalize(value), Field.Store.NO));
+        }
+    }
+
+    private static void addStored(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new StoredField(field, value));
+        }
+    }
+
+    /**
+     * Rebuilds a customer carrying the summary fields. The creation timestamp is deliberately left
+     * unset: results are in relevance order, so no keyset cursor can be derived from them.
+     */
+    private static Customer toCustomer(Document document) {
+        Customer customer = new Customer(document.get(FIRST_NAME), document.get(LAST_NAME), document.get(EMAIL), null);
+        customer.setCustomerId(document.get(ID));
+        String status = document.get(STATUS);
+        customer.setCustomerStatus(status != null ? CustomerStatus.valueOf(status) : null);
+        return customer;
+    }
+}
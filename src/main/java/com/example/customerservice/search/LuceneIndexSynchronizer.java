@@ -0,0 +1,156 @@
+package com.example.customerservice.search;
+
+import com.example.customerservice.model.Customer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link LuceneCustomerIndex} in sync with the customers collection.
+ *
+ * <p>After the application is ready, the index is loaded from a streaming scan of the collection
+ * on the application task executor. From then on, every customer saved or deleted through
+ * {@code MongoTemplate} or the repository is applied to the index as part of the same request,
+ * except for bulk writes that index their customers themselves.
+ * Index failures are logged and never fail the write, since MongoDB is the source of truth.</p>
+ *
+ * <p>Those events only cover this instance's writes. Writes made by other instances reach the
+ * index through {@link #refresh(String)}, {@link #remove(String)} and {@link #reload()}, called by
+ * the customer change stream listener when it is enabled.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "customer-service.search", name = "engine", havingValue = "lucene")
+public class LuceneIndexSynchronizer extends AbstractMongoEventListener<Customer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LuceneIndexSynchronizer.class);
+
+    private final LuceneCustomerIndex searchIndex;
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+
+    /**
+     * Constructs a new LuceneIndexSynchronizer.
+     *
+     * @param searchIndex the index to maintain
+     * @param mongoTemplate the template used to scan the customers collection
+     * @param taskExecutor the executor running the initial load
+     */
+    public LuceneIndexSynchronizer(LuceneCustomerIndex searchIndex, MongoTemplate mongoTemplate,
+                                   @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.searchIndex = searchIndex;
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Starts the initial load once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::load);
+    }
+
+    /**
+     * Loads every stored customer into the index.
+     *
+     * @return number of customers loaded
+     */
+    public long load() {
+        try (Stream<Customer> customers = mongoTemplate.stream(indexedFields(new Query()), Customer.class)) {
+            long loaded = searchIndex.load(customers);
+            logger.info("Loaded {} customers into the search index", loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            logger.error("Search index load failed; searches keep using MongoDB", ex);
+            return 0;
+        }
+    }
+
+    /**
+     * Replaces the index with a new scan of the collection, for changes that cannot be applied one
+     * customer at a time (such as a dropped collection). Searches use MongoDB until it completes.
+     *
+     * @return number of customers loaded
+     */
+    public long reload() {
+        try (Stream<Customer> customers = mongoTemplate.stream(indexedFields(new Query()), Customer.class)) {
+            long loaded = searchIndex.reload(customers);
+            logger.info("Reloaded {} customers into the search index", loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            logger.error("Search index reload failed; searches keep using MongoDB", ex);
+            return 0;
+        }
+    }
+
+    /**
+     * Applies the stored state of a customer changed by another instance: the customer is read
+     * again and indexed, or removed from the index if it no longer exists.
+     *
+     * @param customerId the ID of the changed customer
+     */
+    public void refresh(String customerId) {
+        Customer customer = mongoTemplate.findOne(
+            indexedFields(Query.query(Criteria.where("customerId").is(customerId))), Customer.class);
+        if (customer != null) {
+            searchIndex.tryIndex(customer);
+        } else {
+            remove(customerId);
+        }
+    }
+
+    /**
+     * Removes a deleted customer from the index. Failures are logged.
+     *
+     * @param customerId the ID of the deleted customer
+     */
+    public void remove(String customerId) {
+        try {
+            searchIndex.remove(customerId);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to remove customer {} from the search index", customerId, ex);
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Customer> event) {
+        if (searchIndex.isIndexedByCaller()) {
+            // Bulk inserts index their customers in one batch once the write returns
+            return;
+        }
+        searchIndex.tryIndex(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Customer> event) {
+        Object customerId = event.getSource().get("_id");
+        if (!(customerId instanceof String id)) {
+            // Deletes by criteria carry no single ID; bulk deletes remove their customers from the index themselves
+            logger.debug("Search index not updated for delete by {}", event.getSource());
+            return;
+        }
+        remove(id);
+    }
+
+    private static Query indexedFields(Query query) {
+        query.fields().include(LuceneCustomerIndex.SOURCE_FIELDS.toArray(String[]::new));
+        return query;
+    }
+}
@@ -0,0 +1,511 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.cache.CustomerCache;
+import com.example.customerservice.cache.CustomerQueryCache;
+import com.example.customerservice.cache.CustomerQueryCache.QueryFamily;
+import com.example.customerservice.config.BulkProperties;
+import com.example.customerservice.dto.BatchGetRequest;
+import com.example.customerservice.dto.BatchGetResponse;
+import com.example.customerservice.dto.BulkDeleteRequest;
+import com.example.customerservice.dto.BulkDeleteResponse;
+import com.example.customerservice.dto.BulkItemResult;
+import com.example.customerservice.dto.BulkOperationResponse;
+import com.example.customerservice.dto.BulkUpdateItem;
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.StatusTransitionRequest;
+import com.example.customerservice.dto.StatusTransitionResponse;
+import com.example.customerservice.exception.CustomerNotFoundException;
+import com.example.customerservice.exception.DuplicateEmailException;
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.BulkUpdateResult;
+import com.example.customerservice.repository.CustomerFilter;
+import com.example.customerservice.repository.CustomerRepository;
+import com.example.customerservice.search.LuceneCustomerIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for operations on many customers per request.
+ * 
+ * <p>Bulk operations trade one round trip per customer for one round trip per batch. Items are
+ * processed independently: every item is validated and attempted, and the outcome of each is
+ * reported in request order instead of failing the whole batch on the first error.</p>
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CustomerBulkService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CustomerBulkService.class);
+    
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final Validator validator;
+    private final BulkProperties bulkProperties;
+    private final Optional<LuceneCustomerIndex> searchIndex;
+    private final CustomerCache customerCache;
+    private final CustomerQueryCache queryCache;
+    
+    /**
+     * Constructs a new CustomerBulkService with the required dependencies.
+     * 
+     * @param customerRepository the repository for customer data access
+     * @param customerMapper the mapper for converting between entities and DTOs
+     * @param validator the validator applied to every bulk item
+     * @param bulkProperties the bulk operation limits
+     * @param searchIndex the Lucene search index, present when {@code customer-service.search.engine=lucene}
+     * @param customerCache the read cache of single customers, invalidated for every customer written
+     * @param queryCache the result cache of listings and searches, invalidated for every write
+     */
+    public CustomerBulkService(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                               Validator validator, BulkProperties bulkProperties,
+                               Optional<LuceneCustomerIndex> searchIndex, CustomerCache customerCache,
+                               CustomerQueryCache queryCache) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.validator = validator;
+        this.bulkProperties = bulkProperties;
+        this.searchIndex = searchIndex;
+        this.customerCache = customerCache;
+        this.queryCache = queryCache;
+    }
+    
+    /**
+     * Creates many customers with a single unordered bulk insert.
+     * 
+     * <p>Invalid items and items repeating an email already used earlier in the batch are rejected
+     * without being sent. The remaining customers are inserted in one unordered bulk write; those
+     * rejected by the unique email index are reported as duplicates while the others are created.</p>
+     * 
+     * @param requests the customers to create
+     * @return per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or exceeds the configured maximum
+     */
+    public BulkOperationResponse createCustomers(List<CreateCustomerRequest> requests) {
+        checkBatchSize(requests);
+        logger.info("Bulk creating {} customers", requests.size());
+        
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Customer> customers = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Set<String> emails = new HashSet<>();
+        
+        for (int i = 0; i < requests.size(); i++) {
+            CreateCustomerRequest request = requests.get(i);
+            String violations = validate(request);
+            if (violations != null) {
+                results[i] = BulkItemResult.failed(i, null, violations);
+            } else if (!emails.add(request.email())) {
+                results[i] = BulkItemResult.failed(i, null,
+                    "Email '" + request.email() + "' appears more than once in the request");
+            } else {
+                Customer customer = customerMapper.toEntity(request);
+                customer.setCustomerId(UUID.randomUUID().toString());
+                customers.add(customer);
+                positions.add(i);
+            }
+        }
+        
+        // The insert raises a save event per customer, but only when no item fails; index the created ones here instead
+        Set<Integer> duplicates = searchIndex
+            .map(index -> index.indexedByCaller(() -> customerRepository.insertUnordered(customers)))
+            .orElseGet(() -> customerRepository.insertUnordered(customers));
+        
+        List<Customer> created = new ArrayList<>();
+        for (int j = 0; j < customers.size(); j++) {
+            int i = positions.get(j);
+            Customer customer = customers.get(j);
+            if (duplicates.contains(j)) {
+                results[i] = BulkItemResult.failed(i, null, new DuplicateEmailException(customer.getEmail()).getMessage());
+            } else {
+                results[i] = BulkItemResult.succeeded(i, customer.getCustomerId(), BulkItemResult.Outcome.CREATED);
+                created.add(customer);
+            }
+        }
+        if (!created.isEmpty()) {
+            queryCache.invalidateAll();
+        }
+        reindex(created);
+        
+        BulkOperationResponse response = BulkOperationResponse.of(Arrays.asList(results));
+        logger.info("Bulk create finished: {} created, {} failed", response.succeeded(), response.failed());
+        return response;
+    }
+    
+    /**
+     * Applies partial updates to many customers with a single unordered bulk of updates.
+     * 
+     * <p>The referenced customers are read with one query and each update is reduced to the fields
+     * it actually changes; items that change nothing are reported as unchanged without a write. New
+     * emails are checked against each other and against existing customers with one {@code $in}
+     * query. Every remaining update is a compare-and-set against the customer as read, so an item
+     * whose customer was modified or deleted concurrently fails instead of overwriting the other change.</p>
+     * 
+     * @param items the customer IDs and the updates to apply to them
+     * @return per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or exceeds the configured maximum
+     */
+    public BulkOperationResponse updateCustomers(List<BulkUpdateItem> items) {
+        checkBatchSize(items);
+        logger.info("Bulk updating {} customers", items.size());
+        
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+        Map<Integer, BulkUpdateItem> pending = new LinkedHashMap<>();
+        Set<String> customerIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkUpdateItem item = items.get(i);
+            String violations = validate(item);
+            if (violations != null) {
+                results[i] = BulkItemResult.failed(i, item == null ? null : item.customerId(), violations);
+            } else if (!customerIds.add(item.customerId())) {
+                results[i] = BulkItemResult.failed(i, item.customerId(),
+                    "Customer '" + item.customerId() + "' appears more than once in the request");
+            } else {
+                pending.put(i, item);
+            }
+        }
+        
+        Map<String, Customer> storedById = new HashMap<>();
+        customerRepository.findAllById(customerIds).forEach(customer -> storedById.put(customer.getCustomerId(), customer));
+        
+        Map<Integer, Map<String, Object>> changesByPosition = new LinkedHashMap<>();
+        for (Map.Entry<Integer, BulkUpdateItem> entry : pending.entrySet()) {
+            int i = entry.getKey();
+            BulkUpdateItem item = entry.getValue();
+            Customer stored = storedById.get(item.customerId());
+            if (stored == null) {
+                results[i] = BulkItemResult.failed(i, item.customerId(),
+                    new CustomerNotFoundException(item.customerId()).getMessage());
+                continue;
+            }
+            Map<String, Object> changes = customerMapper.changedFields(item.update(), stored);
+            if (changes.isEmpty()) {
+                results[i] = BulkItemResult.succeeded(i, item.customerId(), BulkItemResult.Outcome.UNCHANGED);
+            } else {
+                changesByPosition.put(i, changes);
+            }
+        }
+        rejectTakenEmails(items, changesByPosition, results);
+        
+        List<Integer> positions = new ArrayList<>(changesByPosition.keySet());
+        List<Customer> stored = new ArrayList<>();
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (int i : positions) {
+            stored.add(storedById.get(items.get(i).customerId()));
+            changes.add(changesByPosition.get(i));
+        }
+        BulkUpdateResult written = customerRepository.updateChangedFieldsUnordered(stored, changes);
+        customerCache.invalidateAll(stored.stream().map(Customer::getCustomerId).toList());
+        queryCache.invalidate(CustomerQueryCache.affectedBy(changes.stream().flatMap(change -> change.keySet().stream()).toList()));
+        
+        List<Customer> updated = new ArrayList<>();
+        for (int j = 0; j < positions.size(); j++) {
+            int i = positions.get(j);
+            BulkUpdateItem item = items.get(i);
+            if (written.duplicates().contains(j)) {
+                results[i] = BulkItemResult.failed(i, item.customerId(),
+                    new DuplicateEmailException(item.update().email()).getMessage());
+            } else if (written.conflicts().contains(j)) {
+                results[i] = BulkItemResult.failed(i, item.customerId(),
+                    "Customer was modified or deleted concurrently; retry the update");
+            } else {
+                results[i] = BulkItemResult.succeeded(i, item.customerId(), BulkItemResult.Outcome.UPDATED);
+                Customer customer = stored.get(j);
+                customerMapper.updateEntityFromRequest(item.update(), customer);
+                updated.add(customer);
+            }
+        }
+        reindex(updated);
+        
+        BulkOperationResponse response = BulkOperationResponse.of(Arrays.asList(results));
+        logger.info("Bulk update finished: {} succeeded, {} failed", response.succeeded(), response.failed());
+        return response;
+    }
+    
+    /**
+     * Moves every customer selected by a filter to a new status.
+     * 
+     * <p>Customers already in the target status are not written. The remaining ones are updated in
+     * chunks of {@code customer-service.bulk.chunk-size}: each chunk selects the IDs of the next
+     * customers still to transition and sets their status with one {@code updateMany}, so no single
+     * statement holds write locks on the whole cohort. A dry run only counts.</p>
+     * 
+     * @param request the filter, the target status and whether to only count
+     * @return the matched and modified (or, for a dry run, to-be-modified) counts
+     * @throws IllegalArgumentException if the filter has no criterion
+     */
+    public StatusTransitionResponse transitionStatus(StatusTransitionRequest request) {
+        CustomerFilter filter = request.filter();
+        CustomerStatus targetStatus = request.targetStatus();
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("Filter must specify at least one criterion");
+        }
+        
+        long matched = customerRepository.countByFilter(filter);
+        if (request.dryRun()) {
+            long toModify = customerRepository.countStatusChanges(filter, targetStatus);
+            logger.info("Status transition to {} (dry run): {} matched, {} would change", targetStatus, matched, toModify);
+            return new StatusTransitionResponse(targetStatus, true, matched, toModify);
+        }
+        
+        int chunkSize = bulkProperties.chunkSize();
+        long modified = 0;
+        List<String> chunk;
+        do {
+            chunk = customerRepository.findStatusChangeCandidates(filter, targetStatus, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            modified += customerRepository.updateStatus(chunk, filter, targetStatus);
+            customerCache.invalidateAll(chunk);
+            queryCache.invalidate(Set.of(QueryFamily.LISTING));
+            reindexById(chunk);
+        } while (chunk.size() == chunkSize);
+        
+        logger.info("Status transition to {}: {} matched, {} modified", targetStatus, matched, modified);
+        return new StatusTransitionResponse(targetStatus, false, matched, modified);
+    }
+    
+    /**
+     * Deletes many customers, selected either by ID or by filter.
+     * 
+     * <p>IDs, already capped at {@code customer-service.bulk.max-items}, are deleted with one
+     * {@code deleteMany}. A filter is deleted in statements of at most {@code customer-service.bulk.chunk-size}
+     * customers: each chunk selects the IDs of the next matching customers and deletes them while
+     * they still match, so no single statement holds write locks on the whole cohort.</p>
+     * 
+     * @param request the customer IDs or the filter
+     * @return the number of customers deleted
+     * @throws IllegalArgumentException if neither or both of IDs and filter are given, the filter is
+     *         empty, or there are more IDs than the configured maximum
+     */
+    public BulkDeleteResponse deleteCustomers(BulkDeleteRequest request) {
+        boolean byIds = request.customerIds() != null && !request.customerIds().isEmpty();
+        boolean byFilter = request.filter() != null && !request.filter().isEmpty();
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Bulk delete requires either customer IDs or a non-empty filter");
+        }
+        
+        long deleted = byIds ? deleteByIds(request.customerIds()) : deleteByFilter(request.filter());
+        logger.info("Bulk delete finished: {} customers deleted", deleted);
+        return new BulkDeleteResponse(deleted);
+    }
+    
+    private long deleteByIds(List<String> customerIds) {
+        checkBatchSize(customerIds);
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(customerIds));
+        long deleted = customerRepository.deleteByCustomerIdIn(distinctIds);
+        customerCache.invalidateAll(distinctIds);
+        queryCache.invalidateAll();
+        unindex(distinctIds);
+        return deleted;
+    }
+    
+    private long deleteByFilter(CustomerFilter filter) {
+        int chunkSize = bulkProperties.chunkSize();
+        long deleted = 0;
+        List<String> chunk;
+        do {
+            chunk = customerRepository.findIdsByFilter(filter, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            long chunkDeleted = customerRepository.deleteMatching(chunk, filter);
+            deleted += chunkDeleted;
+            customerCache.invalidateAll(chunk);
+            queryCache.invalidateAll();
+            unindex(chunk);
+            if (chunkDeleted < chunk.size()) {
+                // Customers that stopped matching the filter were kept; restore them in the index
+                reindexById(chunk);
+            }
+        } while (chunk.size() == chunkSize);
+        return deleted;
+    }
+    
+    /**
+     * Fetches many customers by ID, email and phone number in one call.
+     * 
+     * <p>Each key type is resolved with one {@code $in} query on its index, regardless of how many
+     * keys are requested. Results follow the request order and mark keys without a customer as not
+     * found instead of failing the call.</p>
+     * 
+     * @param request the keys to look up
+     * @return one result per requested key
+     * @throws IllegalArgumentException if no keys, or more keys than the configured maximum, are given
+     */
+    public BatchGetResponse batchGetCustomers(BatchGetRequest request) {
+        List<String> customerIds = nullToEmpty(request.customerIds());
+        List<String> emails = nullToEmpty(request.emails());
+        List<String> phones = nullToEmpty(request.phones());
+        int keys = customerIds.size() + emails.size() + phones.size();
+        if (keys == 0) {
+            throw new IllegalArgumentException("Batch get requires at least one customer ID, email or phone");
+        }
+        if (keys > bulkProperties.maxItems()) {
+            throw new IllegalArgumentException(
+                "Batch get must not request more than " + bulkProperties.maxItems() + " keys");
+        }
+        logger.debug("Batch fetching {} IDs, {} emails and {} phones", customerIds.size(), emails.size(), phones.size());
+        
+        return new BatchGetResponse(
+            resolve(customerIds, customerRepository::findAllById, Customer::getCustomerId),
+            resolve(emails, customerRepository::findByEmailIn, Customer::getEmail),
+            resolve(phones, customerRepository::findByPhoneIn, Customer::getPhone)
+        );
+    }
+    
+    /**
+     * Looks up distinct keys with one query and lays the matches out in request order.
+     */
+    private List<BatchGetResponse.Result> resolve(List<String> keys,
+                                                  Function<Set<String>, Iterable<Customer>> query,
+                                                  Function<Customer, String> keyOf) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<CustomerResponse>> matches = new HashMap<>();
+        for (Customer customer : query.apply(new LinkedHashSet<>(keys))) {
+            matches.computeIfAbsent(keyOf.apply(customer), key -> new ArrayList<>())
+                .add(customerMapper.toResponse(customer));
+        }
+        return keys.stream()
+            .map(key -> BatchGetResponse.Result.of(key, matches.getOrDefault(key, List.of())))
+            .toList();
+    }
+    
+    private static List<String> nullToEmpty(List<String> keys) {
+        return keys == null ? List.of() : keys;
+    }
+    
+    /**
+     * Fails updates whose new email is requested by an earlier item or already held by a customer
+     * outside the batch, removing them from {@code changesByPosition}. Existing holders are looked
+     * up with one {@code $in} query; the unique index still rejects emails taken concurrently.
+     */
+    private void rejectTakenEmails(List<BulkUpdateItem> items, Map<Integer, Map<String, Object>> changesByPosition,
+                                   BulkItemResult[] results) {
+        Map<String, Integer> requestedEmails = new LinkedHashMap<>();
+        Iterator<Map.Entry<Integer, Map<String, Object>>> iterator = changesByPosition.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Map<String, Object>> entry = iterator.next();
+            Object email = entry.getValue().get("email");
+            if (email != null && requestedEmails.putIfAbsent((String) email, entry.getKey()) != null) {
+                int i = entry.getKey();
+                results[i] = BulkItemResult.failed(i, items.get(i).customerId(),
+                    "Email '" + email + "' appears more than once in the request");
+                iterator.remove();
+            }
+        }
+        if (requestedEmails.isEmpty()) {
+            return;
+        }
+        
+        for (Customer holder : customerRepository.findByEmailIn(requestedEmails.keySet())) {
+            Integer i = requestedEmails.get(holder.getEmail());
+            if (i != null && !holder.getCustomerId().equals(items.get(i).customerId())) {
+                results[i] = BulkItemResult.failed(i, items.get(i).customerId(),
+                    new DuplicateEmailException(holder.getEmail()).getMessage());
+                changesByPosition.remove(i);
+            }
+        }
+    }
+    
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain at least one item");
+        }
+        if (items.size() > bulkProperties.maxItems()) {
+            throw new IllegalArgumentException(
+                "Bulk request must not contain more than " + bulkProperties.maxItems() + " items");
+        }
+    }
+    
+    /**
+     * Validates a bulk item against its bean validation constraints.
+     * 
+     * @return the violation messages, or null if the item is valid
+     */
+    private String validate(Object item) {
+        if (item == null) {
+            return "Item must not be null";
+        }
+        Set<? extends ConstraintViolation<?>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+    
+    /**
+     * Removes customers deleted by a bulk delete, which raises no per-customer delete events, from
+     * the Lucene search index.
+     */
+    private void unindex(List<String> customerIds) {
+        searchIndex.ifPresent(index -> {
+            try {
+                index.removeAll(customerIds);
+            } catch (RuntimeException ex) {
+                logger.error("Failed to remove {} customers from the search index", customerIds.size(), ex);
+            }
+        });
+    }
+    
+    /**
+     * Reloads customers changed by an {@code updateMany} into the Lucene search index. The customers
+     * are only read when the index is enabled.
+     */
+    private void reindexById(List<String> customerIds) {
+        if (searchIndex.isPresent()) {
+            List<Customer> customers = new ArrayList<>();
+            customerRepository.findAllById(customerIds).forEach(customers::add);
+            reindex(customers);
+        }
+    }
+    
+    /**
+     * Applies customers written by bulk operations to the Lucene search index in one batch. Bulk
+     * updates raise no save events, and bulk inserts have theirs ignored so that each customer is
+     * indexed once. Index failures are logged; MongoDB remains the source of truth.
+     */
+    private void reindex(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        searchIndex.ifPresent(index -> {
+            try {
+                index.indexAll(customers);
+            } catch (RuntimeException ex) {
+                logger.error("Failed to index {} customers", customers.size(), ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.repository.CustomerFilter;
+import com.example.customerservice.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service class for exporting customers as newline-delimited JSON (NDJSON).
+ * 
+ * <p>Customers are read from a MongoDB cursor and written to the output as they arrive, one
+ * {@code CustomerResponse} per line. Neither the query nor the output is paged, so there are no
+ * skip or count queries, and memory use stays constant regardless of the collection size.</p>
+ * 
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CustomerExportService {
+    
+    /**
+     * Number of customers fetched from MongoDB per cursor round trip.
+     */
+    static final int CURSOR_BATCH_SIZE = 1000;
+    
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    
+    private static final Logger logger = LoggerFactory.getLogger(CustomerExportService.class);
+    
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final ObjectWriter lineWriter;
+    
+    /**
+     * Constructs a new CustomerExportService with the required dependencies.
+     * 
+     * @param customerRepository the repository for customer data access
+     * @param customerMapper the mapper for converting entities to response DTOs
+     * @param objectMapper the application's JSON mapper, so exported lines match API responses
+     */
+    public CustomerExportService(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                                 ObjectMapper objectMapper) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.lineWriter = objectMapper.writer();
+    }
+    
+    /**
+     * Writes every customer selected by the filter to the output, one JSON document per line.
+     * 
+     * <p>The output is buffered and flushed at the end but not closed. The MongoDB cursor is closed
+     * when the export completes or fails, e.g. because the client disconnected.</p>
+     * 
+     * @param filter the customers to export (an empty filter exports every customer)
+     * @param output the stream to write to
+     * @return the number of customers written
+     * @throws UncheckedIOException if writing to the output fails
+     */
+    public long exportCustomers(CustomerFilter filter, OutputStream output) {
+        logger.info("Exporting customers matching {}", filter);
+        
+        long exported = 0;
+        try (Stream<Customer> customers = customerRepository.streamByFilter(filter, CURSOR_BATCH_SIZE)) {
+            OutputStream buffered = new BufferedOutputStream(output, OUTPUT_BUFFER_SIZE);
+            Iterator<Customer> iterator = customers.iterator();
+            while (iterator.hasNext()) {
+                buffered.write(lineWriter.writeValueAsBytes(customerMapper.toResponse(iterator.next())));
+                buffered.write('\n');
+                exported++;
+            }
+            buffered.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Customer export aborted after " + exported + " customers", ex);
+        }
+        
+        logger.info("Exported {} customers", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.config.BulkProperties;
+import com.example.customerservice.config.ImportProperties;
+import com.example.customerservice.dto.BulkItemResult;
+import com.example.customerservice.dto.BulkOperationResponse;
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.ImportEvent;
+import com.example.customerservice.dto.ImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for importing customers from NDJSON or CSV uploads.
+ *
+ * <p>The upload is read line by line and never held in memory as a whole. Parsed rows are collected
+ * into batches that are written with {@link CustomerBulkService#createCustomers(List)}, so every row
+ * gets the same validation and duplicate email handling as a bulk create.</p>
+ *
+ * <p>Reading and writing alternate on the request thread: no further rows are read while a batch is
+ * being written, so a slow database slows the upload down through TCP flow control instead of
+ * rows piling up in memory. The batch size additionally follows the write latency, halving when a
+ * bulk insert exceeds {@code customer-service.import.target-write-latency} and growing again while
+ * inserts are fast, which keeps each insert short for concurrent traffic.</p>
+ *
+ * <p>Rejected rows and progress are written to the report as NDJSON while the import runs.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CustomerImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerImportService.class);
+
+    private static final Set<String> CSV_COLUMNS = Set.of(
+        "firstName", "lastName", "email", "phone", "address", "dateOfBirth", "customerStatus");
+
+    private final CustomerBulkService customerBulkService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final ObjectWriter eventWriter;
+    private final int maxBatchSize;
+    private final int minBatchSize;
+    private final long targetWriteNanos;
+
+    /**
+     * Constructs a new CustomerImportService with the required dependencies.
+     *
+     * @param customerBulkService the service writing each batch
+     * @param objectMapper the application's JSON mapper
+     * @param importProperties the batch size and latency settings
+     * @param bulkProperties the bulk limits, which cap the batch size
+     */
+    public CustomerImportService(CustomerBulkService customerBulkService, ObjectMapper objectMapper,
+                                 ImportProperties importProperties, BulkProperties bulkProperties) {
+        this.customerBulkService = customerBulkService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CreateCustomerRequest.class);
+        this.eventWriter = objectMapper.writerFor(ImportEvent.class);
+        this.maxBatchSize = Math.min(importProperties.batchSize(), bulkProperties.maxItems());
+        this.minBatchSize = Math.max(1, Math.min(importProperties.minBatchSize(), maxBatchSize));
+        this.targetWriteNanos = importProperties.targetWriteLatency().toNanos();
+    }
+
+    /**
+     * Imports every row of an upload and streams the report.
+     *
+     * <p>Blank lines are skipped. Rows that cannot be parsed, fail validation or repeat an existing
+     * email are reported and skipped; the import continues with the next row. The report is flushed
+     * after every batch.</p>
+     *
+     * @param input the upload
+     * @param format the format of the upload
+     * @param report the stream the NDJSON report is written to
+     * @return the final event of the report
+     * @throws IllegalArgumentException if a CSV upload has no header row or names unknown columns;
+     *         this is detected before anything is written to the report
+     * @throws UncheckedIOException if reading the upload or writing the report fails
+     */
+    public ImportEvent importCustomers(InputStream input, ImportFormat format, OutputStream report) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            RowParser parser;
+            long lineNumber = 0;
+            if (format == ImportFormat.CSV) {
+                parser = csvParser(reader.readLine());
+                lineNumber++;
+            } else {
+                parser = requestReader::readValue;
+            }
+            logger.info("Importing customers from {} upload", format);
+
+            Batch batch = new Batch(report);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.rowsRead++;
+                try {
+                    batch.add(lineNumber, parser.parse(line));
+                } catch (JsonProcessingException ex) {
+                    batch.reject(lineNumber, "Invalid row: " + ex.getOriginalMessage());
+                } catch (IllegalArgumentException ex) {
+                    batch.reject(lineNumber, "Invalid row: " + ex.getMessage());
+                }
+                if (batch.isFull()) {
+                    batch.write();
+                }
+            }
+            batch.write();
+
+            ImportEvent completed = ImportEvent.completed(batch.rowsRead, batch.created, batch.failed);
+            emit(report, completed);
+            report.flush();
+            logger.info("Import finished: {} rows read, {} created, {} failed", batch.rowsRead, batch.created, batch.failed);
+            return completed;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Customer import aborted", ex);
+        }
+    }
+
+    /**
+     * Next batch size for a batch write of the given duration: halved when the write was slower than
+     * the target, grown by a quarter when it took less than half the target, unchanged otherwise.
+     */
+    int nextBatchSize(int batchSize, long writeNanos) {
+        if (writeNanos > targetWriteNanos) {
+            return Math.max(minBatchSize, batchSize / 2);
+        }
+        if (writeNanos < targetWriteNanos / 2) {
+            return Math.min(maxBatchSize, batchSize + Math.max(1, batchSize / 4));
+        }
+        return batchSize;
+    }
+
+    private RowParser csvParser(String header) {
+        if (header == null || header.isBlank()) {
+            throw new IllegalArgumentException("CSV upload must start with a header row");
+        }
+        List<String> columns = splitCsv(header).stream().map(String::trim).toList();
+        for (String column : columns) {
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + column);
+            }
+        }
+        return line -> {
+            List<String> values = splitCsv(line);
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException(
+                    "Expected " + columns.size() + " columns but found " + values.size());
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                String value = values.get(i).trim();
+                row.put(columns.get(i), value.isEmpty() ? null : value);
+            }
+            return objectMapper.convertValue(row, CreateCustomerRequest.class);
+        };
+    }
+
+    /**
+     * Splits one CSV line into fields. Fields may be quoted, with quotes inside quoted fields
+     * doubled; quoted fields spanning several lines are not supported.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void emit(OutputStream report, ImportEvent event) throws IOException {
+        report.write(eventWriter.writeValueAsBytes(event));
+        report.write('\n');
+    }
+
+    /**
+     * Parses one line of an upload into a create request.
+     */
+    @FunctionalInterface
+    private interface RowParser {
+        CreateCustomerRequest parse(String line) throws JsonProcessingException;
+    }
+
+    /**
+     * Rows collected for the next bulk insert, with the running totals of the import.
+     */
+    private final class Batch {
+
+        private final OutputStream report;
+        private List<CreateCustomerRequest> requests = new ArrayList<>();
+        private List<Long> lines = new ArrayList<>();
+        private int size = maxBatchSize;
+        private long rowsRead;
+        private long created;
+        private long failed;
+
+        private Batch(OutputStream report) {
+            this.report = report;
+        }
+
+        private void add(long line, CreateCustomerRequest request) {
+            requests.add(request);
+            lines.add(line);
+        }
+
+        private void reject(long line, String error) throws IOException {
+            failed++;
+            emit(report, ImportEvent.rowFailed(line, error));
+        }
+
+        private boolean isFull() {
+            return requests.size() >= size;
+        }
+
+        private void write() throws IOException {
+            if (requests.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            BulkOperationResponse response = customerBulkService.createCustomers(requests);
+            long writeNanos = System.nanoTime() - start;
+
+            created += response.succeeded();
+            for (BulkItemResult item : response.items()) {
+                if (item.outcome() == BulkItemResult.Outcome.FAILED) {
+                    reject(lines.get(item.index()), item.error());
+                }
+            }
+            size = nextBatchSize(size, writeNanos);
+            emit(report, ImportEvent.progress(rowsRead, created, failed, size, writeNanos / 1_000_000));
+            report.flush();
+            requests = new ArrayList<>(size);
+            lines = new ArrayList<>(size);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerListResponse.CustomerSummary;
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.model.SearchKeys;
+import com.example.customerservice.repository.CustomerCursor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds list responses and records listing metrics for {@link CustomerService} and
+ * {@link ReactiveCustomerService}, so both stacks answer listings identically.
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class CustomerListAssembler {
+
+    /**
+     * Order of suggestions: last name, then first name, ignoring case and accents.
+     */
+    static final Comparator<Customer> SUGGESTION_ORDER = Comparator
+        .comparing((Customer customer) -> SearchKeys.normalize(customer.getLastName()),
+            Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(customer -> SearchKeys.normalize(customer.getFirstName()),
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final CustomerMapper customerMapper;
+    private final MeterRegistry meterRegistry;
+
+    CustomerListAssembler(CustomerMapper customerMapper, MeterRegistry meterRegistry) {
+        this.customerMapper = customerMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    CustomerListResponse toListResponse(Slice<Customer> customerSlice) {
+        return toListResponse(customerSlice, null);
+    }
+
+    CustomerListResponse toListResponse(Slice<Customer> customerSlice, Map<CustomerStatus, Long> statusCounts) {
+        List<Customer> content = customerSlice.getContent();
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (customerSlice instanceof Page<Customer> customerPage) {
+            totalElements = customerPage.getTotalElements();
+            totalPages = customerPage.getTotalPages();
+        }
+        return new CustomerListResponse(
+            content.stream()
+                .map(customerMapper::toSummary)
+                .toList(),
+            customerSlice.getNumber(),
+            customerSlice.getSize(),
+            totalElements,
+            totalPages,
+            customerSlice.hasNext(),
+            customerSlice.hasPrevious(),
+            customerSlice.hasNext() ? nextCursor(content) : null,
+            statusCounts
+        );
+    }
+
+    /**
+     * Builds a list response from a keyset query that fetched one row more than the page size;
+     * the presence of that extra row is what signals a next page.
+     */
+    CustomerListResponse toKeysetResponse(List<Customer> customers, int size, Long total, boolean hasPrevious) {
+        boolean hasNext = customers.size() > size;
+        List<Customer> content = hasNext ? customers.subList(0, size) : customers;
+        return new CustomerListResponse(
+            content.stream()
+                .map(customerMapper::toSummary)
+                .toList(),
+            0,
+            size,
+            total,
+            total != null ? (int) ((total + size - 1) / size) : null,
+            hasNext,
+            hasPrevious,
+            hasNext ? nextCursor(content) : null
+        );
+    }
+
+    List<CustomerSummary> toSuggestions(List<Customer> customers) {
+        return customers.stream()
+            .sorted(SUGGESTION_ORDER)
+            .map(customerMapper::toSummary)
+            .toList();
+    }
+
+    /**
+     * Number of Mongo queries behind a {@link Page}. Mirrors Spring Data's
+     * {@code PageableExecutionUtils}, which skips the count query when the page content
+     * already reveals the total.
+     */
+    static int queriesIssued(Page<?> page) {
+        boolean partial = page.getNumberOfElements() < page.getSize();
+        boolean countSkipped = partial && (page.getNumber() == 0 || page.getNumberOfElements() > 0);
+        return countSkipped ? 1 : 2;
+    }
+
+    void recordListQueries(boolean includeTotal, int queries) {
+        recordListQueries(includeTotal ? "counted" : "count-free", queries);
+    }
+
+    void recordListQueries(String mode, int queries) {
+        DistributionSummary.builder("customers.list.queries")
+            .description("Mongo queries issued per customer list or search request")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .record(queries);
+    }
+
+    private String nextCursor(List<Customer> content) {
+        if (content.isEmpty()) {
+            return null;
+        }
+        CustomerCursor cursor = CustomerCursor.after(content.get(content.size() - 1));
+        return cursor != null ? cursor.encode() : null;
+    }
+}
@@ -1,25 +1,48 @@
 package com.example.customerservice.service;
 
+import com.example.customerservice.cache.CustomerCache;
+import com.example.customerservice.cache.CustomerQueryCache;
+import com.example.customerservice.cache.CustomerQueryCache.IdPage;
+import com.example.customerservice.cache.CustomerQueryCache.QueryFamily;
+import com.example.customerservice.cache.CustomerQueryCache.QueryKey;
+import com.example.customerservice.cache.SingleFlight;
 import com.example.customerservice.dto.CreateCustomerRequest;
 import com.example.customerservice.dto.UpdateCustomerRequest;
 import com.example.customerservice.dto.CustomerResponse;
 import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerListResponse.CustomerSummary;
 import com.example.customerservice.exception.CustomerNotFoundException;
 import com.example.customerservice.exception.DuplicateEmailException;
 import com.example.customerservice.mapper.CustomerMapper;
 import com.example.customerservice.model.Customer;
 import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerCursor;
+import com.example.customerservice.repository.CustomerStatusCountPage;
 import com.example.customerservice.repository.CustomerRepository;
+import com.example.customerservice.repository.CustomerRepositoryImpl;
+import com.example.customerservice.search.LuceneCustomerIndex;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Service class for managing customer operations.
@@ -31,7 +54,10 @@ import java.util.UUID;
  *   <li>Updating existing customer information</li>
  *   <li>Deleting customers</li>
  *   <li>Email uniqueness validation</li>
- *   <li>Pagination and filtering support</li>
+ *   <li>Offset and keyset (cursor) pagination with filtering support</li>
+ *   <li>Prefix suggestions for autocomplete</li>
+ *   <li>Caching of single customers and of offset listing and search pages</li>
+ *   <li>Coalescing of concurrent identical reads into one MongoDB call</li>
  * </ul>
  * 
  * <p>All operations are transactional and include comprehensive logging and error handling.</p>
@@ -41,30 +67,53 @@ import java.util.UUID;
  * @since 1.0.0
  */
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Transactional
 public class CustomerService {
     
     private static final Logger logger = LoggerFactory.getLogger(CustomerService.class);
     
+    static final int MAX_UPDATE_ATTEMPTS = 3;
+    
+    static final int DEFAULT_SUGGESTIONS = 10;
+    static final int MAX_SUGGESTIONS = 25;
+    
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final CustomerCache customerCache;
+    private final CustomerQueryCache queryCache;
+    private final Optional<LuceneCustomerIndex> searchIndex;
+    private final CustomerListAssembler listAssembler;
+    private final SingleFlight<VersionedQuery, CustomerListResponse> queryFlights;
     
     /**
      * Constructs a new CustomerService with the required dependencies.
      * 
      * @param customerRepository the repository for customer data access
      * @param customerMapper the mapper for converting between entities and DTOs
+     * @param customerCache the read cache of single customers
+     * @param queryCache the result cache of listings and searches
+     * @param meterRegistry the registry for publishing service metrics
+     * @param searchIndex the Lucene search index, present when {@code customer-service.search.engine=lucene}
      */
-    public CustomerService(CustomerRepository customerRepository, CustomerMapper customerMapper) {
+    public CustomerService(CustomerRepository customerRepository, CustomerMapper customerMapper,
+                           CustomerCache customerCache, CustomerQueryCache queryCache,
+                           MeterRegistry meterRegistry, Optional<LuceneCustomerIndex> searchIndex) {
         this.customerRepository = customerRepository;
         this.customerMapper = customerMapper;
+        this.customerCache = customerCache;
+        this.queryCache = queryCache;
+        this.searchIndex = searchIndex;
+        this.listAssembler = new CustomerListAssembler(customerMapper, meterRegistry);
+        this.queryFlights = new SingleFlight<>(meterRegistry, "query");
     }
     
     /**
      * Creates a new customer in the system.
      * 
-     * <p>This method validates that the email address is unique before creating the customer.
-     * A unique customer ID is automatically generated and assigned.</p>
+     * <p>The customer is written with a single {@code insert}; email uniqueness is enforced by the
+     * unique email index rather than a separate lookup, so concurrent creates with the same email
+     * cannot both succeed. A unique customer ID is automatically generated and assigned.</p>
      * 
      * @param request the customer creation request containing customer details
      * @return the created customer as a response DTO
@@ -73,41 +122,83 @@ public class CustomerService {
     public CustomerResponse createCustomer(CreateCustomerRequest request) {
         logger.info("Creating customer with email: {}", request.email());
         
-        // Check for duplicate email
-        if (customerRepository.existsByEmail(request.email())) {
-            throw new DuplicateEmailException(request.email());
-        }
-        
         // Convert DTO to entity
         Customer customer = customerMapper.toEntity(request);
         customer.setCustomerId(UUID.randomUUID().toString());
         
-        // Save customer
-        Customer savedCustomer = customerRepository.save(customer);
+        // Insert customer; an assigned ID would otherwise turn save() into an upsert
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.insert(customer);
+        } catch (DuplicateKeyException ex) {
+            throw new DuplicateEmailException(request.email(), ex);
+        }
+        queryCache.invalidateAll();
         logger.info("Customer created successfully with ID: {}", savedCustomer.getCustomerId());
         
         return customerMapper.toResponse(savedCustomer);
     }
     
+    /**
+     * Retrieves a customer by ID.
+     * 
+     * <p>Served from the {@link CustomerCache}; MongoDB is only read on a miss, and concurrent
+     * misses for the same customer share one read, also when the cache is disabled.</p>
+     * 
+     * @param customerId the ID of the customer
+     * @return the customer as a response DTO
+     * @throws CustomerNotFoundException if no customer exists with the given ID
+     */
     @Transactional(readOnly = true)
     public CustomerResponse getCustomerById(String customerId) {
         logger.debug("Fetching customer with ID: {}", customerId);
         
-        Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new CustomerNotFoundException(customerId));
-        
-        return customerMapper.toResponse(customer);
+        return customerCache.get(customerId, id -> customerMapper.toResponse(customerRepository.findById(id)
+            .orElseThrow(() -> new CustomerNotFoundException(id))));
     }
     
     @Transactional(readOnly = true)
     public CustomerListResponse getCustomers(int page, int size, CustomerStatus status) {
-        logger.debug("Fetching customers - page: {}, size: {}, status: {}", page, size, status);
+        return getCustomers(page, size, status, true);
+    }
+    
+    /**
+     * Retrieves a page of customers using offset pagination.
+     * 
+     * <p>When {@code includeTotal} is false the listing is served as a {@link Slice}: one extra row
+     * is fetched to compute {@code hasNext} and no count query is issued, so
+     * {@code totalElements} and {@code totalPages} are omitted from the response.</p>
+     * 
+     * <p>Pages are served from the {@link CustomerQueryCache} until a write changes a customer's
+     * status or the set of customers.</p>
+     * 
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param status optional status filter
+     * @param includeTotal whether to run a count query and report totals
+     * @return the requested page of customers
+     */
+    @Transactional(readOnly = true)
+    public CustomerListResponse getCustomers(int page, int size, CustomerStatus status, boolean includeTotal) {
+        logger.debug("Fetching customers - page: {}, size: {}, status: {}, includeTotal: {}",
+            page, size, status, includeTotal);
         
         // Validate page parameters
         if (page < 0) page = 0;
         if (size <= 0 || size > 1000) size = 10;
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+        
+        QueryKey key = new QueryKey(QueryFamily.LISTING, "list", "status=" + status + ",total=" + includeTotal, page, size);
+        return cachedPage(key, () -> listCustomers(pageable, status, includeTotal));
+    }
+    
+    private CustomerListResponse listCustomers(Pageable pageable, CustomerStatus status, boolean includeTotal) {
+        if (!includeTotal) {
+            Slice<Customer> customerSlice = customerRepository.findSliceByCustomerStatus(status, pageable);
+            listAssembler.recordListQueries(false, 1);
+            return listAssembler.toListResponse(customerSlice);
+        }
         
         Page<Customer> customerPage;
         if (status != null) {
@@ -115,77 +206,354 @@ public class CustomerService {
         } else {
             customerPage = customerRepository.findAll(pageable);
         }
+        listAssembler.recordListQueries(true, CustomerListAssembler.queriesIssued(customerPage));
         
-        return new CustomerListResponse(
-            customerPage.getContent().stream()
-                .map(customerMapper::toSummary)
-                .toList(),
-            customerPage.getNumber(),
-            customerPage.getSize(),
-            customerPage.getTotalElements(),
-            customerPage.getTotalPages(),
-            customerPage.hasNext(),
-            customerPage.hasPrevious()
-        );
+        return listAssembler.toListResponse(customerPage);
     }
     
-    public CustomerResponse updateCustomer(String customerId, UpdateCustomerRequest request) {
-        logger.info("Updating customer with ID: {}", customerId);
+    /**
+     * Retrieves a page of customers using keyset pagination.
+     * 
+     * <p>Instead of skipping {@code page * size} documents, the query resumes directly after the
+     * position encoded in the cursor, so every page costs the same as the first one.</p>
+     * 
+     * @param cursor opaque cursor returned as {@code nextCursor} by a previous call (null or blank for the first page)
+     * @param size number of customers per page
+     * @param status optional status filter
+     * @param includeTotal whether to run a count query and report totals
+     * @return the page of customers following the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CustomerListResponse getCustomersAfter(String cursor, int size, CustomerStatus status, boolean includeTotal) {
+        logger.debug("Fetching customers - cursor: {}, size: {}, status: {}, includeTotal: {}",
+            cursor, size, status, includeTotal);
         
-        Customer existingCustomer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new CustomerNotFoundException(customerId));
+        if (size <= 0 || size > 1000) size = 10;
         
-        // Check for duplicate email if email is being updated
-        if (request.email() != null
-            && !request.email().equals(existingCustomer.getEmail())
-            && customerRepository.existsByEmailAndCustomerIdNot(request.email(), customerId)) {
-            throw new DuplicateEmailException(request.email());
+        CustomerCursor after = CustomerCursor.decode(cursor);
+        List<Customer> customers = customerRepository.findByCustomerStatusAfter(status, after, size + 1);
+        Long total = null;
+        if (includeTotal) {
+            total = status != null
+                ? customerRepository.countByCustomerStatus(status)
+                : customerRepository.count();
         }
+        listAssembler.recordListQueries(includeTotal, includeTotal ? 2 : 1);
         
-        // Update entity from request
-        customerMapper.updateEntityFromRequest(request, existingCustomer);
+        return listAssembler.toKeysetResponse(customers, size, total, after != null);
+    }
+    
+    /**
+     * Retrieves a page of customers together with the number of customers in each status.
+     * 
+     * <p>Backed by an indexed page query plus one {@code $group} aggregation for the counts, this
+     * replaces one count request per {@link CustomerStatus} plus the page request that dashboards
+     * would otherwise issue.</p>
+     * 
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param status optional status filter for the page; counts always cover every status
+     * @return the requested page with totals and per-status counts
+     */
+    @Transactional(readOnly = true)
+    public CustomerListResponse getCustomersWithStatusCounts(int page, int size, CustomerStatus status) {
+        logger.debug("Fetching customers with status counts - page: {}, size: {}, status: {}", page, size, status);
+        
+        // Validate page parameters
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 1000) size = 10;
+        
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+        CustomerStatusCountPage statusCountPage = customerRepository.findPageWithStatusCounts(status, pageable);
+        listAssembler.recordListQueries("status-counts", 2);
         
-        // Save updated customer
-        Customer updatedCustomer = customerRepository.save(existingCustomer);
-        logger.info("Customer updated successfully with ID: {}", updatedCustomer.getCustomerId());
+        long total = status != null ? statusCountPage.statusCounts().get(status) : statusCountPage.total();
+        Page<Customer> customerPage = new PageImpl<>(statusCountPage.customers(), pageable, total);
         
-        return customerMapper.toResponse(updatedCustomer);
+        return listAssembler.toListResponse(customerPage, statusCountPage.statusCounts());
+    }
+    
+    /**
+     * Updates the fields of a customer that the request actually changes.
+     * 
+     * <p>The stored customer is read once and diffed against the request. A request that changes
+     * nothing returns the stored customer without writing, leaving {@code updatedAt} untouched.
+     * Otherwise a single {@code findAndModify} sets only the changed fields (plus the derived
+     * search fields when a name or the email changes) and returns the new document. The write is
+     * conditional on the stored values, so a concurrent update causes a re-read and a new diff
+     * rather than a lost update. Email uniqueness is enforced by the unique email index.</p>
+     * 
+     * @param customerId the ID of the customer to update
+     * @param request the fields to update; null fields are left unchanged
+     * @return the updated customer as a response DTO
+     * @throws CustomerNotFoundException if no customer exists with the given ID
+     * @throws DuplicateEmailException if the new email belongs to another customer
+     * @throws OptimisticLockingFailureException if concurrent updates kept winning for {@value #MAX_UPDATE_ATTEMPTS} attempts
+     */
+    public CustomerResponse updateCustomer(String customerId, UpdateCustomerRequest request) {
+        logger.info("Updating customer with ID: {}", customerId);
+        
+        for (int attempt = 1; ; attempt++) {
+            Customer existingCustomer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+            
+            Map<String, Object> changes = customerMapper.changedFields(request, existingCustomer);
+            if (changes.isEmpty()) {
+                logger.info("Customer {} unchanged; skipping write", customerId);
+                return customerMapper.toResponse(existingCustomer);
+            }
+            
+            Optional<Customer> updatedCustomer;
+            try {
+                updatedCustomer = customerRepository.updateChangedFields(existingCustomer, changes);
+            } catch (DuplicateKeyException ex) {
+                throw new DuplicateEmailException(request.email(), ex);
+            }
+            
+            if (updatedCustomer.isPresent()) {
+                customerCache.invalidate(customerId);
+                queryCache.invalidate(CustomerQueryCache.affectedBy(changes.keySet()));
+                logger.info("Customer updated successfully with ID: {}, fields: {}", customerId, changes.keySet());
+                reindex(updatedCustomer.get());
+                return customerMapper.toResponse(updatedCustomer.get());
+            }
+            if (attempt == MAX_UPDATE_ATTEMPTS) {
+                throw new OptimisticLockingFailureException(
+                    "Customer " + customerId + " was modified concurrently; retry the update");
+            }
+            logger.debug("Customer {} changed or was deleted since it was read; retrying update", customerId);
+        }
     }
     
     public void deleteCustomer(String customerId) {
         logger.info("Deleting customer with ID: {}", customerId);
         
-        if (!customerRepository.existsById(customerId)) {
+        long deleted = customerRepository.deleteByCustomerId(customerId);
+        customerCache.invalidate(customerId);
+        if (deleted == 0) {
             throw new CustomerNotFoundException(customerId);
         }
-        
-        customerRepository.deleteById(customerId);
+        queryCache.invalidateAll();
         logger.info("Customer deleted successfully with ID: {}", customerId);
     }
     
     @Transactional(readOnly = true)
     public CustomerListResponse searchCustomers(String name, int page, int size) {
-        logger.debug("Searching customers with name: {}, page: {}, size: {}", name, page, size);
+        return searchCustomers(name, page, size, true);
+    }
+    
+    /**
+     * Searches customers by name using offset pagination.
+     * 
+     * <p>Terms of three or more characters are narrowed through the trigram index before the
+     * case-insensitive match; shorter terms fall back to an unanchored regex, whose count query
+     * scans the collection. Pass {@code includeTotal = false} to skip the count.</p>
+     * 
+     * <p>When the Lucene engine is enabled and loaded, the search is answered from the in-memory
+     * index instead: it matches name, email, phone and address, tolerates typos and orders results
+     * by relevance, without querying MongoDB. Relevance-ordered pages carry no {@code nextCursor}.</p>
+     * 
+     * <p>Otherwise pages are served from the {@link CustomerQueryCache}, keyed by the name ignoring
+     * case, until a write changes a name or the set of customers.</p>
+     * 
+     * @param name name fragment to search for (first or last name)
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param includeTotal whether to run a count query and report totals
+     * @return the requested page of matching customers
+     */
+    @Transactional(readOnly = true)
+    public CustomerListResponse searchCustomers(String name, int page, int size, boolean includeTotal) {
+        logger.debug("Searching customers with name: {}, page: {}, size: {}, includeTotal: {}",
+            name, page, size, includeTotal);
         
         // Validate page parameters
         if (page < 0) page = 0;
         if (size <= 0 || size > 1000) size = 10;
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
         
-        Page<Customer> customerPage = customerRepository
-            .findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(name, name, pageable);
+        Optional<LuceneCustomerIndex> readyIndex = searchIndex.filter(LuceneCustomerIndex::isReady);
+        if (readyIndex.isPresent()) {
+            Slice<Customer> customerSlice = readyIndex.get().search(name, PageRequest.of(page, size), includeTotal);
+            listAssembler.recordListQueries("lucene", 0);
+            return listAssembler.toListResponse(customerSlice);
+        }
         
-        return new CustomerListResponse(
-            customerPage.getContent().stream()
-                .map(customerMapper::toSummary)
-                .toList(),
-            customerPage.getNumber(),
-            customerPage.getSize(),
-            customerPage.getTotalElements(),
-            customerPage.getTotalPages(),
-            customerPage.hasNext(),
-            customerPage.hasPrevious()
-        );
+        QueryKey key = new QueryKey(QueryFamily.NAME_SEARCH, "search",
+            "name=" + name.toLowerCase(Locale.ROOT) + ",total=" + includeTotal, page, size);
+        return cachedPage(key, () -> searchByName(name, pageable, includeTotal));
     }
+    
+    private CustomerListResponse searchByName(String name, Pageable pageable, boolean includeTotal) {
+        if (!includeTotal) {
+            Slice<Customer> customerSlice = customerRepository.searchSliceByName(name, pageable);
+            listAssembler.recordListQueries(false, 1);
+            return listAssembler.toListResponse(customerSlice);
+        }
+        
+        Page<Customer> customerPage = customerRepository.searchByName(name, pageable);
+        listAssembler.recordListQueries(true, CustomerListAssembler.queriesIssued(customerPage));
+        
+        return listAssembler.toListResponse(customerPage);
+    }
+    
+    /**
+     * Searches customers whose name sounds like the given name, tolerating misspellings.
+     * 
+     * <p>Each word of the name is reduced to its Double Metaphone keys and matched by equality
+     * against the indexed {@code namePhonetics} field, so "Jon Smyth" finds "John Smith" without
+     * any regex scan.</p>
+     * 
+     * <p>Pages are served from the {@link CustomerQueryCache} like those of {@link #searchCustomers}.</p>
+     * 
+     * @param name the possibly misspelled name (first and/or last name)
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param includeTotal whether to run a count query and report totals
+     * @return the requested page of matching customers
+     * @throws IllegalArgumentException if the name contains no letters
+     */
+    @Transactional(readOnly = true)
+    public CustomerListResponse searchCustomersPhonetic(String name, int page, int size, boolean includeTotal) {
+        logger.debug("Phonetic search for customers with name: {}, page: {}, size: {}, includeTotal: {}",
+            name, page, size, includeTotal);
+        
+        // Validate page parameters
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 1000) size = 10;
+        
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+        
+        QueryKey key = new QueryKey(QueryFamily.NAME_SEARCH, "phonetic",
+            "name=" + name.toLowerCase(Locale.ROOT) + ",total=" + includeTotal, page, size);
+        return cachedPage(key, () -> searchByNamePhonetic(name, pageable, includeTotal));
+    }
+    
+    private CustomerListResponse searchByNamePhonetic(String name, Pageable pageable, boolean includeTotal) {
+        if (!includeTotal) {
+            Slice<Customer> customerSlice = customerRepository.searchSliceByNamePhonetic(name, pageable);
+            listAssembler.recordListQueries(false, 1);
+            return listAssembler.toListResponse(customerSlice);
+        }
+        
+        Page<Customer> customerPage = customerRepository.searchByNamePhonetic(name, pageable);
+        listAssembler.recordListQueries(true, CustomerListAssembler.queriesIssued(customerPage));
+        
+        return listAssembler.toListResponse(customerPage);
+    }
+    
+    /**
+     * Searches customers by name using keyset pagination.
+     * 
+     * @param name name fragment to search for (first or last name)
+     * @param cursor opaque cursor returned as {@code nextCursor} by a previous call (null or blank for the first page)
+     * @param size number of customers per page
+     * @param includeTotal whether to run a count query and report totals
+     * @return the page of matching customers following the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CustomerListResponse searchCustomersAfter(String name, String cursor, int size, boolean includeTotal) {
+        logger.debug("Searching customers with name: {}, cursor: {}, size: {}, includeTotal: {}",
+            name, cursor, size, includeTotal);
+        
+        if (size <= 0 || size > 1000) size = 10;
+        
+        CustomerCursor after = CustomerCursor.decode(cursor);
+        List<Customer> customers = customerRepository.searchByNameAfter(name, after, size + 1);
+        Long total = includeTotal ? customerRepository.countByName(name) : null;
+        listAssembler.recordListQueries(includeTotal, includeTotal ? 2 : 1);
+        
+        return listAssembler.toKeysetResponse(customers, size, total, after != null);
+    }
+    
+    /**
+     * Suggests customers whose first name, last name or email starts with the given prefix.
+     * 
+     * <p>Matching ignores case and accents and runs as anchored range scans on the normalized
+     * key indexes; no count is issued. Suggestions are ordered by last name, then first name.</p>
+     * 
+     * @param prefix the prefix typed so far
+     * @param limit maximum number of suggestions (defaults to {@value #DEFAULT_SUGGESTIONS},
+     *              capped at {@value #MAX_SUGGESTIONS})
+     * @return lightweight summaries of the matching customers
+     * @throws IllegalArgumentException if the prefix is blank
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerSummary> suggestCustomers(String prefix, int limit) {
+        logger.debug("Suggesting customers for prefix: {}, limit: {}", prefix, limit);
+        
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Suggestion prefix must not be blank");
+        }
+        if (limit <= 0) limit = DEFAULT_SUGGESTIONS;
+        limit = Math.min(limit, MAX_SUGGESTIONS);
+        
+        return listAssembler.toSuggestions(customerRepository.suggestByPrefix(prefix, limit));
+    }
+    
+    /**
+     * Serves an offset page from the {@link CustomerQueryCache}, running the query on a miss. A
+     * cached page is rebuilt from its customer IDs, taken from the {@link CustomerCache} or else
+     * read with one {@code $in} query; if any of them no longer exists, the page is queried again.
+     * 
+     * <p>Concurrent identical queries, cached or not, share one run. Runs are keyed by the family
+     * version too, so a query started after a write never joins one started before it.</p>
+     */
+    private CustomerListResponse cachedPage(QueryKey key, Supplier<CustomerListResponse> query) {
+        if (queryCache.isEnabled()) {
+            IdPage cached = queryCache.get(key);
+            if (cached != null) {
+                List<CustomerSummary> customers = summaries(cached.customerIds());
+                if (customers != null) {
+                    return cached.toResponse(customers, key.page(), key.size());
+                }
+            }
+        }
+        long version = queryCache.version(key.family());
+        return queryFlights.execute(new VersionedQuery(key, version), () -> {
+            CustomerListResponse response = query.get();
+            if (queryCache.isEnabled()) {
+                queryCache.put(key, version, IdPage.of(response));
+            }
+            return response;
+        });
+    }
+    
+    /**
+     * Reads the summaries of the given customers, in order, or returns null if any is missing.
+     */
+    private List<CustomerSummary> summaries(List<String> customerIds) {
+        Map<String, CustomerSummary> summariesById = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String customerId : customerIds) {
+            CustomerResponse cached = customerCache.getIfPresent(customerId);
+            if (cached != null) {
+                summariesById.put(customerId, customerMapper.toSummary(cached));
+            } else {
+                uncached.add(customerId);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            customerRepository.findAllById(uncached)
+                .forEach(customer -> summariesById.put(customer.getCustomerId(), customerMapper.toSummary(customer)));
+        }
+        if (summariesById.size() < customerIds.size()) {
+            return null;
+        }
+        listAssembler.recordListQueries("cached", uncached.isEmpty() ? 0 : 1);
+        return customerIds.stream().map(summariesById::get).toList();
+    }
+    
+    /**
+     * Applies a write that bypasses the Mongo entity lifecycle events (such as {@code findAndModify})
+     * to the Lucene search index. Index failures are logged; MongoDB remains the source of truth.
+     */
+    private void reindex(Customer customer) {
+        searchIndex.ifPresent(index -> index.tryIndex(customer));
+    }
+    
+    private record VersionedQuery(QueryKey key, long version) {}
 }
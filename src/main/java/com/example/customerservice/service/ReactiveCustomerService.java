@@ -0,0 +1,416 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerListResponse.CustomerSummary;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.UpdateCustomerRequest;
+import com.example.customerservice.exception.CustomerNotFoundException;
+import com.example.customerservice.exception.DuplicateEmailException;
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerCursor;
+import com.example.customerservice.repository.CustomerRepositoryImpl;
+import com.example.customerservice.repository.ReactiveCustomerRepository;
+import com.example.customerservice.search.LuceneCustomerIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variant of {@link CustomerService}, used with the {@code reactive} profile.
+ *
+ * <p>Every operation has the semantics of its {@link CustomerService} counterpart: the same page size
+ * normalization, count-free slices, keyset cursors, compare-and-set updates with retries, Lucene
+ * search when the index is loaded, and the same exceptions, which are delivered as error signals.
+ * Responses are built by the shared {@link CustomerListAssembler}, so both stacks return identical
+ * payloads and record the same {@code customers.list.queries} metric.</p>
+ *
+ * <p>No thread waits for MongoDB: each request is a chain of callbacks on the driver's event loop,
+ * so the number of requests in flight is not bounded by a thread pool.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCustomerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCustomerService.class);
+
+    private final ReactiveCustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final Optional<LuceneCustomerIndex> searchIndex;
+    private final CustomerListAssembler listAssembler;
+
+    /**
+     * Constructs a new ReactiveCustomerService with the required dependencies.
+     *
+     * @param customerRepository the reactive repository for customer data access
+     * @param customerMapper the mapper for converting between entities and DTOs
+     * @param meterRegistry the registry for publishing service metrics
+     * @param searchIndex the Lucene search index, present when {@code customer-service.search.engine=lucene}
+     */
+    public ReactiveCustomerService(ReactiveCustomerRepository customerRepository, CustomerMapper customerMapper,
+                                   MeterRegistry meterRegistry, Optional<LuceneCustomerIndex> searchIndex) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.searchIndex = searchIndex;
+        this.listAssembler = new CustomerListAssembler(customerMapper, meterRegistry);
+    }
+
+    /**
+     * Creates a new customer with a single {@code insert}; see {@link CustomerService#createCustomer}.
+     *
+     * @param request the customer creation request containing customer details
+     * @return the created customer, or a {@link DuplicateEmailException} if the email is taken
+     */
+    public Mono<CustomerResponse> createCustomer(CreateCustomerRequest request) {
+        logger.info("Creating customer with email: {}", request.email());
+
+        Customer customer = customerMapper.toEntity(request);
+        customer.setCustomerId(UUID.randomUUID().toString());
+
+        return customerRepository.insert(customer)
+            .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateEmailException(request.email(), ex))
+            .map(savedCustomer -> {
+                logger.info("Customer created successfully with ID: {}", savedCustomer.getCustomerId());
+                return customerMapper.toResponse(savedCustomer);
+            });
+    }
+
+    /**
+     * Retrieves a customer by ID; see {@link CustomerService#getCustomerById}. Reads go straight to
+     * MongoDB, as the customer cache is only maintained by the servlet stack.
+     *
+     * @param customerId the unique customer identifier
+     * @return the customer, or a {@link CustomerNotFoundException} error if no customer has that ID
+     */
+    public Mono<CustomerResponse> getCustomerById(String customerId) {
+        logger.debug("Fetching customer with ID: {}", customerId);
+
+        return customerRepository.findById(customerId)
+            .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)))
+            .map(customerMapper::toResponse);
+    }
+
+    /**
+     * Retrieves a page of customers using offset pagination; see {@link CustomerService#getCustomers}.
+     *
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param status optional status filter
+     * @param includeTotal whether to run a count query and report totals
+     * @return the requested page of customers
+     */
+    public Mono<CustomerListResponse> getCustomers(int page, int size, CustomerStatus status, boolean includeTotal) {
+        logger.debug("Fetching customers - page: {}, size: {}, status: {}, includeTotal: {}",
+            page, size, status, includeTotal);
+
+        // Validate page parameters
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 1000) size = 10;
+
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+
+        if (!includeTotal) {
+            return sliceResponse(customerRepository.findSliceByCustomerStatus(status, pageable), pageable);
+        }
+
+        Flux<Customer> customers = status != null
+            ? customerRepository.findByCustomerStatus(status, pageable)
+            : customerRepository.findAllBy(pageable);
+        return pageResponse(customers, pageable, () -> status != null
+            ? customerRepository.countByCustomerStatus(status)
+            : customerRepository.count());
+    }
+
+    /**
+     * Retrieves a page of customers using keyset pagination; see {@link CustomerService#getCustomersAfter}.
+     *
+     * @param cursor opaque cursor returned as {@code nextCursor} by a previous call (null or blank for the first page)
+     * @param size number of customers per page
+     * @param status optional status filter
+     * @param includeTotal whether to run a count query and report totals
+     * @return the page of customers following the cursor, or an {@link IllegalArgumentException} if
+     *         the cursor is malformed
+     */
+    public Mono<CustomerListResponse> getCustomersAfter(String cursor, int size, CustomerStatus status, boolean includeTotal) {
+        logger.debug("Fetching customers - cursor: {}, size: {}, status: {}, includeTotal: {}",
+            cursor, size, status, includeTotal);
+
+        int pageSize = size <= 0 || size > 1000 ? 10 : size;
+        return Mono.defer(() -> {
+            CustomerCursor after = CustomerCursor.decode(cursor);
+            Mono<Long> total = null;
+            if (includeTotal) {
+                total = status != null
+                    ? customerRepository.countByCustomerStatus(status)
+                    : customerRepository.count();
+            }
+            return keysetResponse(customerRepository.findByCustomerStatusAfter(status, after, pageSize + 1),
+                total, pageSize, after != null);
+        });
+    }
+
+    /**
+     * Retrieves a page of customers together with the number of customers in each status from an
+     * indexed page query and one {@code $group} aggregation; see
+     * {@link CustomerService#getCustomersWithStatusCounts}.
+     *
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param status optional status filter for the page; counts always cover every status
+     * @return the requested page with totals and per-status counts
+     */
+    public Mono<CustomerListResponse> getCustomersWithStatusCounts(int page, int size, CustomerStatus status) {
+        logger.debug("Fetching customers with status counts - page: {}, size: {}, status: {}", page, size, status);
+
+        // Validate page parameters
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 1000) size = 10;
+
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+        return customerRepository.findPageWithStatusCounts(status, pageable)
+            .map(statusCountPage -> {
+                listAssembler.recordListQueries("status-counts", 2);
+                long total = status != null ? statusCountPage.statusCounts().get(status) : statusCountPage.total();
+                Page<Customer> customerPage = new PageImpl<>(statusCountPage.customers(), pageable, total);
+                return listAssembler.toListResponse(customerPage, statusCountPage.statusCounts());
+            });
+    }
+
+    /**
+     * Updates the fields of a customer that the request actually changes, with the compare-and-set
+     * semantics and retries of {@link CustomerService#updateCustomer}.
+     *
+     * @param customerId the ID of the customer to update
+     * @param request the fields to update; null fields are left unchanged
+     * @return the updated customer, or a {@link CustomerNotFoundException}, {@link DuplicateEmailException}
+     *         or {@link OptimisticLockingFailureException}
+     */
+    public Mono<CustomerResponse> updateCustomer(String customerId, UpdateCustomerRequest request) {
+        logger.info("Updating customer with ID: {}", customerId);
+
+        return updateCustomer(customerId, request, 1);
+    }
+
+    private Mono<CustomerResponse> updateCustomer(String customerId, UpdateCustomerRequest request, int attempt) {
+        return customerRepository.findById(customerId)
+            .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)))
+            .flatMap(existingCustomer -> {
+                Map<String, Object> changes = customerMapper.changedFields(request, existingCustomer);
+                if (changes.isEmpty()) {
+                    logger.info("Customer {} unchanged; skipping write", customerId);
+                    return Mono.just(customerMapper.toResponse(existingCustomer));
+                }
+                return customerRepository.updateChangedFields(existingCustomer, changes)
+                    .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateEmailException(request.email(), ex))
+                    .map(updatedCustomer -> {
+                        logger.info("Customer updated successfully with ID: {}, fields: {}", customerId, changes.keySet());
+                        // findAndModify raises no save event for the index synchronizer
+                        searchIndex.ifPresent(index -> index.tryIndex(updatedCustomer));
+                        return customerMapper.toResponse(updatedCustomer);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        if (attempt == CustomerService.MAX_UPDATE_ATTEMPTS) {
+                            return Mono.error(new OptimisticLockingFailureException(
+                                "Customer " + customerId + " was modified concurrently; retry the update"));
+                        }
+                        logger.debug("Customer {} changed or was deleted since it was read; retrying update", customerId);
+                        return updateCustomer(customerId, request, attempt + 1);
+                    }));
+            });
+    }
+
+    /**
+     * Deletes a customer with a single delete statement.
+     *
+     * @param customerId the ID of the customer to delete
+     * @return completion, or a {@link CustomerNotFoundException} if no customer has this ID
+     */
+    public Mono<Void> deleteCustomer(String customerId) {
+        logger.info("Deleting customer with ID: {}", customerId);
+
+        return customerRepository.deleteByCustomerId(customerId)
+            .flatMap(deleted -> {
+                if (deleted == 0) {
+                    return Mono.error(new CustomerNotFoundException(customerId));
+                }
+                logger.info("Customer deleted successfully with ID: {}", customerId);
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * Searches customers by name using offset pagination; see {@link CustomerService#searchCustomers}.
+     * The Lucene index, when enabled and loaded, answers from memory without querying MongoDB.
+     *
+     * @param name name fragment to search for (first or last name)
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param includeTotal whether to run a count query and report totals
+     * @return the requested page of matching customers
+     */
+    public Mono<CustomerListResponse> searchCustomers(String name, int page, int size, boolean includeTotal) {
+        logger.debug("Searching customers with name: {}, page: {}, size: {}, includeTotal: {}",
+            name, page, size, includeTotal);
+
+        // Validate page parameters
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 1000) size = 10;
+
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+
+        Optional<LuceneCustomerIndex> readyIndex = searchIndex.filter(LuceneCustomerIndex::isReady);
+        if (readyIndex.isPresent()) {
+            PageRequest relevancePage = PageRequest.of(page, size);
+            return Mono.fromCallable(() -> {
+                listAssembler.recordListQueries("lucene", 0);
+                return listAssembler.toListResponse(readyIndex.get().search(name, relevancePage, includeTotal));
+            });
+        }
+
+        if (!includeTotal) {
+            return sliceResponse(customerRepository.searchSliceByName(name, pageable), pageable);
+        }
+        return pageResponse(customerRepository.searchByName(name, pageable), pageable,
+            () -> customerRepository.countByName(name));
+    }
+
+    /**
+     * Searches customers whose name sounds like the given name; see {@link CustomerService#searchCustomersPhonetic}.
+     *
+     * @param name the possibly misspelled name (first and/or last name)
+     * @param page page number (0-based)
+     * @param size number of customers per page
+     * @param includeTotal whether to run a count query and report totals
+     * @return the requested page of matching customers, or an {@link IllegalArgumentException} if the
+     *         name contains no letters
+     */
+    public Mono<CustomerListResponse> searchCustomersPhonetic(String name, int page, int size, boolean includeTotal) {
+        logger.debug("Phonetic search for customers with name: {}, page: {}, size: {}, includeTotal: {}",
+            name, page, size, includeTotal);
+
+        // Validate page parameters
+        if (page < 0) page = 0;
+        if (size <= 0 || size > 1000) size = 10;
+
+        Pageable pageable = PageRequest.of(page, size, CustomerRepositoryImpl.LISTING_SORT);
+
+        if (!includeTotal) {
+            return sliceResponse(customerRepository.searchSliceByNamePhonetic(name, pageable), pageable);
+        }
+        return pageResponse(customerRepository.searchByNamePhonetic(name, pageable), pageable,
+            () -> customerRepository.countByNamePhonetic(name));
+    }
+
+    /**
+     * Searches customers by name using keyset pagination; see {@link CustomerService#searchCustomersAfter}.
+     *
+     * @param name name fragment to search for (first or last name)
+     * @param cursor opaque cursor returned as {@code nextCursor} by a previous call (null or blank for the first page)
+     * @param size number of customers per page
+     * @param includeTotal whether to run a count query and report totals
+     * @return the page of matching customers following the cursor, or an {@link IllegalArgumentException}
+     *         if the cursor is malformed
+     */
+    public Mono<CustomerListResponse> searchCustomersAfter(String name, String cursor, int size, boolean includeTotal) {
+        logger.debug("Searching customers with name: {}, cursor: {}, size: {}, includeTotal: {}",
+            name, cursor, size, includeTotal);
+
+        int pageSize = size <= 0 || size > 1000 ? 10 : size;
+        return Mono.defer(() -> {
+            CustomerCursor after = CustomerCursor.decode(cursor);
+            return keysetResponse(customerRepository.searchByNameAfter(name, after, pageSize + 1),
+                includeTotal ? customerRepository.countByName(name) : null, pageSize, after != null);
+        });
+    }
+
+    /**
+     * Suggests customers whose first name, last name or email starts with the given prefix; see
+     * {@link CustomerService#suggestCustomers}.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit maximum number of suggestions
+     * @return lightweight summaries of the matching customers, or an {@link IllegalArgumentException}
+     *         if the prefix is blank
+     */
+    public Mono<List<CustomerSummary>> suggestCustomers(String prefix, int limit) {
+        logger.debug("Suggesting customers for prefix: {}, limit: {}", prefix, limit);
+
+        if (prefix == null || prefix.isBlank()) {
+            return Mono.error(new IllegalArgumentException("Suggestion prefix must not be blank"));
+        }
+        int suggestions = limit <= 0
+            ? CustomerService.DEFAULT_SUGGESTIONS
+            : Math.min(limit, CustomerService.MAX_SUGGESTIONS);
+
+        return customerRepository.suggestByPrefix(prefix, suggestions)
+            .collectList()
+            .map(listAssembler::toSuggestions);
+    }
+
+    /**
+     * Builds a count-free response from a query that fetched one row more than the page size.
+     */
+    private Mono<CustomerListResponse> sliceResponse(Flux<Customer> customers, Pageable pageable) {
+        return customers.collectList()
+            .map(content -> {
+                listAssembler.recordListQueries(false, 1);
+                boolean hasNext = content.size() > pageable.getPageSize();
+                List<Customer> page = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+                return listAssembler.toListResponse(new SliceImpl<>(page, pageable, hasNext));
+            });
+    }
+
+    /**
+     * Builds a counted response. Like Spring Data's {@code PageableExecutionUtils}, the count query is
+     * only issued when the page content does not already reveal the total.
+     */
+    private Mono<CustomerListResponse> pageResponse(Flux<Customer> customers, Pageable pageable,
+                                                    Supplier<Mono<Long>> total) {
+        return customers.collectList()
+            .flatMap(content -> {
+                boolean partial = content.size() < pageable.getPageSize();
+                Mono<Long> resolvedTotal = partial && (pageable.getOffset() == 0 || !content.isEmpty())
+                    ? Mono.just(pageable.getOffset() + content.size())
+                    : total.get();
+                return resolvedTotal.map(count -> (Page<Customer>) new PageImpl<>(content, pageable, count));
+            })
+            .map(customerPage -> {
+                listAssembler.recordListQueries(true, CustomerListAssembler.queriesIssued(customerPage));
+                return listAssembler.toListResponse(customerPage);
+            });
+    }
+
+    /**
+     * Builds a keyset response; the page and the optional count query run concurrently.
+     */
+    private Mono<CustomerListResponse> keysetResponse(Flux<Customer> customers, Mono<Long> total, int size, boolean hasPrevious) {
+        Mono<List<Customer>> content = customers.collectList();
+        Mono<CustomerListResponse> response = total == null
+            ? content.map(page -> listAssembler.toKeysetResponse(page, size, null, hasPrevious))
+            : Mono.zip(content, total, (page, count) -> listAssembler.toKeysetResponse(page, size, count, hasPrevious));
+        return response.doOnNext(ignored -> listAssembler.recordListQueries(total != null, total != null ? 2 : 1));
+    }
+}
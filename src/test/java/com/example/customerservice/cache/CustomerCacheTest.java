@@ -0,0 +1,153 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.exception.CustomerNotFoundException;
+import com.example.customerservice.model.CustomerStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerCache customerCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        customerCache = new CustomerCache(new CustomerCacheProperties(true, 100, Duration.ofMinutes(5)), meterRegistry);
+    }
+
+    @Test
+    void should_LoadOnce_When_ReadRepeatedly() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            customerCache.get("id-1", id -> {
+                loads.incrementAndGet();
+                return response(id);
+            });
+        }
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "hit").functionCounter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "miss").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void should_ShareOneLoad_When_MissesAreConcurrent() throws Exception {
+        // Given
+        int readers = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+
+        // When
+        List<Future<CustomerResponse>> results = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            results.add(executor.submit(() -> customerCache.get("id-1", id -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                await(release);
+                return response(id);
+            })));
+        }
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        for (Future<CustomerResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).customerId()).isEqualTo("id-1");
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void should_NotCacheFailure_When_CustomerDoesNotExist() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> customerCache.get("missing", id -> {
+                loads.incrementAndGet();
+                throw new CustomerNotFoundException(id);
+            })).isInstanceOf(CustomerNotFoundException.class);
+        }
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void should_DiscardLoadInFlight_When_InvalidatedDuringLoad() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        CustomerResponse stale = customerCache.get("id-1", id -> {
+            loads.incrementAndGet();
+            customerCache.invalidate(id);
+            return response(id);
+        });
+        customerCache.get("id-1", id -> {
+            loads.incrementAndGet();
+            return response(id);
+        });
+
+        // Then
+        assertThat(stale.customerId()).isEqualTo("id-1");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void should_AlwaysLoad_When_Disabled() {
+        // Given
+        CustomerCache disabled = new CustomerCache(new CustomerCacheProperties(false, 100, Duration.ofMinutes(5)), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        disabled.get("id-1", id -> response(id + loads.incrementAndGet()));
+        disabled.get("id-1", id -> response(id + loads.incrementAndGet()));
+        disabled.invalidateAll(List.of("id-1"));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private static CustomerResponse response(String customerId) {
+        return new CustomerResponse(customerId, "John", "Doe", "john.doe@example.com", "+1234567890",
+            "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE, null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.ChangeStreamProperties;
+import com.example.customerservice.cache.CustomerQueryCache.QueryFamily;
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.config.CustomerQueryCacheProperties;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.search.LuceneIndexSynchronizer;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerChangeStreamListenerTest {
+
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+    private static final Duration FALLBACK_TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TaskExecutor taskExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerQueryCache queryCache;
+    private CustomerChangeStreamListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryCache = new CustomerQueryCache(new CustomerQueryCacheProperties(true, 100, Duration.ofSeconds(30)), meterRegistry);
+        listener = new CustomerChangeStreamListener(customerCache, queryCache, Optional.empty(), mongoTemplate,
+            taskExecutor,
+            new ChangeStreamProperties(true, "node-1", "cacheResumeTokens", Duration.ofSeconds(5),
+                Duration.ofSeconds(10), FALLBACK_TTL, Duration.ofSeconds(5)),
+            new CustomerCacheProperties(true, 100, CACHE_TTL), meterRegistry);
+    }
+
+    @Test
+    void should_InvalidateCustomer_When_ChangeEventArrives() {
+        // When
+        listener.apply(event(OperationType.UPDATE, "id-1", Instant.now()));
+        listener.apply(event(OperationType.DELETE, "id-2", Instant.now()));
+
+        // Then
+        verify(customerCache).invalidate("id-1");
+        verify(customerCache).invalidate("id-2");
+        verify(customerCache, never()).invalidateAll();
+    }
+
+    @Test
+    void should_ClearCache_When_CollectionIsDropped() {
+        // When
+        listener.apply(event(OperationType.DROP, null, Instant.now()));
+
+        // Then
+        verify(customerCache).invalidateAll();
+    }
+
+    @Test
+    void should_InvalidateAffectedQueryFamilies_When_CustomerIsUpdated() {
+        // Given
+        UpdateDescription statusChange = new UpdateDescription(List.of(),
+            new BsonDocument("customerStatus", new BsonString("INACTIVE")).append("updatedAt", new BsonString("2024-01-01")));
+
+        // When
+        listener.apply(event(OperationType.UPDATE, "id-1", Instant.now(), statusChange));
+
+        // Then
+        assertThat(queryCache.version(QueryFamily.LISTING)).isEqualTo(1);
+        assertThat(queryCache.version(QueryFamily.NAME_SEARCH)).isZero();
+    }
+
+    @Test
+    void should_InvalidateAllQueryFamilies_When_CustomerIsInserted() {
+        // When
+        listener.apply(event(OperationType.INSERT, "id-1", Instant.now()));
+
+        // Then
+        assertThat(queryCache.version(QueryFamily.LISTING)).isEqualTo(1);
+        assertThat(queryCache.version(QueryFamily.NAME_SEARCH)).isEqualTo(1);
+    }
+
+    @Test
+    void should_ApplyOtherInstancesWritesToSearchIndex_When_LuceneEngineIsEnabled() {
+        // Given
+        LuceneIndexSynchronizer searchIndexSynchronizer = mock(LuceneIndexSynchronizer.class);
+        listener = new CustomerChangeStreamListener(customerCache, queryCache, Optional.of(searchIndexSynchronizer),
+            mongoTemplate, taskExecutor,
+            new ChangeStreamProperties(true, "node-1", "cacheResumeTokens", Duration.ofSeconds(5),
+                Duration.ofSeconds(10), FALLBACK_TTL, Duration.ofSeconds(5)),
+            new CustomerCacheProperties(true, 100, CACHE_TTL), meterRegistry);
+        UpdateDescription statusChange = new UpdateDescription(List.of(),
+            new BsonDocument("customerStatus", new BsonString("INACTIVE")));
+        UpdateDescription timestampChange = new UpdateDescription(List.of(),
+            new BsonDocument("updatedAt", new BsonString("2024-01-01")));
+
+        // When
+        listener.apply(event(OperationType.INSERT, "id-1", Instant.now()));
+        listener.apply(event(OperationType.UPDATE, "id-2", Instant.now(), statusChange));
+        listener.apply(event(OperationType.UPDATE, "id-3", Instant.now(), timestampChange));
+        listener.apply(event(OperationType.DELETE, "id-4", Instant.now()));
+        listener.apply(event(OperationType.DROP, null, Instant.now()));
+
+        // Then
+        verify(searchIndexSynchronizer).refresh("id-1");
+        verify(searchIndexSynchronizer).refresh("id-2");
+        verify(searchIndexSynchronizer, never()).refresh("id-3");
+        verify(searchIndexSynchronizer).remove("id-4");
+        verify(searchIndexSynchronizer).reload();
+    }
+
+    @Test
+    void should_UseFallbackTtl_Until_StreamIsCaughtUp() {
+        // When
+        listener.start();
+
+        // Then
+        verify(taskExecutor).execute(any());
+        verify(customerCache).setTimeToLive(FALLBACK_TTL);
+        assertThat(listener.isCaughtUp()).isFalse();
+
+        // When
+        listener.apply(event(OperationType.INSERT, "id-1", Instant.now()));
+
+        // Then
+        verify(customerCache).setTimeToLive(CACHE_TTL);
+        assertThat(listener.isCaughtUp()).isTrue();
+    }
+
+    @Test
+    void should_FallBackToShortTtl_When_EventsLag() {
+        // Given
+        listener.apply(event(OperationType.UPDATE, "id-1", Instant.now()));
+
+        // When
+        listener.apply(event(OperationType.UPDATE, "id-2", Instant.now().minusSeconds(60)));
+
+        // Then
+        assertThat(listener.isCaughtUp()).isFalse();
+        verify(customerCache).setTimeToLive(FALLBACK_TTL);
+        assertThat(meterRegistry.get("cache.change.stream.lag").gauge().value()).isGreaterThanOrEqualTo(60);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_ResumeFromLastToken_When_ApplyingEventFailsWithNonMongoException() {
+        // Given
+        listener = new CustomerChangeStreamListener(customerCache, queryCache, Optional.empty(), mongoTemplate,
+            taskExecutor,
+            new ChangeStreamProperties(true, "node-1", "cacheResumeTokens", Duration.ofSeconds(5),
+                Duration.ofSeconds(10), FALLBACK_TTL, Duration.ofMillis(1)),
+            new CustomerCacheProperties(true, 100, CACHE_TTL), meterRegistry);
+        BsonDocument token = new BsonDocument("_data", new BsonString("token-1"));
+        MongoCollection<Document> tokenCollection = mock(MongoCollection.class);
+        MongoCollection<BsonDocument> tokens = mock(MongoCollection.class);
+        FindIterable<BsonDocument> storedToken = mock(FindIterable.class);
+        when(mongoTemplate.getCollection("cacheResumeTokens")).thenReturn(tokenCollection);
+        when(tokenCollection.withDocumentClass(BsonDocument.class)).thenReturn(tokens);
+        when(tokens.find(any(Bson.class))).thenReturn(storedToken);
+        when(storedToken.first()).thenReturn(new BsonDocument("_id", new BsonString("node-1")).append("token", token));
+
+        MongoCollection<Document> customers = mock(MongoCollection.class);
+        ChangeStreamIterable<Document> stream = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mock(MongoChangeStreamCursor.class);
+        when(mongoTemplate.getCollectionName(Customer.class)).thenReturn("customers");
+        when(mongoTemplate.getCollection("customers")).thenReturn(customers);
+        when(customers.watch(anyList())).thenReturn(stream);
+        when(stream.maxAwaitTime(1, TimeUnit.SECONDS)).thenReturn(stream);
+        when(stream.resumeAfter(token)).thenReturn(stream);
+        when(stream.cursor()).thenReturn(cursor);
+        ChangeStreamDocument<Document> update = event(OperationType.UPDATE, "id-1", Instant.now());
+        when(cursor.tryNext()).thenReturn(update);
+        doThrow(new IllegalStateException("unexpected"))
+            .doAnswer(invocation -> {
+                listener.stop();
+                return null;
+            })
+            .when(customerCache).invalidate("id-1");
+
+        // When
+        listener.start();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskExecutor).execute(task.capture());
+        task.getValue().run();
+
+        // Then
+        verify(customerCache, times(2)).invalidate("id-1");
+        verify(stream, times(2)).resumeAfter(token);
+        // once on start, once when the event failed
+        verify(customerCache, times(2)).setTimeToLive(FALLBACK_TTL);
+    }
+
+    private static ChangeStreamDocument<Document> event(OperationType type, String customerId, Instant clusterTime) {
+        return event(type, customerId, clusterTime, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> event(OperationType type, String customerId, Instant clusterTime,
+                                                        UpdateDescription updateDescription) {
+        ChangeStreamDocument<Document> event = mock(ChangeStreamDocument.class);
+        when(event.getOperationType()).thenReturn(type);
+        if (customerId != null) {
+            when(event.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString(customerId)));
+        }
+        if (updateDescription != null) {
+            when(event.getUpdateDescription()).thenReturn(updateDescription);
+        }
+        when(event.getClusterTime()).thenReturn(new BsonTimestamp((int) clusterTime.getEpochSecond(), 1));
+        return event;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.ChangeStreamProperties;
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.config.CustomerQueryCacheProperties;
+import com.example.customerservice.dto.CustomerResponse;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the change stream listener against a real single-node replica set (see "Cross-Instance
+ * Cache Coherence" in the README). Enabled by setting {@code MONGO_REPLICA_SET_URI}, e.g.
+ * {@code mongodb://localhost:27018/?replicaSet=rs0&directConnection=true}.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGO_REPLICA_SET_URI", matches = ".+")
+class CustomerChangeStreamReplicaSetTest {
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private CustomerCache customerCache;
+    private CustomerChangeStreamListener listener;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CustomerCacheProperties cacheProperties = new CustomerCacheProperties(true, 100, Duration.ofHours(1));
+        mongoClient = MongoClients.create(System.getenv("MONGO_REPLICA_SET_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, "customer_change_stream_test");
+        mongoTemplate.getDb().drop();
+        customerCache = new CustomerCache(cacheProperties, meterRegistry);
+        CustomerQueryCache queryCache = new CustomerQueryCache(
+            new CustomerQueryCacheProperties(true, 100, Duration.ofSeconds(30)), meterRegistry);
+        listener = new CustomerChangeStreamListener(customerCache, queryCache, Optional.empty(), mongoTemplate,
+            new SimpleAsyncTaskExecutor(),
+            new ChangeStreamProperties(true, "test-node", "cacheResumeTokens", Duration.ZERO,
+                Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMillis(200)),
+            cacheProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    @Test
+    void should_InvalidateCachedCustomer_When_AnotherNodeUpdatesIt() throws InterruptedException {
+        // Given
+        mongoTemplate.getCollection("customers").insertOne(new Document("_id", "c-1").append("firstName", "John"));
+        listener.start();
+        assertThat(eventually(listener::isCaughtUp)).isTrue();
+        AtomicInteger loads = new AtomicInteger();
+        customerCache.get("c-1", id -> load(id, loads));
+        customerCache.get("c-1", id -> load(id, loads));
+        assertThat(loads).hasValue(1);
+
+        // When: the write bypasses this node, as if made by another replica of the service
+        mongoTemplate.getCollection("customers").updateOne(Filters.eq("_id", "c-1"), Updates.set("firstName", "Jane"));
+
+        // Then
+        assertThat(eventually(() -> {
+            customerCache.get("c-1", id -> load(id, loads));
+            return loads.get() == 2;
+        })).isTrue();
+        assertThat(mongoTemplate.getCollection("cacheResumeTokens").find(Filters.eq("_id", "test-node")).first())
+            .isNotNull();
+    }
+
+    private static CustomerResponse load(String customerId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new CustomerResponse(customerId, "John", "Doe", "john@example.com", null, null, null, null, null, null);
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
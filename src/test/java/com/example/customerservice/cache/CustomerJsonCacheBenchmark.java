@@ -0,0 +1,89 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.dto.ApiResponse;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.model.CustomerStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the per-request cost of rendering a {@code GET /api/v1/customers/{id}} body by
+ * serializing an {@link ApiResponse} through Jackson (gzip-compressing it, as
+ * {@code server.compression} would) against writing it from {@link CustomerJsonCache}.
+ *
+ * <p>Not a test; run it with {@code benchmarks/json-render-jmh.sh}, which adds the GC profiler
+ * so allocation per operation is reported as {@code gc.alloc.rate.norm}.</p>
+ *
+ * @author Customer Service Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerJsonCacheBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CustomerJsonCache customerJsonCache;
+    private CustomerResponse customer;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        customerJsonCache = new CustomerJsonCache(new CustomerCacheProperties(true, 10_000, Duration.ofMinutes(5)),
+            objectMapper, new SimpleMeterRegistry());
+        customer = new CustomerResponse("6f1c2e4a-8b7d-4c3e-9a1f-2d5e7b9c0a13", "John", "Doe",
+            "john.doe@example.com", "+1234567890", "123 Main St, Springfield", LocalDate.of(1990, 1, 1),
+            CustomerStatus.ACTIVE, Instant.parse("2024-01-01T10:00:00Z"), Instant.parse("2024-02-01T10:00:00Z"));
+        customerJsonCache.json(customer);
+    }
+
+    @Benchmark
+    public byte[] jacksonJson() throws IOException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(customer));
+    }
+
+    @Benchmark
+    public byte[] jacksonGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, ApiResponse.success(customer));
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cachedJson() {
+        return customerJsonCache.json(customer);
+    }
+
+    @Benchmark
+    public byte[] cachedGzip() {
+        return customerJsonCache.gzip(customer);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.dto.ApiResponse;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.model.CustomerStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CustomerJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private CustomerJsonCache customerJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = spy(new ObjectMapper()
+            .findAndRegisterModules()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL));
+        customerJsonCache = new CustomerJsonCache(new CustomerCacheProperties(true, 100, Duration.ofMinutes(5)),
+            objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void should_RenderApiResponse_When_CustomerIsRendered() throws Exception {
+        // Given
+        CustomerResponse customer = customer(Instant.parse("2024-02-01T10:00:00Z"));
+        String expected = objectMapper.writeValueAsString(ApiResponse.success(customer));
+
+        // When
+        String json = new String(customerJsonCache.json(customer), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(withoutTimestamp(json)).isEqualTo(withoutTimestamp(expected));
+        assertThat(json).containsPattern("\"timestamp\":\"\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}Z\"}$");
+    }
+
+    @Test
+    void should_RenderSameBytesAsJackson_When_EnvelopeIsWrittenAroundCachedCustomer() throws Exception {
+        // Given
+        CustomerResponse customer = customer(Instant.parse("2024-02-01T10:00:00Z"));
+
+        // When
+        byte[] json = customerJsonCache.json(customer);
+
+        // Then
+        Instant timestamp = Instant.parse(objectMapper.readTree(json).get("timestamp").asText());
+        ApiResponse<CustomerResponse> expected = ApiResponse.success(customer);
+        assertThat(json).isEqualTo(objectMapper.writeValueAsBytes(
+            new ApiResponse<>(expected.status(), expected.message(), customer, timestamp)));
+    }
+
+    @Test
+    void should_SerializeOnce_When_SameCustomerIsRenderedRepeatedly() throws Exception {
+        // Given
+        CustomerResponse customer = customer(Instant.parse("2024-02-01T10:00:00Z"));
+
+        // When
+        customerJsonCache.json(customer);
+        customerJsonCache.gzip(customer);
+        customerJsonCache.json(customer(Instant.parse("2024-02-01T10:00:00Z")));
+
+        // Then
+        verify(objectMapper, times(1)).writeValueAsBytes(any(CustomerResponse.class));
+    }
+
+    @Test
+    void should_RenderAgain_When_CustomerWasUpdated() throws Exception {
+        // Given
+        customerJsonCache.json(customer(Instant.parse("2024-02-01T10:00:00Z")));
+
+        // When
+        String json = new String(customerJsonCache.json(customer(Instant.parse("2024-03-01T10:00:00Z"))),
+            StandardCharsets.UTF_8);
+
+        // Then
+        verify(objectMapper, times(2)).writeValueAsBytes(any(CustomerResponse.class));
+        assertThat(json).contains("\"updatedAt\":\"2024-03-01T10:00:00Z\"");
+    }
+
+    @Test
+    void should_DecompressToJson_When_GzipIsRendered() throws Exception {
+        // Given
+        CustomerResponse customer = customer(Instant.parse("2024-02-01T10:00:00Z"));
+
+        // When
+        byte[] gzip = customerJsonCache.gzip(customer);
+        String json = new String(customerJsonCache.json(customer), StandardCharsets.UTF_8);
+
+        // Then
+        String decompressed = new String(new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes(),
+            StandardCharsets.UTF_8);
+        assertThat(withoutTimestamp(decompressed)).isEqualTo(withoutTimestamp(json));
+    }
+
+    @Test
+    void should_SerializeEveryTime_When_Disabled() throws Exception {
+        // Given
+        CustomerJsonCache disabled = new CustomerJsonCache(new CustomerCacheProperties(false, 100, Duration.ofMinutes(5)),
+            objectMapper, new SimpleMeterRegistry());
+        CustomerResponse customer = customer(Instant.parse("2024-02-01T10:00:00Z"));
+
+        // When
+        disabled.json(customer);
+        disabled.json(customer);
+
+        // Then
+        verify(objectMapper, times(2)).writeValueAsBytes(any(CustomerResponse.class));
+    }
+
+    private static CustomerResponse customer(Instant updatedAt) {
+        return new CustomerResponse("id-1", "Zoë", "O\"Brien", "zoe@example.com", null,
+            "1 Rue de l'Église", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE,
+            Instant.parse("2024-01-01T10:00:00Z"), updatedAt);
+    }
+
+    private static String withoutTimestamp(String json) {
+        return json.replaceAll("\"timestamp\":\"[^\"]*\"", "");
+    }
+}
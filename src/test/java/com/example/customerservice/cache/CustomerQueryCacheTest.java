@@ -0,0 +1,92 @@
+package com.example.customerservice.cache;
+
+import com.example.customerservice.cache.CustomerQueryCache.IdPage;
+import com.example.customerservice.cache.CustomerQueryCache.QueryFamily;
+import com.example.customerservice.cache.CustomerQueryCache.QueryKey;
+import com.example.customerservice.config.CustomerQueryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerQueryCacheTest {
+
+    private static final QueryKey LISTING = new QueryKey(QueryFamily.LISTING, "list", "status=null,total=true", 0, 10);
+    private static final QueryKey SEARCH = new QueryKey(QueryFamily.NAME_SEARCH, "search", "name=john,total=true", 0, 10);
+    private static final IdPage PAGE = new IdPage(List.of("id-1", "id-2"), 2L, 1, false, null);
+
+    private CustomerQueryCache queryCache;
+
+    @BeforeEach
+    void setUp() {
+        queryCache = new CustomerQueryCache(new CustomerQueryCacheProperties(true, 100, Duration.ofSeconds(30)),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void should_ReturnPage_When_FamilyWasNotInvalidated() {
+        // Given
+        queryCache.put(LISTING, queryCache.version(QueryFamily.LISTING), PAGE);
+
+        // When
+        IdPage cached = queryCache.get(LISTING);
+
+        // Then
+        assertThat(cached).isEqualTo(PAGE);
+    }
+
+    @Test
+    void should_InvalidateOnlyAffectedFamily_When_FamilyIsInvalidated() {
+        // Given
+        queryCache.put(LISTING, queryCache.version(QueryFamily.LISTING), PAGE);
+        queryCache.put(SEARCH, queryCache.version(QueryFamily.NAME_SEARCH), PAGE);
+
+        // When
+        queryCache.invalidate(Set.of(QueryFamily.LISTING));
+
+        // Then
+        assertThat(queryCache.get(LISTING)).isNull();
+        assertThat(queryCache.get(SEARCH)).isEqualTo(PAGE);
+    }
+
+    @Test
+    void should_NotCachePage_When_WriteRacedWithQuery() {
+        // Given
+        long version = queryCache.version(QueryFamily.NAME_SEARCH);
+        queryCache.invalidateAll();
+
+        // When
+        queryCache.put(SEARCH, version, PAGE);
+
+        // Then
+        assertThat(queryCache.get(SEARCH)).isNull();
+    }
+
+    @Test
+    void should_MapUpdatedFieldsToFamilies() {
+        assertThat(CustomerQueryCache.affectedBy(List.of("customerStatus", "updatedAt")))
+            .containsExactly(QueryFamily.LISTING);
+        assertThat(CustomerQueryCache.affectedBy(List.of("lastName", "nameTrigrams.2")))
+            .containsExactly(QueryFamily.NAME_SEARCH);
+        assertThat(CustomerQueryCache.affectedBy(List.of("email", "phone", "address"))).isEmpty();
+    }
+
+    @Test
+    void should_NeverReturnPage_When_Disabled() {
+        // Given
+        CustomerQueryCache disabled = new CustomerQueryCache(
+            new CustomerQueryCacheProperties(false, 100, Duration.ofSeconds(30)), new SimpleMeterRegistry());
+
+        // When
+        disabled.put(LISTING, disabled.version(QueryFamily.LISTING), PAGE);
+
+        // Then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get(LISTING)).isNull();
+    }
+}
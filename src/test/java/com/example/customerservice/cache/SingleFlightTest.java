@@ -0,0 +1,132 @@
+package com.example.customerservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(meterRegistry, "test");
+    }
+
+    @Test
+    void should_RunOnce_When_CallsAreConcurrentOnPlatformThreads() throws Exception {
+        assertRunsOnce(Executors.newFixedThreadPool(CALLERS));
+    }
+
+    @Test
+    void should_RunOnce_When_CallsAreConcurrentOnVirtualThreads() throws Exception {
+        assertRunsOnce(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Test
+    void should_ShareFailure_When_CallFails() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "not run"));
+
+        // When
+        waitForCoalesced(1);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("boom");
+        executor.shutdown();
+    }
+
+    @Test
+    void should_StartNewCall_When_FlightIsForgotten() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> stale = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return "before write";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        singleFlight.forget("key");
+        String fresh = singleFlight.execute("key", () -> "after write");
+        release.countDown();
+
+        // Then
+        assertThat(fresh).isEqualTo("after write");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        executor.shutdown();
+    }
+
+    private void assertRunsOnce(ExecutorService executor) throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        waitForCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(calls).hasValue(1);
+        executor.shutdown();
+    }
+
+    private void waitForCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("customers.reads.coalesced").counter().count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("customers.reads.coalesced").counter().count()).isEqualTo(count);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.customerservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CustomerIndexHealthIndicator.
+ */
+class CustomerIndexHealthIndicatorTest {
+
+    @Test
+    @DisplayName("Should be out of service while required indexes are missing")
+    void shouldBeOutOfServiceWhenIndexesMissing() {
+        // Given
+        CustomerIndexManager manager = mock(CustomerIndexManager.class);
+        when(manager.isReady()).thenReturn(false);
+        when(manager.getMissingIndexes()).thenReturn(List.of("email_unique"));
+        when(manager.getFailedIndexes()).thenReturn(Map.of("email_unique", "E11000 duplicate key error"));
+
+        // When
+        Health health = new CustomerIndexHealthIndicator(manager, properties(true)).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("missingIndexes", List.of("email_unique"));
+        assertThat(health.getDetails()).containsEntry("failedIndexes", Map.of("email_unique", "E11000 duplicate key error"));
+    }
+
+    @Test
+    @DisplayName("Should stay up with missing indexes when readiness is not gated")
+    void shouldStayUpWhenReadinessNotGated() {
+        // Given
+        CustomerIndexManager manager = mock(CustomerIndexManager.class);
+        when(manager.isReady()).thenReturn(false);
+        when(manager.getMissingIndexes()).thenReturn(List.of("phone"));
+
+        // When
+        Health health = new CustomerIndexHealthIndicator(manager, properties(false)).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("Should be up once all indexes are verified")
+    void shouldBeUpWhenIndexesPresent() {
+        // Given
+        CustomerIndexManager manager = mock(CustomerIndexManager.class);
+        when(manager.isReady()).thenReturn(true);
+        when(manager.isVerified()).thenReturn(true);
+        when(manager.getMissingIndexes()).thenReturn(List.of());
+
+        // When
+        Health health = new CustomerIndexHealthIndicator(manager, properties(true)).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("verified", true);
+    }
+
+    private static IndexProperties properties(boolean requiredForReadiness) {
+        return new IndexProperties(true, requiredForReadiness, Duration.ofSeconds(30), Duration.ofMinutes(10));
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.customerservice.config;
+
+import com.example.customerservice.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CustomerIndexManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomerIndexManagerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.indexOps(Customer.class)).thenReturn(indexOperations);
+    }
+
+    @Test
+    @DisplayName("Should create every required index on an empty collection")
+    void shouldCreateMissingIndexes() {
+        // Given
+        List<IndexInfo> existing = new ArrayList<>(List.of(idIndex()));
+        when(indexOperations.getIndexInfo()).thenAnswer(invocation -> existing);
+        when(indexOperations.ensureIndex(any(IndexDefinition.class))).thenAnswer(invocation -> {
+            IndexDefinition definition = invocation.getArgument(0);
+            existing.add(toIndexInfo(definition));
+            return definition.getIndexOptions().getString("name");
+        });
+        CustomerIndexManager manager = newManager(true);
+
+        // When
+        manager.onApplicationReady();
+
+        // Then
+        ArgumentCaptor<IndexDefinition> captor = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, times(CustomerIndexManager.REQUIRED_INDEXES.size())).ensureIndex(captor.capture());
+        assertThat(captor.getAllValues())
+            .anySatisfy(definition -> {
+                assertThat(definition.getIndexKeys().toJson()).contains("\"email\"");
+                assertThat(definition.getIndexOptions().getBoolean("unique")).isTrue();
+            });
+        assertThat(manager.isReady()).isTrue();
+        assertThat(manager.getMissingIndexes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only report missing indexes when creation is disabled")
+    void shouldReportMissingIndexesWhenCreationDisabled() {
+        // Given
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(idIndex()));
+        CustomerIndexManager manager = newManager(false);
+
+        // When
+        manager.ensureIndexes();
+
+        // Then
+        verify(indexOperations, never()).ensureIndex(any(IndexDefinition.class));
+        assertThat(manager.isVerified()).isTrue();
+        assertThat(manager.isReady()).isFalse();
+        assertThat(manager.getMissingIndexes()).contains("email_unique", "createdAt_id");
+    }
+
+    @Test
+    @DisplayName("Should not accept a non-unique email index as the unique email index")
+    void shouldRequireUniqueEmailIndex() {
+        // Given
+        IndexInfo nonUniqueEmail = new IndexInfo(
+            List.of(IndexField.create("email", Sort.Direction.ASC)), "email", false, false, "");
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(idIndex(), nonUniqueEmail));
+        CustomerIndexManager manager = newManager(false);
+
+        // When
+        List<String> missing = manager.verify();
+
+        // Then
+        assertThat(missing).contains("email_unique");
+    }
+
+    @Test
+    @DisplayName("Should build the remaining indexes and report the failed one when a build fails")
+    void shouldBuildRemainingIndexesWhenOneBuildFails() {
+        // Given
+        List<IndexInfo> existing = new ArrayList<>(List.of(idIndex()));
+        when(indexOperations.getIndexInfo()).thenAnswer(invocation -> existing);
+        when(indexOperations.ensureIndex(any(IndexDefinition.class))).thenAnswer(invocation -> {
+            IndexDefinition definition = invocation.getArgument(0);
+            if ("email_unique".equals(definition.getIndexOptions().getString("name"))) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            existing.add(toIndexInfo(definition));
+            return definition.getIndexOptions().getString("name");
+        });
+        CustomerIndexManager manager = newManager(true);
+
+        // When
+        boolean ready = manager.ensureIndexes();
+
+        // Then
+        assertThat(ready).isFalse();
+        verify(indexOperations, times(CustomerIndexManager.REQUIRED_INDEXES.size())).ensureIndex(any(IndexDefinition.class));
+        assertThat(manager.getMissingIndexes()).containsExactly("email_unique");
+        assertThat(manager.getFailedIndexes()).containsOnlyKeys("email_unique");
+    }
+
+    @Test
+    @DisplayName("Should retry until every index verifies")
+    void shouldRetryUntilIndexesVerify() {
+        // Given
+        List<IndexInfo> existing = new ArrayList<>(List.of(idIndex()));
+        when(indexOperations.getIndexInfo()).thenAnswer(invocation -> existing);
+        int[] emailAttempts = {0};
+        when(indexOperations.ensureIndex(any(IndexDefinition.class))).thenAnswer(invocation -> {
+            IndexDefinition definition = invocation.getArgument(0);
+            if ("email_unique".equals(definition.getIndexOptions().getString("name")) && ++emailAttempts[0] < 3) {
+                throw new DuplicateKeyException("E11000 duplicate key error");
+            }
+            existing.add(toIndexInfo(definition));
+            return definition.getIndexOptions().getString("name");
+        });
+        CustomerIndexManager manager = newManager(true);
+
+        // When
+        manager.onApplicationReady();
+
+        // Then
+        assertThat(emailAttempts[0]).isEqualTo(3);
+        assertThat(manager.isReady()).isTrue();
+        assertThat(manager.getFailedIndexes()).isEmpty();
+    }
+
+    private CustomerIndexManager newManager(boolean createOnStartup) {
+        return new CustomerIndexManager(mongoTemplate, new SyncTaskExecutor(),
+            new IndexProperties(createOnStartup, true, Duration.ofMillis(1), Duration.ofMillis(4)));
+    }
+
+    private static IndexInfo idIndex() {
+        return new IndexInfo(List.of(IndexField.create("_id", Sort.Direction.ASC)), "_id_", false, false, "");
+    }
+
+    private static IndexInfo toIndexInfo(IndexDefinition definition) {
+        List<IndexField> fields = new ArrayList<>();
+        definition.getIndexKeys().forEach((key, value) -> fields.add(
+            IndexField.create(key, ((Number) value).intValue() > 0 ? Sort.Direction.ASC : Sort.Direction.DESC)));
+        boolean unique = Boolean.TRUE.equals(definition.getIndexOptions().get("unique"));
+        return new IndexInfo(fields, definition.getIndexOptions().getString("name"), unique, false, "");
+    }
+}
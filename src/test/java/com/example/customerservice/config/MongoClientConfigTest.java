@@ -0,0 +1,47 @@
+package com.example.customerservice.config;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoClientConfigTest {
+
+    private static final String URI = "mongodb://localhost/customerdb?maxPoolSize=20&waitQueueTimeoutMS=500";
+
+    @Test
+    void should_KeepUriPoolOptions_When_PoolPropertiesAreUnset() {
+        // When
+        ConnectionPoolSettings pool = customize(new MongoPoolProperties(null, null, null, null, null, null, null));
+
+        // Then
+        assertThat(pool.getMaxSize()).isEqualTo(20);
+        assertThat(pool.getMaxWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+    }
+
+    @Test
+    void should_OverrideOnlySetOptions_When_PoolPropertiesAreSet() {
+        // When
+        ConnectionPoolSettings pool = customize(
+            new MongoPoolProperties(50, null, null, null, null, Duration.ofSeconds(30), null));
+
+        // Then
+        assertThat(pool.getMaxSize()).isEqualTo(50);
+        assertThat(pool.getMaxWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+        assertThat(pool.getMaintenanceFrequency(TimeUnit.SECONDS)).isEqualTo(30);
+    }
+
+    private static ConnectionPoolSettings customize(MongoPoolProperties properties) {
+        MongoClientConfig config = new MongoClientConfig();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MongoClientSettings.Builder settings = MongoClientSettings.builder().applyConnectionString(new ConnectionString(URI));
+        config.mongoClientSettingsCustomizer(properties, config.mongoOperationMetrics(meterRegistry)).customize(settings);
+        return settings.build().getConnectionPoolSettings();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.customerservice.config;
+
+import com.mongodb.RequestContext;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MongoOperationMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MongoOperationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new MongoOperationMetrics(meterRegistry);
+    }
+
+    @Test
+    void should_TagCommandWithOperation_When_CommandSucceeds() {
+        // Given
+        RequestContext context = mock(RequestContext.class);
+        when(context.hasKey(RepositoryOperationContext.KEY)).thenReturn(true);
+        when(context.get(RepositoryOperationContext.KEY)).thenReturn("CustomerRepository.findByEmail");
+        CommandSucceededEvent event = mock(CommandSucceededEvent.class);
+        when(event.getRequestContext()).thenReturn(context);
+        when(event.getCommandName()).thenReturn("find");
+        when(event.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.MILLISECONDS.toNanos(4));
+
+        // When
+        metrics.commandSucceeded(event);
+
+        // Then
+        Timer timer = meterRegistry.find(MongoOperationMetrics.COMMAND_METRIC)
+            .tags("operation", "CustomerRepository.findByEmail", "command", "find", "status", "success")
+            .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4);
+    }
+
+    @Test
+    void should_TagCommandWithNone_When_FailedCommandHasNoContext() {
+        // Given
+        CommandFailedEvent event = mock(CommandFailedEvent.class);
+        when(event.getCommandName()).thenReturn("insert");
+        when(event.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(1_000L);
+
+        // When
+        metrics.commandFailed(event);
+
+        // Then
+        assertThat(meterRegistry.find(MongoOperationMetrics.COMMAND_METRIC)
+            .tags("operation", RepositoryOperationContext.NONE, "status", "failed").timer()).isNotNull();
+    }
+
+    @Test
+    void should_RecordCheckoutWait_When_ConnectionIsCheckedOut() {
+        // Given
+        ConnectionCheckedOutEvent event = mock(ConnectionCheckedOutEvent.class);
+        when(event.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.MILLISECONDS.toNanos(25));
+
+        // When
+        metrics.connectionCheckedOut(event);
+
+        // Then
+        Timer timer = meterRegistry.find(MongoOperationMetrics.POOL_WAIT_METRIC).tag("outcome", "success").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(25);
+    }
+
+    @Test
+    void should_RecordTimeoutOutcome_When_CheckoutTimesOut() {
+        // Given
+        ConnectionCheckOutFailedEvent event = mock(ConnectionCheckOutFailedEvent.class);
+        when(event.getReason()).thenReturn(ConnectionCheckOutFailedEvent.Reason.TIMEOUT);
+        when(event.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.SECONDS.toNanos(2));
+
+        // When
+        metrics.connectionCheckOutFailed(event);
+
+        // Then
+        assertThat(meterRegistry.find(MongoOperationMetrics.POOL_WAIT_METRIC).tag("outcome", "timeout").timer())
+            .isNotNull();
+    }
+}
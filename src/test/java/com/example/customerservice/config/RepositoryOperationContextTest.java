@@ -0,0 +1,88 @@
+package com.example.customerservice.config;
+
+import com.example.customerservice.repository.CustomerRepository;
+import com.example.customerservice.repository.ReactiveCustomerRepository;
+import com.mongodb.RequestContext;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryOperationContextTest {
+
+    private final RepositoryOperationContext contextProvider = new RepositoryOperationContext();
+
+    @Test
+    void should_ExposeOperation_When_BlockingRepositoryMethodRuns() throws Throwable {
+        // Given
+        MethodInterceptor interceptor = RepositoryOperationContext.interceptor("CustomerRepository");
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+        when(invocation.getMethod()).thenReturn(CustomerRepository.class.getMethod("findByEmail", String.class));
+        when(invocation.proceed()).thenAnswer(call -> {
+            seen.set(contextProvider.getContext());
+            return null;
+        });
+
+        // When
+        interceptor.invoke(invocation);
+
+        // Then
+        assertThat(RepositoryOperationContext.of(seen.get())).isEqualTo("CustomerRepository.findByEmail");
+        assertThat(RepositoryOperationContext.current()).isEqualTo(RepositoryOperationContext.NONE);
+    }
+
+    @Test
+    void should_KeepOuterOperation_When_RepositoryCallsAreNested() throws Throwable {
+        // Given
+        MethodInterceptor interceptor = RepositoryOperationContext.interceptor("CustomerRepository");
+        MethodInvocation inner = mock(MethodInvocation.class);
+        MethodInvocation outer = mock(MethodInvocation.class);
+        AtomicReference<String> seen = new AtomicReference<>();
+        when(inner.getMethod()).thenReturn(CustomerRepository.class.getMethod("existsByEmail", String.class));
+        when(inner.proceed()).thenAnswer(call -> {
+            seen.set(RepositoryOperationContext.current());
+            return true;
+        });
+        when(outer.getMethod()).thenReturn(CustomerRepository.class.getMethod("findByEmail", String.class));
+        when(outer.proceed()).thenAnswer(call -> interceptor.invoke(inner));
+
+        // When
+        interceptor.invoke(outer);
+
+        // Then
+        assertThat(seen.get()).isEqualTo("CustomerRepository.findByEmail");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_ExposeOperationInReactorContext_When_ReactiveRepositoryMethodRuns() throws Throwable {
+        // Given
+        MethodInterceptor interceptor = RepositoryOperationContext.interceptor("ReactiveCustomerRepository");
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(ReactiveCustomerRepository.class.getMethod("deleteByCustomerId", String.class));
+        when(invocation.proceed()).thenReturn(Mono.deferContextual(context ->
+            Mono.just(context.getOrDefault(RepositoryOperationContext.KEY, RepositoryOperationContext.NONE))));
+
+        // When
+        Mono<String> result = (Mono<String>) interceptor.invoke(invocation);
+
+        // Then
+        StepVerifier.create(result)
+            .expectNext("ReactiveCustomerRepository.deleteByCustomerId")
+            .verifyComplete();
+    }
+
+    @Test
+    void should_ReportNone_When_CommandIsIssuedOutsideRepository() {
+        assertThat(RepositoryOperationContext.of(contextProvider.getContext())).isEqualTo(RepositoryOperationContext.NONE);
+        assertThat(RepositoryOperationContext.of(null)).isEqualTo(RepositoryOperationContext.NONE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.customerservice.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(new VirtualThreadProperties(true, Duration.ZERO, 12), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void should_AttributePinningToDriver_When_DriverFrameIsInnermost() {
+        // When
+        monitor.recordPinning(Duration.ofMillis(30), List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:677",
+            "com.mongodb.internal.connection.SocketStream.read:170",
+            "com.example.customerservice.service.CustomerService.getCustomerById:120"));
+
+        // Then
+        Timer timer = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METRIC).tag("source", "mongodb-driver").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+    }
+
+    @Test
+    void should_AttributePinningToOther_When_NoKnownFrame() {
+        assertThat(VirtualThreadPinningMonitor.source(List.of("java.lang.Thread.sleep:509"))).isEqualTo("other");
+        assertThat(VirtualThreadPinningMonitor.source(List.of())).isEqualTo("other");
+    }
+
+    @Test
+    void should_RecordPinning_When_VirtualThreadSleepsInsideSynchronized() throws InterruptedException {
+        // Given
+        Object lock = new Object();
+        monitor.start();
+        assertThat(monitor.isRunning()).isTrue();
+
+        // When
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        // Then
+        Timer timer = null;
+        for (int attempt = 0; attempt < 100 && timer == null; attempt++) {
+            Thread.sleep(100);
+            timer = meterRegistry.find(VirtualThreadPinningMonitor.PINNED_METRIC).tag("source", "application").timer();
+        }
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @Test
+    void should_StopStreaming_When_Stopped() {
+        // Given
+        monitor.start();
+
+        // When
+        monitor.stop();
+
+        // Then
+        assertThat(monitor.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.customerservice.controller;
+
+import com.example.customerservice.dto.BatchGetRequest;
+import com.example.customerservice.dto.BatchGetResponse;
+import com.example.customerservice.dto.BulkDeleteRequest;
+import com.example.customerservice.dto.BulkDeleteResponse;
+import com.example.customerservice.dto.BulkItemResult;
+import com.example.customerservice.dto.BulkOperationResponse;
+import com.example.customerservice.dto.ImportEvent;
+import com.example.customerservice.dto.ImportFormat;
+import com.example.customerservice.dto.StatusTransitionRequest;
+import com.example.customerservice.dto.StatusTransitionResponse;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerFilter;
+import com.example.customerservice.service.CustomerBulkService;
+import com.example.customerservice.service.CustomerExportService;
+import com.example.customerservice.service.CustomerImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CustomerBulkController.class)
+class CustomerBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CustomerBulkService customerBulkService;
+
+    @MockBean
+    private CustomerExportService customerExportService;
+
+    @MockBean
+    private CustomerImportService customerImportService;
+
+    @Test
+    void should_ReturnPerItemResults_When_BulkCreating() throws Exception {
+        // Given
+        BulkOperationResponse response = BulkOperationResponse.of(List.of(
+            BulkItemResult.succeeded(0, "id-1", BulkItemResult.Outcome.CREATED),
+            BulkItemResult.failed(1, null, "Customer with email 'taken@example.com' already exists")));
+        when(customerBulkService.createCustomers(anyList())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"firstName":"John","lastName":"Doe","email":"john@example.com","phone":"+1234567890"},
+                     {"firstName":"Jane","lastName":"Doe","email":"taken@example.com","phone":"+1234567890"}]
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.succeeded").value(1))
+            .andExpect(jsonPath("$.data.failed").value(1))
+            .andExpect(jsonPath("$.data.items[0].outcome").value("CREATED"))
+            .andExpect(jsonPath("$.data.items[1].error").exists());
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_BulkRequestIsEmpty() throws Exception {
+        // Given
+        when(customerBulkService.createCustomers(anyList()))
+            .thenThrow(new IllegalArgumentException("Bulk request must contain at least one item"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_ReturnPerItemResults_When_BulkUpdating() throws Exception {
+        // Given
+        BulkOperationResponse response = BulkOperationResponse.of(List.of(
+            BulkItemResult.succeeded(0, "id-1", BulkItemResult.Outcome.UPDATED),
+            BulkItemResult.succeeded(1, "id-2", BulkItemResult.Outcome.UNCHANGED)));
+        when(customerBulkService.updateCustomers(anyList())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/customers/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"customerId":"id-1","update":{"customerStatus":"INACTIVE"}},
+                     {"customerId":"id-2","update":{"phone":"+1234567890"}}]
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.succeeded").value(2))
+            .andExpect(jsonPath("$.data.items[0].outcome").value("UPDATED"))
+            .andExpect(jsonPath("$.data.items[1].outcome").value("UNCHANGED"));
+    }
+
+    @Test
+    void should_ReturnCounts_When_TransitioningStatus() throws Exception {
+        // Given
+        when(customerBulkService.transitionStatus(any(StatusTransitionRequest.class)))
+            .thenReturn(new StatusTransitionResponse(CustomerStatus.SUSPENDED, true, 120, 80));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"filter":{"createdBefore":"2024-01-01T00:00:00Z","emailDomains":["example.com"]},
+                     "targetStatus":"SUSPENDED","dryRun":true}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.matchedCount").value(120))
+            .andExpect(jsonPath("$.data.modifiedCount").value(80));
+        verify(customerBulkService).transitionStatus(argThat(request ->
+            request.dryRun() && request.filter().emailDomains().equals(List.of("example.com"))));
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_TargetStatusIsMissing() throws Exception {
+        mockMvc.perform(post("/api/v1/customers/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"filter":{"customerStatus":"ACTIVE"}}
+                    """))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(customerBulkService);
+    }
+
+    @Test
+    void should_ReturnDeletedCount_When_BulkDeleting() throws Exception {
+        // Given
+        when(customerBulkService.deleteCustomers(any(BulkDeleteRequest.class))).thenReturn(new BulkDeleteResponse(2));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"customerIds":["id-1","id-2"]}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.deletedCount").value(2));
+    }
+
+    @Test
+    void should_ReturnResultsWithNotFoundMarkers_When_BatchGetting() throws Exception {
+        // Given
+        BatchGetResponse response = new BatchGetResponse(
+            List.of(BatchGetResponse.Result.of("missing", List.of())), List.of(), List.of());
+        when(customerBulkService.batchGetCustomers(any(BatchGetRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"customerIds":["missing"]}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.customerIds[0].key").value("missing"))
+            .andExpect(jsonPath("$.data.customerIds[0].found").value(false));
+    }
+
+    @Test
+    void should_StreamNdjson_When_Exporting() throws Exception {
+        // Given
+        when(customerExportService.exportCustomers(any(CustomerFilter.class), any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                OutputStream output = invocation.getArgument(1);
+                output.write("{\"customerId\":\"id-1\"}\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            });
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .param("status", "ACTIVE")
+                .param("createdAfter", "2024-01-01T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(header().string("Content-Disposition", containsString("customers.ndjson")))
+            .andExpect(content().string("{\"customerId\":\"id-1\"}\n"));
+        verify(customerExportService).exportCustomers(
+            eq(new CustomerFilter(CustomerStatus.ACTIVE, null, Instant.parse("2024-01-01T00:00:00Z"), null)),
+            any(OutputStream.class));
+    }
+
+    @Test
+    void should_StreamImportReport_When_ImportingCsv() throws Exception {
+        // Given
+        when(customerImportService.importCustomers(any(InputStream.class), eq(ImportFormat.CSV), any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                OutputStream output = invocation.getArgument(2);
+                output.write("{\"type\":\"COMPLETED\",\"rowsRead\":1}\n".getBytes(StandardCharsets.UTF_8));
+                return ImportEvent.completed(1, 1, 0);
+            });
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/import")
+                .contentType("text/csv")
+                .content("email,firstName,lastName,phone\njohn@example.com,John,Doe,+1234567890\n"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString("COMPLETED")));
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.customerservice.controller;
 
+import com.example.customerservice.cache.CustomerJsonCache;
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.dto.ApiResponse;
 import com.example.customerservice.dto.CreateCustomerRequest;
 import com.example.customerservice.dto.UpdateCustomerRequest;
 import com.example.customerservice.dto.CustomerResponse;
@@ -9,24 +12,50 @@ import com.example.customerservice.exception.DuplicateEmailException;
 import com.example.customerservice.model.CustomerStatus;
 import com.example.customerservice.service.CustomerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CustomerController.class)
+@Import(CustomerControllerTest.JsonCacheConfig.class)
 class CustomerControllerTest {
     
+    @TestConfiguration
+    static class JsonCacheConfig {
+        
+        @Bean
+        CustomerJsonCache customerJsonCache(ObjectMapper objectMapper) {
+            return new CustomerJsonCache(new CustomerCacheProperties(true, 100, Duration.ofMinutes(5)),
+                objectMapper, new SimpleMeterRegistry());
+        }
+    }
+    
     @Autowired
     private MockMvc mockMvc;
     
@@ -118,6 +147,70 @@ class CustomerControllerTest {
             .andExpect(jsonPath("$.data.firstName").value("John"));
     }
     
+    @Test
+    void should_RenderSameJsonAsJackson_When_CustomerIsServedFromJsonCache() throws Exception {
+        // Given
+        CustomerResponse response = new CustomerResponse(
+            "test-id-123", "Zoë", "O\"Brien", "zoe@example.com", null,
+            "1 Rue de l'Église", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE,
+            Instant.parse("2024-01-01T10:00:00Z"), Instant.parse("2024-02-01T10:00:00Z")
+        );
+        when(customerService.getCustomerById("test-id-123")).thenReturn(response);
+        String expected = objectMapper.writeValueAsString(ApiResponse.success(response));
+        
+        // When
+        String body = mockMvc.perform(get("/api/v1/customers/test-id-123"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        // Then
+        assertThat(withoutTimestamp(body)).isEqualTo(withoutTimestamp(expected));
+        assertThat(body).containsPattern("\"timestamp\":\"\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}Z\"}$");
+    }
+    
+    @Test
+    void should_ReturnGzipBody_When_ClientAcceptsGzip() throws Exception {
+        // Given
+        CustomerResponse response = new CustomerResponse(
+            "test-id-123", "John", "Doe", "john.doe@example.com", "+1234567890",
+            "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE, null, null
+        );
+        when(customerService.getCustomerById("test-id-123")).thenReturn(response);
+        String identity = mockMvc.perform(get("/api/v1/customers/test-id-123"))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        // When
+        byte[] gzip = mockMvc.perform(get("/api/v1/customers/test-id-123")
+                .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andReturn().getResponse().getContentAsByteArray();
+        
+        // Then
+        String body = new String(new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(withoutTimestamp(body)).isEqualTo(withoutTimestamp(identity));
+    }
+    
+    @Test
+    void should_ReturnIdentityBody_When_ClientRefusesGzip() throws Exception {
+        // Given
+        CustomerResponse response = new CustomerResponse(
+            "test-id-123", "John", "Doe", "john.doe@example.com", "+1234567890",
+            "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE, null, null
+        );
+        when(customerService.getCustomerById("test-id-123")).thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/test-id-123")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(jsonPath("$.data.customerId").value("test-id-123"));
+    }
+    
     @Test
     void should_ReturnNotFound_When_CustomerDoesNotExist() throws Exception {
         // Given
@@ -142,7 +235,7 @@ class CustomerControllerTest {
             List.of(summary), 0, 10, 1, 1, false, false
         );
         
-        when(customerService.getCustomers(0, 10, null)).thenReturn(response);
+        when(customerService.getCustomers(0, 10, null, true)).thenReturn(response);
         
         // When & Then
         mockMvc.perform(get("/api/v1/customers"))
@@ -200,7 +293,7 @@ class CustomerControllerTest {
             List.of(summary), 0, 10, 1, 1, false, false
         );
         
-        when(customerService.searchCustomers("John", 0, 10)).thenReturn(response);
+        when(customerService.searchCustomers("John", 0, 10, true)).thenReturn(response);
         
         // When & Then
         mockMvc.perform(get("/api/v1/customers/search?name=John"))
@@ -266,7 +359,7 @@ class CustomerControllerTest {
         CustomerListResponse response = new CustomerListResponse(
             List.of(summary), 0, 10, 1, 1, false, false
         );
-        when(customerService.getCustomers(0, 10, CustomerStatus.ACTIVE)).thenReturn(response);
+        when(customerService.getCustomers(0, 10, CustomerStatus.ACTIVE, true)).thenReturn(response);
 
         // When & Then
         mockMvc.perform(get("/api/v1/customers?status=ACTIVE"))
@@ -283,7 +376,7 @@ class CustomerControllerTest {
         CustomerListResponse response = new CustomerListResponse(
             List.of(), 0, 10, 0, 0, false, false
         );
-        when(customerService.searchCustomers("Jane", 0, 10)).thenReturn(response);
+        when(customerService.searchCustomers("Jane", 0, 10, true)).thenReturn(response);
 
         // When & Then
         mockMvc.perform(get("/api/v1/customers/search?name=Jane"))
@@ -292,4 +385,137 @@ class CustomerControllerTest {
             .andExpect(jsonPath("$.data.customers").isArray())
             .andExpect(jsonPath("$.data.customers").isEmpty());
     }
+
+    @Test
+    void should_UseKeysetPagination_When_CursorProvided() throws Exception {
+        // Given
+        CustomerListResponse response = new CustomerListResponse(
+            List.of(), 0, 10, 0L, 0, false, true, null
+        );
+        when(customerService.getCustomersAfter("abc", 10, null, true)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers?cursor=abc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("SUCCESS"))
+            .andExpect(jsonPath("$.data.hasPrevious").value(true));
+        verify(customerService, never()).getCustomers(anyInt(), anyInt(), any(), anyBoolean());
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_CursorIsMalformed() throws Exception {
+        // Given
+        when(customerService.searchCustomersAfter("John", "bad", 10, true))
+            .thenThrow(new IllegalArgumentException("Invalid cursor: bad"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/search?name=John&cursor=bad"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid cursor: bad"));
+    }
+
+    @Test
+    void should_OmitTotals_When_IncludeTotalIsFalse() throws Exception {
+        // Given
+        CustomerListResponse response = new CustomerListResponse(
+            List.of(), 0, 10, null, null, true, false, null
+        );
+        when(customerService.getCustomers(0, 10, null, false)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers?includeTotal=false"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.hasNext").value(true))
+            .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+            .andExpect(jsonPath("$.data.totalPages").doesNotExist());
+    }
+
+    @Test
+    void should_ReturnStatusCounts_When_Requested() throws Exception {
+        // Given
+        CustomerListResponse response = new CustomerListResponse(
+            List.of(), 0, 10, 3L, 1, false, false, null,
+            Map.of(CustomerStatus.ACTIVE, 2L, CustomerStatus.INACTIVE, 1L, CustomerStatus.SUSPENDED, 0L)
+        );
+        when(customerService.getCustomersWithStatusCounts(0, 10, null)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers?includeStatusCounts=true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.statusCounts.ACTIVE").value(2))
+            .andExpect(jsonPath("$.data.statusCounts.SUSPENDED").value(0));
+        verify(customerService, never()).getCustomers(anyInt(), anyInt(), any(), anyBoolean());
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_StatusCountsCombinedWithCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/customers?includeStatusCounts=true&cursor="))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.status").value("ERROR"));
+    }
+
+    @Test
+    void should_ReturnSuggestions_When_PrefixGiven() throws Exception {
+        // Given
+        CustomerListResponse.CustomerSummary summary = new CustomerListResponse.CustomerSummary(
+            "test-id-123", "John", "Doe", "john.doe@example.com", CustomerStatus.ACTIVE
+        );
+        when(customerService.suggestCustomers("jo", 5)).thenReturn(List.of(summary));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/suggest?q=jo&limit=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data").isArray())
+            .andExpect(jsonPath("$.data[0].email").value("john.doe@example.com"));
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_SuggestPrefixIsBlank() throws Exception {
+        // Given
+        when(customerService.suggestCustomers(" ", 10))
+            .thenThrow(new IllegalArgumentException("Suggestion prefix must not be blank"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/suggest?q= "))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_SearchPhonetically_When_ModeIsPhonetic() throws Exception {
+        // Given
+        CustomerListResponse response = new CustomerListResponse(List.of(), 0, 10, 0, 0, false, false);
+        when(customerService.searchCustomersPhonetic("Jon Smyth", 0, 10, true)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/search?name=Jon Smyth&mode=phonetic"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("SUCCESS"));
+        verify(customerService, never()).searchCustomers(anyString(), anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_SearchModeIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/customers/search?name=John&mode=sounds-like"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_PhoneticSearchCombinedWithCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/customers/search?name=John&mode=phonetic&cursor="))
+            .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void should_DocumentGetCustomerWithApiResponseComponents() {
+        assertThat(CustomerController.CustomerApiResponse.class.getRecordComponents())
+            .extracting(RecordComponent::getName, RecordComponent::getType)
+            .containsExactlyElementsOf(Arrays.stream(ApiResponse.class.getRecordComponents())
+                .map(component -> tuple(component.getName(),
+                    component.getName().equals("data") ? CustomerResponse.class : component.getType()))
+                .toList());
+    }
+
+    private static String withoutTimestamp(String json) {
+        return json.replaceAll("\"timestamp\":\"[^\"]*\"", "");
+    }
 }
@@ -0,0 +1,163 @@
+package com.example.customerservice.controller;
+
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.exception.CustomerNotFoundException;
+import com.example.customerservice.exception.DuplicateEmailException;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.service.ReactiveCustomerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveCustomerController.class)
+class ReactiveCustomerControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveCustomerService customerService;
+
+    private final CreateCustomerRequest createRequest = new CreateCustomerRequest(
+        "John", "Doe", "john.doe@example.com", "+1234567890",
+        "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE
+    );
+
+    private final CustomerResponse customerResponse = new CustomerResponse(
+        "test-id-123", "John", "Doe", "john.doe@example.com", "+1234567890",
+        "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE, null, null
+    );
+
+    @Test
+    void should_CreateCustomer_When_ValidRequest() {
+        // Given
+        when(customerService.createCustomer(any(CreateCustomerRequest.class))).thenReturn(Mono.just(customerResponse));
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/customers")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(createRequest)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("SUCCESS")
+            .jsonPath("$.message").isEqualTo("Customer created successfully")
+            .jsonPath("$.data.customerId").isEqualTo("test-id-123");
+    }
+
+    @Test
+    void should_ReturnBadRequest_When_InvalidCreateRequest() {
+        // Given
+        CreateCustomerRequest invalidRequest = new CreateCustomerRequest(
+            "", "", "invalid-email", "invalid-phone", null, null, null
+        );
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/customers")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(invalidRequest)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("ERROR")
+            .jsonPath("$.message").isEqualTo("Validation failed");
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void should_ReturnConflict_When_EmailAlreadyExists() {
+        // Given
+        when(customerService.createCustomer(any(CreateCustomerRequest.class)))
+            .thenReturn(Mono.error(new DuplicateEmailException(createRequest.email())));
+
+        // When & Then
+        webTestClient.post().uri("/api/v1/customers")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(createRequest)
+            .exchange()
+            .expectStatus().isEqualTo(409)
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("ERROR");
+    }
+
+    @Test
+    void should_ReturnNotFound_When_CustomerDoesNotExist() {
+        // Given
+        when(customerService.getCustomerById("nonexistent-id"))
+            .thenReturn(Mono.error(new CustomerNotFoundException("nonexistent-id")));
+
+        // When & Then
+        webTestClient.get().uri("/api/v1/customers/nonexistent-id")
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("ERROR");
+    }
+
+    @Test
+    void should_UseKeysetPagination_When_CursorProvided() {
+        // Given
+        CustomerListResponse listResponse = new CustomerListResponse(
+            List.of(), 0, 10, null, null, false, true, null);
+        when(customerService.getCustomersAfter("abc", 10, null, false)).thenReturn(Mono.just(listResponse));
+
+        // When & Then
+        webTestClient.get().uri("/api/v1/customers?cursor=abc&includeTotal=false")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.hasPrevious").isEqualTo(true);
+        verify(customerService, never()).getCustomers(anyInt(), anyInt(), any(), anyBoolean());
+    }
+
+    @Test
+    void should_RejectStatusCounts_When_CombinedWithCursor() {
+        webTestClient.get().uri("/api/v1/customers?cursor=abc&includeStatusCounts=true")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("includeStatusCounts cannot be combined with cursor pagination");
+    }
+
+    @Test
+    void should_DeleteCustomer_When_CustomerExists() {
+        // Given
+        when(customerService.deleteCustomer("test-id-123")).thenReturn(Mono.empty());
+
+        // When & Then
+        webTestClient.delete().uri("/api/v1/customers/test-id-123")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("Customer deleted successfully")
+            .jsonPath("$.data").isEqualTo("test-id-123");
+    }
+
+    @Test
+    void should_SearchPhonetically_When_ModeIsPhonetic() {
+        // Given
+        CustomerListResponse listResponse = new CustomerListResponse(
+            List.of(), 0, 10, 0L, 0, false, false, null);
+        when(customerService.searchCustomersPhonetic("Jon", 0, 10, true)).thenReturn(Mono.just(listResponse));
+
+        // When & Then
+        webTestClient.get().uri("/api/v1/customers/search?name=Jon&mode=phonetic")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("SUCCESS");
+        verify(customerService, never()).searchCustomers(anyString(), anyInt(), anyInt(), anyBoolean());
+    }
+}
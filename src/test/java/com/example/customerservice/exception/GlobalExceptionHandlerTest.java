@@ -4,6 +4,7 @@ import com.example.customerservice.dto.ApiResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -159,4 +160,34 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().status()).isEqualTo("ERROR");
         assertThat(response.getBody().message()).isEqualTo("Customer with email 'null' already exists");
     }
+
+    @Test
+    @DisplayName("Should translate DuplicateKeyException on the email index into CONFLICT")
+    void shouldTranslateDuplicateKeyException() {
+        // Given
+        DuplicateKeyException exception = new DuplicateKeyException(
+            "E11000 duplicate key error collection: customerdb.customers index: email_unique "
+                + "dup key: { email: \"test@example.com\" }");
+
+        // When
+        ResponseEntity<ApiResponse<Object>> response = globalExceptionHandler.handleDuplicateKey(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Customer with email 'test@example.com' already exists");
+    }
+
+    @Test
+    @DisplayName("Should return CONFLICT for DuplicateKeyException without a recognizable key")
+    void shouldHandleDuplicateKeyExceptionWithoutKey() {
+        // When
+        ResponseEntity<ApiResponse<Object>> response =
+            globalExceptionHandler.handleDuplicateKey(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Customer with this email already exists");
+    }
 }
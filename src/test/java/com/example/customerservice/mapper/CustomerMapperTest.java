@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -242,4 +243,34 @@ class CustomerMapperTest {
         assertThat(customer.getDateOfBirth()).isEqualTo(LocalDate.of(1975, 6, 15));
         assertThat(customer.getCustomerStatus()).isEqualTo(CustomerStatus.SUSPENDED);
     }
+
+    @Test
+    @DisplayName("Should report only fields that the update request changes")
+    void shouldReportChangedFields() {
+        // Given
+        Customer customer = new Customer("John", "Doe", "john.doe@example.com", "+1234567890");
+        customer.setCustomerStatus(CustomerStatus.ACTIVE);
+        UpdateCustomerRequest request = new UpdateCustomerRequest(
+                "John", "Smith", null, "+1234567890", "1 New Street", null, CustomerStatus.ACTIVE);
+
+        // When
+        Map<String, Object> changes = customerMapper.changedFields(request, customer);
+
+        // Then
+        assertThat(changes).containsExactly(
+                Map.entry("lastName", "Smith"),
+                Map.entry("address", "1 New Street"));
+    }
+
+    @Test
+    @DisplayName("Should report no changes when the request matches the stored customer")
+    void shouldReportNoChangesForIdenticalRequest() {
+        // Given
+        Customer customer = new Customer("John", "Doe", "john.doe@example.com", "+1234567890");
+        UpdateCustomerRequest request = new UpdateCustomerRequest(
+                "John", "Doe", "john.doe@example.com", null, null, null, null);
+
+        // When & Then
+        assertThat(customerMapper.changedFields(request, customer)).isEmpty();
+    }
 }
@@ -309,4 +309,35 @@ class CustomerTest {
                     .isEmpty();
         }
     }
+
+    @Test
+    @DisplayName("Should keep name trigrams in sync with first and last name")
+    void shouldKeepNameTrigramsInSync() {
+        // Given
+        Customer customer = new Customer("John", "Doe", "john.doe@example.com", "+1234567890");
+        assertThat(customer.getNameTrigrams()).containsExactly("doe", "joh", "ohn");
+
+        // When
+        customer.setLastName("Smith");
+
+        // Then
+        assertThat(customer.getNameTrigrams()).contains("smi", "ith", "joh").doesNotContain("doe");
+    }
+
+    @Test
+    @DisplayName("Should keep normalized prefix keys in sync with names and email")
+    void shouldKeepPrefixKeysInSync() {
+        // Given
+        Customer customer = new Customer("Zoë", "Doe", "Zoe.Doe@Example.com", "+1234567890");
+        assertThat(customer.getFirstNameKey()).isEqualTo("zoe");
+        assertThat(customer.getEmailKey()).isEqualTo("zoe.doe@example.com");
+
+        // When
+        customer.setLastName("Ñúñez");
+        customer.setEmail("zn@example.com");
+
+        // Then
+        assertThat(customer.getLastNameKey()).isEqualTo("nunez");
+        assertThat(customer.getEmailKey()).isEqualTo("zn@example.com");
+    }
 }
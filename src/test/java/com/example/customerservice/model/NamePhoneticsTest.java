@@ -0,0 +1,44 @@
+package com.example.customerservice.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NamePhonetics encoding.
+ */
+class NamePhoneticsTest {
+
+    @Test
+    @DisplayName("Should encode misspelled names to shared keys")
+    void shouldEncodeMisspellingsToSharedKeys() {
+        List<String> stored = NamePhonetics.of("John", "Smith");
+
+        for (List<String> wordKeys : NamePhonetics.perWord("Jon Smyth")) {
+            assertThat(stored).containsAnyElementsOf(wordKeys);
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode each word of a multi-word name")
+    void shouldEncodeEachWord() {
+        assertThat(NamePhonetics.perWord("Mary-Jane Van Dyke")).hasSize(4);
+        assertThat(NamePhonetics.of("Mary-Jane")).containsAll(NamePhonetics.of("Mary"));
+    }
+
+    @Test
+    @DisplayName("Should fold accents before encoding")
+    void shouldFoldAccents() {
+        assertThat(NamePhonetics.of("Zoë")).isEqualTo(NamePhonetics.of("Zoe"));
+    }
+
+    @Test
+    @DisplayName("Should ignore values without letters")
+    void shouldIgnoreValuesWithoutLetters() {
+        assertThat(NamePhonetics.of(null, "123")).isEmpty();
+        assertThat(NamePhonetics.perWord(" 42 ")).isEmpty();
+    }
+}
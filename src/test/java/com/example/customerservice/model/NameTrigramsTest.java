@@ -0,0 +1,61 @@
+package com.example.customerservice.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NameTrigrams tokenization.
+ */
+class NameTrigramsTest {
+
+    @Test
+    @DisplayName("Should produce sorted distinct lower-cased trigrams")
+    void shouldProduceLowerCasedTrigrams() {
+        assertThat(NameTrigrams.of("Anna")).containsExactly("ann", "nna");
+        assertThat(NameTrigrams.of("AAAA")).containsExactly("aaa");
+    }
+
+    @Test
+    @DisplayName("Should tokenize first and last names independently")
+    void shouldNotSpanNames() {
+        // When
+        List<String> trigrams = NameTrigrams.of("Jon", "Doe");
+
+        // Then
+        assertThat(trigrams).containsExactly("doe", "jon");
+    }
+
+    @Test
+    @DisplayName("Should ignore null and short values")
+    void shouldIgnoreNullAndShortValues() {
+        assertThat(NameTrigrams.of(null, "Al")).isEmpty();
+        assertThat(NameTrigrams.isSearchable("Al")).isFalse();
+        assertThat(NameTrigrams.isSearchable(null)).isFalse();
+        assertThat(NameTrigrams.isSearchable("Ali")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should make every trigram of a substring part of the name's trigrams")
+    void shouldCoverSubstrings() {
+        // Given
+        List<String> nameTrigrams = NameTrigrams.of("Christopher", "McAllister");
+
+        // Then
+        assertThat(nameTrigrams).containsAll(NameTrigrams.of("STOPH"));
+        assertThat(nameTrigrams).containsAll(NameTrigrams.of("calli"));
+    }
+
+    @Test
+    @DisplayName("Should handle characters outside the Basic Multilingual Plane")
+    void shouldHandleSupplementaryCharacters() {
+        // Given
+        String name = "A𝐀BC";
+
+        // Then
+        assertThat(NameTrigrams.of(name)).containsExactly("a𝐀b", "𝐀bc");
+    }
+}
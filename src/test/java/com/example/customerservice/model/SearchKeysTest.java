@@ -0,0 +1,48 @@
+package com.example.customerservice.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SearchKeys normalization.
+ */
+class SearchKeysTest {
+
+    @Test
+    @DisplayName("Should lower-case and fold accents")
+    void shouldLowerCaseAndFoldAccents() {
+        assertThat(SearchKeys.normalize("Zoë")).isEqualTo("zoe");
+        assertThat(SearchKeys.normalize("  ÉLODIE ")).isEqualTo("elodie");
+        assertThat(SearchKeys.normalize("José.Núñez@Example.com")).isEqualTo("jose.nunez@example.com");
+    }
+
+    @Test
+    @DisplayName("Should return null for null values")
+    void shouldReturnNullForNull() {
+        assertThat(SearchKeys.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should bound the range of keys starting with a prefix in MongoDB's UTF-8 order")
+    void shouldBoundPrefixRange() {
+        String upperBound = SearchKeys.upperBound("jo");
+
+        assertThat(compareUtf8("jo", upperBound)).isNegative();
+        assertThat(compareUtf8("john", upperBound)).isNegative();
+        assertThat(compareUtf8("jo\uFFFF", upperBound)).isNegative();
+        assertThat(compareUtf8("jp", upperBound)).isPositive();
+    }
+
+    /**
+     * Orders strings by their UTF-8 bytes, as MongoDB compares strings, rather than by UTF-16
+     * units as {@link String#compareTo} does.
+     */
+    private static int compareUtf8(String a, String b) {
+        return Arrays.compareUnsigned(a.getBytes(UTF_8), b.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CustomerCursor encoding and decoding.
+ */
+class CustomerCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip cursor through encode and decode")
+    void shouldRoundTripCursor() {
+        // Given
+        CustomerCursor cursor = new CustomerCursor(Instant.ofEpochMilli(1_700_000_000_123L), "test-id-123");
+
+        // When
+        CustomerCursor decoded = CustomerCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should keep customer IDs containing the separator intact")
+    void shouldKeepCustomerIdsContainingSeparator() {
+        // Given
+        CustomerCursor cursor = new CustomerCursor(Instant.ofEpochMilli(42L), "tenant:abc");
+
+        // When
+        CustomerCursor decoded = CustomerCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded.customerId()).isEqualTo("tenant:abc");
+    }
+
+    @Test
+    @DisplayName("Should return null for null or blank tokens")
+    void shouldReturnNullForBlankTokens() {
+        assertThat(CustomerCursor.decode(null)).isNull();
+        assertThat(CustomerCursor.decode("")).isNull();
+        assertThat(CustomerCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens() {
+        assertThatThrownBy(() -> CustomerCursor.decode("not a cursor!"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+        assertThatThrownBy(() -> CustomerCursor.decode("bm9zZXBhcmF0b3I"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should build cursor from the last customer on a page")
+    void shouldBuildCursorFromCustomer() {
+        // Given
+        Customer customer = new Customer();
+        customer.setCustomerId("test-id-123");
+        customer.setCreatedAt(Instant.ofEpochMilli(1000L));
+
+        // When
+        CustomerCursor cursor = CustomerCursor.after(customer);
+
+        // Then
+        assertThat(cursor).isEqualTo(new CustomerCursor(Instant.ofEpochMilli(1000L), "test-id-123"));
+    }
+
+    @Test
+    @DisplayName("Should not build cursor when createdAt is missing")
+    void shouldNotBuildCursorWithoutCreatedAt() {
+        // Given
+        Customer customer = new Customer();
+        customer.setCustomerId("test-id-123");
+
+        // Then
+        assertThat(CustomerCursor.after(customer)).isNull();
+    }
+}
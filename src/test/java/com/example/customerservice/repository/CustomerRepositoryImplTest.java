@@ -0,0 +1,385 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Meta;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private CustomerRepositoryImpl customerRepositoryImpl;
+
+    @BeforeEach
+    void setUp() {
+        customerRepositoryImpl = new CustomerRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    void should_NarrowByTrigrams_When_SearchTermIsLongEnough() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+
+        // When
+        customerRepositoryImpl.searchByName("Smyth", PageRequest.of(0, 10));
+
+        // Then
+        Query query = captureFindQuery();
+        String filter = query.getQueryObject().toString();
+        assertThat(filter).contains("nameTrigrams", "$all", "smy", "myt", "yth");
+        assertThat(filter).contains("firstName", "lastName");
+        assertThat(query.getSortObject().toString()).contains("createdAt=-1");
+    }
+
+    @Test
+    void should_UseRegexOnly_When_SearchTermIsShort() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+
+        // When
+        customerRepositoryImpl.searchByName("Al", PageRequest.of(0, 10));
+
+        // Then
+        String filter = captureFindQuery().getQueryObject().toString();
+        assertThat(filter).doesNotContain("nameTrigrams");
+        assertThat(filter).contains("firstName");
+    }
+
+    @Test
+    void should_ApplyKeysetPredicate_When_CursorProvided() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+        CustomerCursor cursor = new CustomerCursor(Instant.ofEpochMilli(1000L), "test-id-123");
+
+        // When
+        customerRepositoryImpl.findByCustomerStatusAfter(null, cursor, 11);
+
+        // Then
+        Query query = captureFindQuery();
+        assertThat(query.getQueryObject().toString()).contains("$lt", "test-id-123");
+        assertThat(query.getLimit()).isEqualTo(11);
+    }
+
+    @Test
+    void should_UseAnchoredRangesOnNormalizedKeys_When_Suggesting() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+
+        // When
+        customerRepositoryImpl.suggestByPrefix("Zoë", 5);
+
+        // Then
+        Query query = captureFindQuery();
+        String filter = query.getQueryObject().toString();
+        assertThat(filter).contains("firstNameKey", "lastNameKey", "emailKey", "$gte=zoe", "$lt");
+        assertThat(filter).doesNotContain("$regex");
+        assertThat(query.getFieldsObject().toString()).contains("firstName", "email").doesNotContain("phone");
+        assertThat(query.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void should_MatchEveryWordByPhoneticKey_When_SearchingPhonetically() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of());
+
+        // When
+        customerRepositoryImpl.searchSliceByNamePhonetic("Jon Smyth", PageRequest.of(0, 10));
+
+        // Then
+        Query query = captureFindQuery();
+        String filter = query.getQueryObject().toString();
+        assertThat(filter).contains("namePhonetics", "$in", "JN", "SM0").doesNotContain("$regex");
+        assertThat(query.getLimit()).isEqualTo(11);
+    }
+
+    @Test
+    void should_RejectPhoneticSearch_When_NameHasNoLetters() {
+        assertThatThrownBy(() -> customerRepositoryImpl.searchByNamePhonetic("123", PageRequest.of(0, 10)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void should_SetOnlyChangedFields_When_UpdatingPartially() {
+        // Given
+        Customer stored = new Customer("John", "Doe", "john.doe@example.com", "+1234567890");
+        stored.setCustomerId("test-id-123");
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Customer.class))).thenReturn(stored);
+
+        // When
+        Optional<Customer> result = customerRepositoryImpl.updateChangedFields(stored, Map.of("phone", "+0987654321"));
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class),
+            eq(Customer.class));
+        assertThat(result).contains(stored);
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+            .containsOnlyKeys("phone", "updatedAt");
+        assertThat(query.getValue().getQueryObject()).containsEntry("phone", "+1234567890");
+    }
+
+    @Test
+    void should_RecomputeSearchFields_When_NameChanges() {
+        // Given
+        Customer stored = new Customer("John", "Doe", "john.doe@example.com", "+1234567890");
+        stored.setCustomerId("test-id-123");
+
+        // When
+        customerRepositoryImpl.updateChangedFields(stored, Map.of("lastName", "Smith"));
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class),
+            eq(Customer.class));
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set).containsEntry("lastName", "Smith").containsEntry("lastNameKey", "smith")
+            .containsKeys("nameTrigrams", "namePhonetics", "firstNameKey", "emailKey")
+            .doesNotContainKey("firstName");
+        assertThat(query.getValue().getQueryObject())
+            .containsEntry("firstName", "John").containsEntry("lastName", "Doe")
+            .containsEntry("email", "id-1@example.com");
+    }
+
+    @Test
+    void should_RejectUnknownFields_When_UpdatingPartially() {
+        Customer stored = new Customer("John", "Doe", "john.doe@example.com", "+1234567890");
+
+        assertThatThrownBy(() -> customerRepositoryImpl.updateChangedFields(stored, Map.of("createdAt", "x")))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void should_SendOneGuardedUpdatePerCustomer_When_BulkUpdating() {
+        // Given
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkWriteResult writeResult = mock(BulkWriteResult.class);
+        when(writeResult.getMatchedCount()).thenReturn(2);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(writeResult);
+
+        // When
+        BulkUpdateResult result = customerRepositoryImpl.updateChangedFieldsUnordered(
+            List.of(storedCustomer("id-1"), storedCustomer("id-2")),
+            List.of(Map.of("phone", "+0987654321"), Map.of("lastName", "Smith")));
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(queries.capture(), updates.capture());
+        assertThat(queries.getAllValues().get(0).getQueryObject())
+            .containsEntry("customerId", "id-1").containsEntry("phone", "+1234567890");
+        assertThat(updates.getAllValues().get(1).getUpdateObject().get("$set", Document.class))
+            .containsEntry("lastName", "Smith").containsKey("nameTrigrams");
+        assertThat(result.duplicates()).isEmpty();
+        assertThat(result.conflicts()).isEmpty();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Customer.class));
+    }
+
+    @Test
+    void should_ReadBackAppliedUpdates_When_SomeBulkUpdatesMatchNothing() {
+        // Given
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkWriteResult writeResult = mock(BulkWriteResult.class);
+        when(writeResult.getMatchedCount()).thenReturn(1);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(writeResult);
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of(storedCustomer("id-2")));
+
+        // When
+        BulkUpdateResult result = customerRepositoryImpl.updateChangedFieldsUnordered(
+            List.of(storedCustomer("id-1"), storedCustomer("id-2")),
+            List.of(Map.of("phone", "+0987654321"), Map.of("phone", "+0987654321")));
+
+        // Then
+        assertThat(result.conflicts()).containsExactly(0);
+        assertThat(result.applied(1)).isTrue();
+    }
+
+    @Test
+    void should_GuardBackfillBySourceFieldsRead_When_BackfillingSearchFields() {
+        // Given
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkWriteResult writeResult = mock(BulkWriteResult.class);
+        when(writeResult.getModifiedCount()).thenReturn(1);
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of(storedCustomer("id-1")));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(writeResult);
+
+        // When
+        long updated = customerRepositoryImpl.backfillSearchFields(100);
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(queries.capture(), updates.capture());
+        Document filter = queries.getValue().getQueryObject();
+        assertThat(filter)
+            .containsEntry("customerId", "id-1")
+            .containsEntry("firstName", "John")
+            .containsEntry("lastName", "Doe")
+            .containsEntry("email", "id-1@example.com")
+            .containsKey("$or");
+        assertThat(updates.getValue().getUpdateObject().get("$set", Document.class))
+            .containsKeys("nameTrigrams", "namePhonetics", "emailKey");
+        assertThat(updated).isEqualTo(1);
+    }
+
+    @Test
+    void should_SelectOnlyCustomersNotInTargetStatus_When_FindingTransitionCandidates() {
+        // Given
+        Customer customer = new Customer();
+        customer.setCustomerId("id-1");
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of(customer));
+        CustomerFilter filter = new CustomerFilter(null, Instant.parse("2024-01-01T00:00:00Z"), null, List.of("@Example.com"));
+
+        // When
+        List<String> ids = customerRepositoryImpl.findStatusChangeCandidates(filter, CustomerStatus.SUSPENDED, 500);
+
+        // Then
+        Query query = captureFindQuery();
+        assertThat(ids).containsExactly("id-1");
+        assertThat(query.getLimit()).isEqualTo(500);
+        assertThat(query.getQueryObject().toString())
+            .contains("createdAt", "$lt", "emailKey", "@\\Qexample.com\\E$", "$ne=SUSPENDED");
+    }
+
+    @Test
+    void should_StreamWithBatchedNonExpiringCursor_When_FilterIsEmpty() {
+        // Given
+        when(mongoTemplate.stream(any(Query.class), eq(Customer.class))).thenReturn(Stream.empty());
+
+        // When
+        customerRepositoryImpl.streamByFilter(new CustomerFilter(null, null, null, null), 1000);
+
+        // Then
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(captor.capture(), eq(Customer.class));
+        Query query = captor.getValue();
+        assertThat(query.getQueryObject()).isEmpty();
+        assertThat(query.getMeta().getCursorBatchSize()).isEqualTo(1000);
+        assertThat(query.getMeta().getFlags()).contains(Meta.CursorOption.NO_TIMEOUT);
+    }
+
+    @Test
+    void should_RejectEmptyFilter() {
+        assertThatThrownBy(() -> customerRepositoryImpl.countByFilter(new CustomerFilter(null, null, null, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void should_ReportDuplicatePositions_When_BulkInsertHitsUniqueIndex() {
+        // Given
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkOperationException failure = mock(BulkOperationException.class);
+        when(failure.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "E11000", new BsonDocument(), 1)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(failure);
+        List<Customer> customers = List.of(
+            new Customer("John", "Doe", "john.doe@example.com", "+1234567890"),
+            new Customer("Jane", "Doe", "taken@example.com", "+1234567890"));
+
+        // When
+        Set<Integer> duplicates = customerRepositoryImpl.insertUnordered(customers);
+
+        // Then
+        assertThat(duplicates).containsExactly(1);
+        verify(bulkOperations).insert(customers);
+    }
+
+    @Test
+    void should_Rethrow_When_BulkInsertFailsForOtherReasons() {
+        // Given
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkOperationException failure = mock(BulkOperationException.class);
+        when(failure.getErrors()).thenReturn(List.of(new BulkWriteError(121, "Document failed validation", new BsonDocument(), 0)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Customer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(failure);
+
+        // When & Then
+        assertThatThrownBy(() -> customerRepositoryImpl.insertUnordered(
+            List.of(new Customer("John", "Doe", "john.doe@example.com", "+1234567890"))))
+            .isSameAs(failure);
+    }
+
+    private static Customer storedCustomer(String customerId) {
+        Customer customer = new Customer("John", "Doe", customerId + "@example.com", "+1234567890");
+        customer.setCustomerId(customerId);
+        return customer;
+    }
+
+    @Test
+    void should_ReadPageThroughIndexedFind_And_CountStatusesWithGroup() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(List.of(new Customer()));
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(new AggregationResults<>(
+            List.of(new Document("_id", "ACTIVE").append("count", 7), new Document("_id", "SUSPENDED").append("count", 1)),
+            new Document()));
+
+        // When
+        CustomerStatusCountPage page = customerRepositoryImpl.findPageWithStatusCounts(CustomerStatus.ACTIVE, PageRequest.of(2, 5));
+
+        // Then
+        Query query = captureFindQuery();
+        assertThat(query.getQueryObject()).containsEntry("customerStatus", CustomerStatus.ACTIVE);
+        assertThat(query.getSortObject().toString()).contains("createdAt=-1");
+        assertThat(query.getSkip()).isEqualTo(10);
+        assertThat(query.getLimit()).isEqualTo(5);
+        @SuppressWarnings("rawtypes")
+        ArgumentCaptor<TypedAggregation> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(Document.class));
+        assertThat(aggregation.getValue().toString()).contains("$group").doesNotContain("$facet");
+        assertThat(page.customers()).hasSize(1);
+        assertThat(page.statusCounts()).containsEntry(CustomerStatus.ACTIVE, 7L)
+            .containsEntry(CustomerStatus.INACTIVE, 0L)
+            .containsEntry(CustomerStatus.SUSPENDED, 1L);
+    }
+
+    private Query captureFindQuery() {
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(Customer.class));
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.customerservice.repository;
+
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCustomerRepositoryImplTest {
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    private ReactiveCustomerRepositoryImpl customerRepositoryImpl;
+
+    @BeforeEach
+    void setUp() {
+        customerRepositoryImpl = new ReactiveCustomerRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    void should_FetchOneExtraRow_When_ReadingSlice() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(Flux.empty());
+
+        // When
+        StepVerifier.create(customerRepositoryImpl.findSliceByCustomerStatus(CustomerStatus.ACTIVE, PageRequest.of(2, 10)))
+            .verifyComplete();
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Customer.class));
+        assertThat(query.getValue().getSkip()).isEqualTo(20);
+        assertThat(query.getValue().getLimit()).isEqualTo(11);
+        assertThat(query.getValue().getSortObject().toString()).contains("createdAt=-1");
+    }
+
+    @Test
+    void should_NarrowByTrigrams_When_SearchTermIsLongEnough() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(Flux.empty());
+
+        // When
+        StepVerifier.create(customerRepositoryImpl.searchByName("Smyth", PageRequest.of(0, 10)))
+            .verifyComplete();
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Customer.class));
+        assertThat(query.getValue().getQueryObject().toString()).contains("nameTrigrams", "$all", "smy");
+    }
+
+    @Test
+    void should_SignalError_When_PhoneticNameHasNoLetters() {
+        StepVerifier.create(customerRepositoryImpl.countByNamePhonetic("123"))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void should_GuardOnStoredValues_When_UpdatingPartially() {
+        // Given
+        Customer stored = new Customer("John", "Doe", "john@example.com", null);
+        stored.setCustomerId("test-id-123");
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Customer.class)))
+            .thenReturn(Mono.empty());
+
+        // When
+        StepVerifier.create(customerRepositoryImpl.updateChangedFields(stored, Map.of("phone", "+0987654321")))
+            .verifyComplete();
+
+        // Then
+        ArgumentCaptor<Query> guard = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndModify(guard.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(Customer.class));
+        assertThat(guard.getValue().getQueryObject()).containsEntry("phone", null);
+    }
+
+    @Test
+    void should_ReportZeroCounts_When_CollectionIsEmpty() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Customer.class))).thenReturn(Flux.empty());
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(customerRepositoryImpl.findPageWithStatusCounts(null, PageRequest.of(0, 10)))
+            .assertNext(page -> {
+                assertThat(page.customers()).isEmpty();
+                assertThat(page.statusCounts()).containsEntry(CustomerStatus.ACTIVE, 0L);
+                assertThat(page.total()).isZero();
+            })
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.customerservice.search;
+
+import com.example.customerservice.model.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LuceneCustomerIndexTest {
+
+    private LuceneCustomerIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new LuceneCustomerIndex();
+        searchIndex.load(Stream.of(
+            customer("id-1", "John", "Smith", "john.smith@example.com", "+14155550101", 1000L),
+            customer("id-2", "Jane", "Doe", "jane.doe@example.com", "+14155550102", 2000L),
+            customer("id-3", "Zoë", "Müller", "zoe.mueller@example.com", "+491701234567", 3000L)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.destroy();
+    }
+
+    @Test
+    void should_BeReady_When_Loaded() {
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(new LuceneCustomerIndex().isReady()).isFalse();
+    }
+
+    @Test
+    void should_MatchMisspelledNames() {
+        // When
+        Slice<Customer> result = searchIndex.search("Jon Smyth", PageRequest.of(0, 10), false);
+
+        // Then
+        assertThat(result.getContent()).extracting(Customer::getCustomerId).containsExactly("id-1");
+        assertThat(result.getContent().get(0).getEmail()).isEqualTo("john.smith@example.com");
+    }
+
+    @Test
+    void should_MatchAccentFoldedPrefixesAndPhoneDigits() {
+        assertThat(searchIndex.search("zoe mul", PageRequest.of(0, 10), false).getContent())
+            .extracting(Customer::getCustomerId).containsExactly("id-3");
+        assertThat(searchIndex.search("4917012", PageRequest.of(0, 10), false).getContent())
+            .extracting(Customer::getCustomerId).containsExactly("id-3");
+    }
+
+    @Test
+    void should_ReturnTotal_When_Requested() {
+        // When
+        Slice<Customer> result = searchIndex.search("example", PageRequest.of(0, 2), true);
+
+        // Then
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<Customer>) result).getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void should_ApplyIncrementalChanges() {
+        // When
+        Customer renamed = customer("id-2", "Janet", "Dorsey", "janet.dorsey@example.com", "+14155550102", 2000L);
+        searchIndex.index(renamed);
+        searchIndex.remove("id-1");
+
+        // Then
+        assertThat(searchIndex.search("dorsey", PageRequest.of(0, 10), false).getContent())
+            .extracting(Customer::getCustomerId).containsExactly("id-2");
+        assertThat(searchIndex.search("smith", PageRequest.of(0, 10), false).getContent()).isEmpty();
+    }
+
+    @Test
+    void should_ReportFailureInsteadOfThrowing_When_TryIndexFails() throws IOException {
+        // Given
+        LuceneCustomerIndex closedIndex = new LuceneCustomerIndex();
+        closedIndex.destroy();
+        Customer renamed = customer("id-2", "Janet", "Dorsey", "janet.dorsey@example.com", "+14155550102", 2000L);
+
+        // When / Then
+        assertThat(closedIndex.tryIndex(renamed)).isFalse();
+        assertThat(searchIndex.tryIndex(renamed)).isTrue();
+        assertThat(searchIndex.search("dorsey", PageRequest.of(0, 10), false).getContent())
+            .extracting(Customer::getCustomerId).containsExactly("id-2");
+    }
+
+    @Test
+    void should_DropCustomersMissingFromScan_When_Reloaded() {
+        // When
+        long loaded = searchIndex.reload(Stream.of(
+            customer("id-2", "Jane", "Doe", "jane.doe@example.com", "+14155550102", 2000L)));
+
+        // Then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(searchIndex.search("example", PageRequest.of(0, 10), false).getContent())
+            .extracting(Customer::getCustomerId).containsExactly("id-2");
+    }
+
+    @Test
+    void should_ReturnNothing_When_InputHasNoTerms() {
+        assertThat(searchIndex.search("  !! ", PageRequest.of(0, 10), false).getContent()).isEmpty();
+    }
+
+    private static Customer customer(String id, String firstName, String lastName, String email, String phone,
+                                     long createdAt) {
+        Customer customer = new Customer(firstName, lastName, email, phone);
+        customer.setCustomerId(id);
+        customer.setCreatedAt(Instant.ofEpochMilli(createdAt));
+        return customer;
+    }
+}
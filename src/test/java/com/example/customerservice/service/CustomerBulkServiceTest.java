@@ -0,0 +1,419 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.cache.CustomerCache;
+import com.example.customerservice.cache.CustomerQueryCache;
+import com.example.customerservice.cache.CustomerQueryCache.QueryFamily;
+import com.example.customerservice.config.BulkProperties;
+import com.example.customerservice.dto.BatchGetRequest;
+import com.example.customerservice.dto.BatchGetResponse;
+import com.example.customerservice.dto.BulkDeleteRequest;
+import com.example.customerservice.dto.BulkDeleteResponse;
+import com.example.customerservice.dto.BulkItemResult;
+import com.example.customerservice.dto.BulkOperationResponse;
+import com.example.customerservice.dto.BulkUpdateItem;
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.StatusTransitionRequest;
+import com.example.customerservice.dto.StatusTransitionResponse;
+import com.example.customerservice.dto.UpdateCustomerRequest;
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.BulkUpdateResult;
+import com.example.customerservice.repository.CustomerFilter;
+import com.example.customerservice.repository.CustomerRepository;
+import com.example.customerservice.search.LuceneCustomerIndex;
+import com.example.customerservice.search.LuceneIndexSynchronizer;
+import jakarta.validation.Validation;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerBulkServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private CustomerQueryCache queryCache;
+
+    private CustomerBulkService customerBulkService;
+
+    @BeforeEach
+    void setUp() {
+        customerBulkService = new CustomerBulkService(customerRepository, new CustomerMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), new BulkProperties(3, 2), Optional.empty(), customerCache,
+            queryCache);
+    }
+
+    @Test
+    void should_InsertValidCustomersInOneBulkWrite() {
+        // Given
+        when(customerRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        // When
+        BulkOperationResponse response = customerBulkService.createCustomers(List.of(
+            request("john.doe@example.com"), request("jane.doe@example.com")));
+
+        // Then
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(response.items()).extracting(BulkItemResult::outcome)
+            .containsOnly(BulkItemResult.Outcome.CREATED);
+        assertThat(response.items()).extracting(BulkItemResult::customerId).doesNotContainNull();
+        verify(customerRepository).insertUnordered(argThat(customers -> customers.size() == 2));
+        verify(customerRepository, never()).insert(any(Customer.class));
+    }
+
+    @Test
+    void should_RejectInvalidAndRepeatedItems_WithoutSendingThem() {
+        // Given
+        when(customerRepository.insertUnordered(anyList())).thenReturn(Set.of());
+
+        // When
+        BulkOperationResponse response = customerBulkService.createCustomers(List.of(
+            request("john.doe@example.com"), request("not-an-email"), request("john.doe@example.com")));
+
+        // Then
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.items().get(1).error()).contains("email");
+        assertThat(response.items().get(2).error()).contains("more than once");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Customer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(customerRepository).insertUnordered(captor.capture());
+        assertThat(captor.getValue()).extracting(Customer::getEmail).containsExactly("john.doe@example.com");
+    }
+
+    @Test
+    void should_ReportExistingEmailsAsDuplicates() {
+        // Given
+        when(customerRepository.insertUnordered(anyList())).thenReturn(Set.of(1));
+
+        // When
+        BulkOperationResponse response = customerBulkService.createCustomers(List.of(
+            request("john.doe@example.com"), request("taken@example.com")));
+
+        // Then
+        assertThat(response.items().get(0).outcome()).isEqualTo(BulkItemResult.Outcome.CREATED);
+        assertThat(response.items().get(1).outcome()).isEqualTo(BulkItemResult.Outcome.FAILED);
+        assertThat(response.items().get(1).error()).isEqualTo("Customer with email 'taken@example.com' already exists");
+    }
+
+    @Test
+    void should_IndexCreatedCustomersOnce_When_InsertRaisesSaveEvents() throws Exception {
+        // Given
+        LuceneCustomerIndex searchIndex = spy(new LuceneCustomerIndex());
+        LuceneIndexSynchronizer synchronizer = new LuceneIndexSynchronizer(searchIndex, mock(MongoTemplate.class),
+            mock(TaskExecutor.class));
+        CustomerBulkService indexingService = new CustomerBulkService(customerRepository, new CustomerMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), new BulkProperties(3, 2), Optional.of(searchIndex),
+            customerCache, queryCache);
+        when(customerRepository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            customers.forEach(customer -> synchronizer.onAfterSave(new AfterSaveEvent<>(customer, new Document(), "customers")));
+            return Set.of();
+        });
+
+        // When
+        indexingService.createCustomers(List.of(request("john.doe@example.com"), request("jane.doe@example.com")));
+
+        // Then
+        verify(searchIndex, never()).index(any(Customer.class));
+        verify(searchIndex, times(1)).indexAll(argThat(customers -> customers.size() == 2));
+        assertThat(searchIndex.isIndexedByCaller()).isFalse();
+        searchIndex.destroy();
+    }
+
+    @Test
+    void should_RejectEmptyAndOversizedBatches() {
+        assertThatThrownBy(() -> customerBulkService.createCustomers(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> customerBulkService.createCustomers(
+            Collections.nCopies(4, request("john.doe@example.com"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("3");
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void should_UpdateChangedCustomersInOneBulkWrite() {
+        // Given
+        when(customerRepository.findAllById(any())).thenReturn(List.of(
+            stored("id-1", "john.doe@example.com"), stored("id-2", "jane.doe@example.com")));
+        when(customerRepository.updateChangedFieldsUnordered(anyList(), anyList()))
+            .thenReturn(new BulkUpdateResult(Set.of(), Set.of()));
+
+        // When
+        BulkOperationResponse response = customerBulkService.updateCustomers(List.of(
+            update("id-1", new UpdateCustomerRequest(null, null, null, null, null, null, CustomerStatus.INACTIVE)),
+            update("id-2", new UpdateCustomerRequest("John", null, null, null, null, null, null))));
+
+        // Then
+        assertThat(response.items()).extracting(BulkItemResult::outcome)
+            .containsExactly(BulkItemResult.Outcome.UPDATED, BulkItemResult.Outcome.UNCHANGED);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Map<String, Object>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(customerRepository).updateChangedFieldsUnordered(
+            argThat(customers -> customers.size() == 1), captor.capture());
+        assertThat(captor.getValue()).containsExactly(Map.of("customerStatus", CustomerStatus.INACTIVE));
+        verify(customerRepository, never()).findByEmailIn(any());
+        verify(customerCache).invalidateAll(List.of("id-1"));
+        verify(queryCache).invalidate(Set.of(QueryFamily.LISTING));
+    }
+
+    @Test
+    void should_CheckNewEmailsWithOneQuery_AndRejectTakenOnes() {
+        // Given
+        when(customerRepository.findAllById(any())).thenReturn(List.of(
+            stored("id-1", "john.doe@example.com"), stored("id-2", "jane.doe@example.com"),
+            stored("id-3", "jim.doe@example.com")));
+        when(customerRepository.findByEmailIn(any())).thenReturn(List.of(stored("id-9", "taken@example.com")));
+        when(customerRepository.updateChangedFieldsUnordered(anyList(), anyList()))
+            .thenReturn(new BulkUpdateResult(Set.of(), Set.of()));
+
+        // When
+        BulkOperationResponse response = customerBulkService.updateCustomers(List.of(
+            update("id-1", emailChange("new@example.com")),
+            update("id-2", emailChange("taken@example.com")),
+            update("id-3", emailChange("new@example.com"))));
+
+        // Then
+        assertThat(response.items()).extracting(BulkItemResult::outcome).containsExactly(
+            BulkItemResult.Outcome.UPDATED, BulkItemResult.Outcome.FAILED, BulkItemResult.Outcome.FAILED);
+        assertThat(response.items().get(1).error()).isEqualTo("Customer with email 'taken@example.com' already exists");
+        assertThat(response.items().get(2).error()).contains("more than once");
+        verify(customerRepository).findByEmailIn(Set.of("new@example.com", "taken@example.com"));
+        verify(customerRepository).updateChangedFieldsUnordered(
+            argThat(customers -> customers.size() == 1 && customers.get(0).getCustomerId().equals("id-1")), anyList());
+    }
+
+    @Test
+    void should_ReportMissingConflictingAndDuplicateItems() {
+        // Given
+        when(customerRepository.findAllById(any())).thenReturn(List.of(
+            stored("id-1", "john.doe@example.com"), stored("id-2", "jane.doe@example.com")));
+        when(customerRepository.findByEmailIn(any())).thenReturn(List.of());
+        when(customerRepository.updateChangedFieldsUnordered(anyList(), anyList()))
+            .thenReturn(new BulkUpdateResult(Set.of(0), Set.of(1)));
+
+        // When
+        BulkOperationResponse response = customerBulkService.updateCustomers(List.of(
+            update("id-1", emailChange("raced@example.com")),
+            update("id-2", new UpdateCustomerRequest(null, "Smith", null, null, null, null, null)),
+            update("missing", new UpdateCustomerRequest(null, "Smith", null, null, null, null, null))));
+
+        // Then
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.items().get(0).error()).isEqualTo("Customer with email 'raced@example.com' already exists");
+        assertThat(response.items().get(1).error()).contains("concurrently");
+        assertThat(response.items().get(2).error()).isEqualTo("Customer not found with ID: missing");
+    }
+
+    @Test
+    void should_RejectInvalidAndRepeatedUpdateItems() {
+        // Given
+        when(customerRepository.findAllById(any())).thenReturn(List.of(stored("id-1", "john.doe@example.com")));
+        when(customerRepository.updateChangedFieldsUnordered(anyList(), anyList()))
+            .thenReturn(new BulkUpdateResult(Set.of(), Set.of()));
+
+        // When
+        BulkOperationResponse response = customerBulkService.updateCustomers(List.of(
+            update("id-1", new UpdateCustomerRequest(null, null, null, null, null, null, CustomerStatus.INACTIVE)),
+            update("id-1", new UpdateCustomerRequest(null, null, null, null, null, null, CustomerStatus.ACTIVE)),
+            update("id-2", emailChange("not-an-email"))));
+
+        // Then
+        assertThat(response.items().get(0).outcome()).isEqualTo(BulkItemResult.Outcome.UPDATED);
+        assertThat(response.items().get(1).error()).contains("more than once");
+        assertThat(response.items().get(2).error()).contains("update.email");
+    }
+
+    @Test
+    void should_TransitionStatusInChunks_UntilNoCandidatesRemain() {
+        // Given
+        CustomerFilter filter = new CustomerFilter(null, Instant.parse("2024-01-01T00:00:00Z"), null, null);
+        when(customerRepository.countByFilter(filter)).thenReturn(4L);
+        when(customerRepository.findStatusChangeCandidates(filter, CustomerStatus.SUSPENDED, 2))
+            .thenReturn(List.of("id-1", "id-2"), List.of("id-3"));
+        when(customerRepository.updateStatus(anyCollection(), eq(filter), eq(CustomerStatus.SUSPENDED)))
+            .thenReturn(2L, 1L);
+
+        // When
+        StatusTransitionResponse response = customerBulkService.transitionStatus(
+            new StatusTransitionRequest(filter, CustomerStatus.SUSPENDED, false));
+
+        // Then
+        assertThat(response.matchedCount()).isEqualTo(4);
+        assertThat(response.modifiedCount()).isEqualTo(3);
+        verify(customerRepository).updateStatus(List.of("id-1", "id-2"), filter, CustomerStatus.SUSPENDED);
+        verify(customerRepository).updateStatus(List.of("id-3"), filter, CustomerStatus.SUSPENDED);
+        verify(customerRepository, never()).findAllById(any());
+        verify(customerCache).invalidateAll(List.of("id-1", "id-2"));
+        verify(customerCache).invalidateAll(List.of("id-3"));
+        verify(queryCache, times(2)).invalidate(Set.of(QueryFamily.LISTING));
+        verify(queryCache, never()).invalidateAll();
+    }
+
+    @Test
+    void should_OnlyCount_When_TransitionIsDryRun() {
+        // Given
+        CustomerFilter filter = new CustomerFilter(null, null, null, List.of("example.com"));
+        when(customerRepository.countByFilter(filter)).thenReturn(10L);
+        when(customerRepository.countStatusChanges(filter, CustomerStatus.INACTIVE)).thenReturn(7L);
+
+        // When
+        StatusTransitionResponse response = customerBulkService.transitionStatus(
+            new StatusTransitionRequest(filter, CustomerStatus.INACTIVE, true));
+
+        // Then
+        assertThat(response.dryRun()).isTrue();
+        assertThat(response.matchedCount()).isEqualTo(10);
+        assertThat(response.modifiedCount()).isEqualTo(7);
+        verify(customerRepository, never()).updateStatus(anyCollection(), any(), any());
+    }
+
+    @Test
+    void should_RejectTransition_When_FilterIsEmpty() {
+        assertThatThrownBy(() -> customerBulkService.transitionStatus(new StatusTransitionRequest(
+                new CustomerFilter(null, null, null, List.of()), CustomerStatus.SUSPENDED, false)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void should_DeleteDistinctIdsInOneStatement() {
+        // Given
+        when(customerRepository.deleteByCustomerIdIn(anyCollection())).thenReturn(2L);
+
+        // When
+        BulkDeleteResponse response = customerBulkService.deleteCustomers(
+            new BulkDeleteRequest(List.of("id-1", "id-2", "id-1"), null));
+
+        // Then
+        assertThat(response.deletedCount()).isEqualTo(2);
+        verify(customerRepository, times(1)).deleteByCustomerIdIn(List.of("id-1", "id-2"));
+        verify(customerCache).invalidateAll(List.of("id-1", "id-2"));
+        verify(queryCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void should_DeleteFilterMatchesInChunks_UntilNoneRemain() {
+        // Given
+        CustomerFilter filter = new CustomerFilter(CustomerStatus.INACTIVE, null, null, null);
+        when(customerRepository.findIdsByFilter(filter, 2)).thenReturn(List.of("id-1", "id-2"), List.of("id-3"));
+        when(customerRepository.deleteMatching(anyCollection(), eq(filter))).thenReturn(2L, 1L);
+
+        // When
+        BulkDeleteResponse response = customerBulkService.deleteCustomers(new BulkDeleteRequest(null, filter));
+
+        // Then
+        assertThat(response.deletedCount()).isEqualTo(3);
+        verify(customerRepository, times(2)).findIdsByFilter(filter, 2);
+        verify(customerRepository).deleteMatching(List.of("id-3"), filter);
+        verify(customerCache).invalidateAll(List.of("id-3"));
+    }
+
+    @Test
+    void should_RejectDelete_When_NeitherOrBothSelectorsAreGiven() {
+        CustomerFilter filter = new CustomerFilter(CustomerStatus.INACTIVE, null, null, null);
+
+        assertThatThrownBy(() -> customerBulkService.deleteCustomers(new BulkDeleteRequest(List.of(), null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> customerBulkService.deleteCustomers(new BulkDeleteRequest(List.of("id-1"), filter)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> customerBulkService.deleteCustomers(
+                new BulkDeleteRequest(null, new CustomerFilter(null, null, null, null))))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void should_ResolveEachKeyTypeWithOneQuery_InRequestOrder() {
+        // Given
+        when(customerRepository.findAllById(any())).thenReturn(List.of(stored("id-2", "jane.doe@example.com")));
+        when(customerRepository.findByEmailIn(any())).thenReturn(List.of(stored("id-1", "john.doe@example.com")));
+
+        // When
+        BatchGetResponse response = customerBulkService.batchGetCustomers(new BatchGetRequest(
+            List.of("missing", "id-2"), List.of("john.doe@example.com"), null));
+
+        // Then
+        assertThat(response.customerIds()).extracting(BatchGetResponse.Result::key).containsExactly("missing", "id-2");
+        assertThat(response.customerIds()).extracting(BatchGetResponse.Result::found).containsExactly(false, true);
+        assertThat(response.customerIds().get(1).customers()).singleElement()
+            .extracting(CustomerResponse::customerId).isEqualTo("id-2");
+        assertThat(response.emails().get(0).found()).isTrue();
+        assertThat(response.phones()).isEmpty();
+        verify(customerRepository).findAllById(Set.of("missing", "id-2"));
+        verify(customerRepository, never()).findByPhoneIn(any());
+    }
+
+    @Test
+    void should_ReturnEveryCustomerSharingAPhone() {
+        // Given
+        when(customerRepository.findByPhoneIn(any())).thenReturn(List.of(
+            stored("id-1", "john.doe@example.com"), stored("id-2", "jane.doe@example.com")));
+
+        // When
+        BatchGetResponse response = customerBulkService.batchGetCustomers(new BatchGetRequest(
+            null, null, List.of("+1234567890", "+1234567890")));
+
+        // Then
+        assertThat(response.phones()).hasSize(2);
+        assertThat(response.phones().get(0).customers()).hasSize(2);
+        verify(customerRepository).findByPhoneIn(Set.of("+1234567890"));
+    }
+
+    @Test
+    void should_RejectBatchGet_When_NoKeysOrTooManyKeys() {
+        assertThatThrownBy(() -> customerBulkService.batchGetCustomers(new BatchGetRequest(null, List.of(), null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> customerBulkService.batchGetCustomers(new BatchGetRequest(
+                List.of("id-1", "id-2"), List.of("a@example.com"), List.of("+1234567890"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("3");
+        verifyNoInteractions(customerRepository);
+    }
+
+    private static Customer stored(String customerId, String email) {
+        Customer customer = new Customer("John", "Doe", email, "+1234567890");
+        customer.setCustomerId(customerId);
+        customer.setCustomerStatus(CustomerStatus.ACTIVE);
+        return customer;
+    }
+
+    private static BulkUpdateItem update(String customerId, UpdateCustomerRequest request) {
+        return new BulkUpdateItem(customerId, request);
+    }
+
+    private static UpdateCustomerRequest emailChange(String email) {
+        return new UpdateCustomerRequest(null, null, email, null, null, null, null);
+    }
+
+    private static CreateCustomerRequest request(String email) {
+        return new CreateCustomerRequest("John", "Doe", email, "+1234567890", null, null, CustomerStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.repository.CustomerFilter;
+import com.example.customerservice.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerExportServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private CustomerExportService customerExportService;
+
+    private final CustomerFilter allCustomers = new CustomerFilter(null, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        customerExportService = new CustomerExportService(customerRepository, new CustomerMapper(), objectMapper);
+    }
+
+    @Test
+    void should_WriteOneJsonLinePerCustomer_And_CloseTheCursor() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(customerRepository.streamByFilter(allCustomers, CustomerExportService.CURSOR_BATCH_SIZE))
+            .thenReturn(Stream.of(customer("id-1"), customer("id-2")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = customerExportService.exportCustomers(allCustomers, output);
+
+        // Then
+        assertThat(exported).isEqualTo(2);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"customerId\":\"id-1\"", "\"createdAt\":\"2024-01-01T00:00:00Z\"");
+        assertThat(lines[1]).contains("\"customerId\":\"id-2\"");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void should_CloseTheCursor_When_OutputFails() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(customerRepository.streamByFilter(any(), anyInt()))
+            .thenReturn(Stream.of(customer("id-1")).onClose(() -> closed.set(true)));
+        OutputStream brokenOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> customerExportService.exportCustomers(allCustomers, brokenOutput))
+            .isInstanceOf(UncheckedIOException.class);
+        assertThat(closed).isTrue();
+    }
+
+    private static Customer customer(String customerId) {
+        Customer customer = new Customer("John", "Doe", customerId + "@example.com", "+1234567890");
+        customer.setCustomerId(customerId);
+        customer.setCreatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        return customer;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.config.BulkProperties;
+import com.example.customerservice.config.ImportProperties;
+import com.example.customerservice.dto.BulkItemResult;
+import com.example.customerservice.dto.BulkOperationResponse;
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.ImportEvent;
+import com.example.customerservice.dto.ImportFormat;
+import com.example.customerservice.model.CustomerStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportServiceTest {
+
+    @Mock
+    private CustomerBulkService customerBulkService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private CustomerImportService customerImportService;
+
+    @BeforeEach
+    void setUp() {
+        customerImportService = new CustomerImportService(customerBulkService, objectMapper,
+            new ImportProperties(2, 1, Duration.ofMillis(200)), new BulkProperties(1000, 5000));
+    }
+
+    @Test
+    void should_InsertNdjsonRowsInBatches_AndReportProgress() throws Exception {
+        // Given
+        when(customerBulkService.createCustomers(anyList())).thenAnswer(invocation -> allCreated(invocation.getArgument(0)));
+        String upload = json("a@example.com") + "\n\n" + json("b@example.com") + "\n" + json("c@example.com") + "\n";
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+
+        // When
+        ImportEvent completed = customerImportService.importCustomers(input(upload), ImportFormat.NDJSON, report);
+
+        // Then
+        assertThat(completed.rowsRead()).isEqualTo(3);
+        assertThat(completed.created()).isEqualTo(3);
+        verify(customerBulkService, times(2)).createCustomers(anyList());
+        List<ImportEvent> events = events(report);
+        assertThat(events).extracting(ImportEvent::type).containsExactly(
+            ImportEvent.Type.PROGRESS, ImportEvent.Type.PROGRESS, ImportEvent.Type.COMPLETED);
+        assertThat(events.get(0).rowsRead()).isEqualTo(2);
+    }
+
+    @Test
+    void should_ReportMalformedAndRejectedRows_WithTheirLineNumbers() throws Exception {
+        // Given
+        when(customerBulkService.createCustomers(anyList())).thenReturn(BulkOperationResponse.of(List.of(
+            BulkItemResult.succeeded(0, "id-1", BulkItemResult.Outcome.CREATED),
+            BulkItemResult.failed(1, null, "Customer with email 'b@example.com' already exists"))));
+        String upload = json("a@example.com") + "\n{not json\n" + json("b@example.com") + "\n";
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+
+        // When
+        ImportEvent completed = customerImportService.importCustomers(input(upload), ImportFormat.NDJSON, report);
+
+        // Then
+        assertThat(completed.created()).isEqualTo(1);
+        assertThat(completed.failed()).isEqualTo(2);
+        List<ImportEvent> failures = events(report).stream()
+            .filter(event -> event.type() == ImportEvent.Type.ROW_FAILED)
+            .toList();
+        assertThat(failures).extracting(ImportEvent::line).containsExactly(2L, 3L);
+        assertThat(failures.get(0).error()).startsWith("Invalid row");
+        assertThat(failures.get(1).error()).contains("already exists");
+    }
+
+    @Test
+    void should_MapCsvColumnsByHeader() throws Exception {
+        // Given
+        when(customerBulkService.createCustomers(anyList())).thenAnswer(invocation -> allCreated(invocation.getArgument(0)));
+        String upload = """
+            email,firstName,lastName,phone,address,dateOfBirth,customerStatus
+            a@example.com,John,Doe,+1234567890,"1 Main St, ""Apt"" 2",1990-05-15,INACTIVE
+            b@example.com,Jane,Doe,+1234567890,,,
+            """;
+
+        // When
+        customerImportService.importCustomers(input(upload), ImportFormat.CSV, new ByteArrayOutputStream());
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateCustomerRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(customerBulkService).createCustomers(captor.capture());
+        CreateCustomerRequest first = captor.getValue().get(0);
+        assertThat(first.email()).isEqualTo("a@example.com");
+        assertThat(first.address()).isEqualTo("1 Main St, \"Apt\" 2");
+        assertThat(first.dateOfBirth()).isEqualTo(LocalDate.of(1990, 5, 15));
+        assertThat(first.customerStatus()).isEqualTo(CustomerStatus.INACTIVE);
+        assertThat(captor.getValue().get(1).address()).isNull();
+    }
+
+    @Test
+    void should_RejectCsvWithUnknownColumns_BeforeWritingAnyReport() {
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> customerImportService.importCustomers(
+                input("email,nickname\na@example.com,Jo\n"), ImportFormat.CSV, report))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("nickname");
+        assertThat(report.size()).isZero();
+        verifyNoInteractions(customerBulkService);
+    }
+
+    @Test
+    void should_ShrinkBatchesWhenWritesAreSlow_AndGrowThemWhenFast() {
+        CustomerImportService service = new CustomerImportService(customerBulkService, objectMapper,
+            new ImportProperties(1000, 50, Duration.ofMillis(200)), new BulkProperties(1000, 5000));
+
+        assertThat(service.nextBatchSize(1000, Duration.ofMillis(500).toNanos())).isEqualTo(500);
+        assertThat(service.nextBatchSize(60, Duration.ofMillis(500).toNanos())).isEqualTo(50);
+        assertThat(service.nextBatchSize(500, Duration.ofMillis(20).toNanos())).isEqualTo(625);
+        assertThat(service.nextBatchSize(900, Duration.ofMillis(20).toNanos())).isEqualTo(1000);
+        assertThat(service.nextBatchSize(500, Duration.ofMillis(150).toNanos())).isEqualTo(500);
+    }
+
+    @Test
+    void should_SplitCsvFields() {
+        assertThat(CustomerImportService.splitCsv("a,\"b,c\",,\"d\"\"e\"")).containsExactly("a", "b,c", "", "d\"e");
+        assertThatThrownBy(() -> CustomerImportService.splitCsv("a,\"b"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BulkOperationResponse allCreated(List<CreateCustomerRequest> requests) {
+        return BulkOperationResponse.of(IntStream.range(0, requests.size())
+            .mapToObj(i -> BulkItemResult.succeeded(i, "id-" + i, BulkItemResult.Outcome.CREATED))
+            .toList());
+    }
+
+    private static String json(String email) {
+        return "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"" + email + "\",\"phone\":\"+1234567890\"}";
+    }
+
+    private static InputStream input(String upload) {
+        return new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<ImportEvent> events(ByteArrayOutputStream report) throws Exception {
+        List<ImportEvent> events = new ArrayList<>();
+        for (String line : report.toString(StandardCharsets.UTF_8).split("\n")) {
+            events.add(objectMapper.readValue(line, ImportEvent.class));
+        }
+        return events;
+    }
+}
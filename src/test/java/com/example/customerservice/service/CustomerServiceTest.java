@@ -1,5 +1,9 @@
 package com.example.customerservice.service;
 
+import com.example.customerservice.cache.CustomerCache;
+import com.example.customerservice.cache.CustomerQueryCache;
+import com.example.customerservice.config.CustomerCacheProperties;
+import com.example.customerservice.config.CustomerQueryCacheProperties;
 import com.example.customerservice.dto.CreateCustomerRequest;
 import com.example.customerservice.dto.UpdateCustomerRequest;
 import com.example.customerservice.dto.CustomerResponse;
@@ -9,21 +13,38 @@ import com.example.customerservice.exception.DuplicateEmailException;
 import com.example.customerservice.mapper.CustomerMapper;
 import com.example.customerservice.model.Customer;
 import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerCursor;
+import com.example.customerservice.repository.CustomerStatusCountPage;
 import com.example.customerservice.repository.CustomerRepository;
+import com.example.customerservice.search.LuceneCustomerIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,13 +54,23 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CustomerServiceTest {
     
+    private static final int CONCURRENT_READS = 20;
+    
     @Mock
     private CustomerRepository customerRepository;
     
     @Mock
     private CustomerMapper customerMapper;
     
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private final CustomerCache customerCache = new CustomerCache(
+        new CustomerCacheProperties(true, 100, Duration.ofMinutes(5)), meterRegistry);
+    
+    // Result caching is exercised by the query cache tests at the end
+    private final CustomerQueryCache disabledQueryCache = new CustomerQueryCache(
+        new CustomerQueryCacheProperties(false, 100, Duration.ofSeconds(30)), meterRegistry);
+    
     private CustomerService customerService;
     
     private CreateCustomerRequest createRequest;
@@ -49,6 +80,9 @@ class CustomerServiceTest {
     
     @BeforeEach
     void setUp() {
+        customerService = new CustomerService(customerRepository, customerMapper, customerCache, disabledQueryCache,
+            meterRegistry, Optional.empty());
+        
         createRequest = new CreateCustomerRequest(
             "John", "Doe", "john.doe@example.com", "+1234567890",
             "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE
@@ -76,9 +110,8 @@ class CustomerServiceTest {
     @Test
     void should_CreateCustomer_When_EmailIsUnique() {
         // Given
-        when(customerRepository.existsByEmail(createRequest.email())).thenReturn(false);
         when(customerMapper.toEntity(createRequest)).thenReturn(customer);
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.insert(any(Customer.class))).thenReturn(customer);
         when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
         
         // When
@@ -86,19 +119,23 @@ class CustomerServiceTest {
         
         // Then
         assertThat(result).isEqualTo(customerResponse);
-        verify(customerRepository).existsByEmail(createRequest.email());
-        verify(customerRepository).save(any(Customer.class));
+        verify(customerRepository).insert(any(Customer.class));
+        verify(customerRepository, never()).existsByEmail(anyString());
+        verify(customerRepository, never()).save(any(Customer.class));
     }
     
     @Test
     void should_ThrowDuplicateEmailException_When_EmailAlreadyExists() {
         // Given
-        when(customerRepository.existsByEmail(createRequest.email())).thenReturn(true);
+        when(customerMapper.toEntity(createRequest)).thenReturn(customer);
+        when(customerRepository.insert(any(Customer.class)))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
         
         // When & Then
         assertThatThrownBy(() -> customerService.createCustomer(createRequest))
             .isInstanceOf(DuplicateEmailException.class)
-            .hasMessageContaining(createRequest.email());
+            .hasMessageContaining(createRequest.email())
+            .hasCauseInstanceOf(DuplicateKeyException.class);
         
         verify(customerRepository, never()).save(any(Customer.class));
     }
@@ -117,6 +154,45 @@ class CustomerServiceTest {
         verify(customerRepository).findById("test-id-123");
     }
     
+    @Test
+    void should_ServeCustomerFromCache_When_ReadAgain() {
+        // Given
+        when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+        
+        // When
+        customerService.getCustomerById("test-id-123");
+        CustomerResponse result = customerService.getCustomerById("test-id-123");
+        
+        // Then
+        assertThat(result).isEqualTo(customerResponse);
+        verify(customerRepository, times(1)).findById("test-id-123");
+    }
+    
+    @Test
+    void should_ReadCustomerAgain_When_UpdatedOrDeletedAfterCaching() {
+        // Given
+        Map<String, Object> changes = Map.of("phone", "+0987654321");
+        when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes)).thenReturn(Optional.of(customer));
+        when(customerRepository.deleteByCustomerId("test-id-123")).thenReturn(1L);
+        customerService.getCustomerById("test-id-123");
+        
+        // When
+        customerService.updateCustomer("test-id-123", updateRequest);
+        customerService.getCustomerById("test-id-123");
+        customerService.deleteCustomer("test-id-123");
+        when(customerRepository.findById("test-id-123")).thenReturn(Optional.empty());
+        
+        // Then
+        assertThatThrownBy(() -> customerService.getCustomerById("test-id-123"))
+            .isInstanceOf(CustomerNotFoundException.class);
+        // initial read, update read, read after update, read after delete
+        verify(customerRepository, times(4)).findById("test-id-123");
+    }
+    
     @Test
     void should_ThrowCustomerNotFoundException_When_CustomerDoesNotExist() {
         // Given
@@ -195,7 +271,7 @@ class CustomerServiceTest {
         CustomerListResponse.CustomerSummary summary = new CustomerListResponse.CustomerSummary(
             "test-id-123", "John", "Doe", "john.doe@example.com", CustomerStatus.ACTIVE
         );
-        when(customerRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(eq("John"), eq("John"), any(Pageable.class))).thenReturn(customerPage);
+        when(customerRepository.searchByName(eq("John"), any(Pageable.class))).thenReturn(customerPage);
         when(customerMapper.toSummary(customer)).thenReturn(summary);
 
         // When
@@ -211,7 +287,7 @@ class CustomerServiceTest {
     void should_SearchCustomers_ReturnEmpty_When_NoResults() {
         // Given
         Page<Customer> customerPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-        when(customerRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(eq("Jane"), eq("Jane"), any(Pageable.class))).thenReturn(customerPage);
+        when(customerRepository.searchByName(eq("Jane"), any(Pageable.class))).thenReturn(customerPage);
 
         // When
         CustomerListResponse result = customerService.searchCustomers("Jane", 0, 10);
@@ -226,7 +302,7 @@ class CustomerServiceTest {
     void should_SearchCustomers_WithDefaultPageAndSize_When_InvalidPageAndSize() {
         // Given
         Page<Customer> customerPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
-        when(customerRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(anyString(), anyString(), any(Pageable.class))).thenReturn(customerPage);
+        when(customerRepository.searchByName(anyString(), any(Pageable.class))).thenReturn(customerPage);
 
         // When
         CustomerListResponse result = customerService.searchCustomers("John", -1, 0);
@@ -240,10 +316,10 @@ class CustomerServiceTest {
     @Test
     void should_UpdateCustomer_When_CustomerExists() {
         // Given
+        Map<String, Object> changes = Map.of("lastName", "Smith", "email", "john.smith@example.com");
         when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
-        when(customerRepository.existsByEmailAndCustomerIdNot(updateRequest.email(), "test-id-123"))
-            .thenReturn(false);
-        when(customerRepository.save(customer)).thenReturn(customer);
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes)).thenReturn(Optional.of(customer));
         when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
         
         // When
@@ -251,16 +327,19 @@ class CustomerServiceTest {
         
         // Then
         assertThat(result).isEqualTo(customerResponse);
-        verify(customerMapper).updateEntityFromRequest(updateRequest, customer);
-        verify(customerRepository).save(customer);
+        verify(customerRepository).updateChangedFields(customer, changes);
+        verify(customerRepository, never()).existsByEmailAndCustomerIdNot(anyString(), anyString());
+        verify(customerRepository, never()).save(any(Customer.class));
     }
     
     @Test
     void should_ThrowDuplicateEmailException_When_UpdateEmailAlreadyExists() {
         // Given
+        Map<String, Object> changes = Map.of("email", updateRequest.email());
         when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
-        when(customerRepository.existsByEmailAndCustomerIdNot(updateRequest.email(), "test-id-123"))
-            .thenReturn(true);
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
         
         // When & Then
         assertThatThrownBy(() -> customerService.updateCustomer("test-id-123", updateRequest))
@@ -271,11 +350,10 @@ class CustomerServiceTest {
     }
     
     @Test
-    void should_UpdateCustomer_When_EmailNotChanged() {
+    void should_SkipWrite_When_UpdateChangesNothing() {
         // Given
-        customer.setEmail(updateRequest.email());
         when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
-        when(customerRepository.save(customer)).thenReturn(customer);
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(Map.of());
         when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
 
         // When
@@ -283,33 +361,65 @@ class CustomerServiceTest {
 
         // Then
         assertThat(result).isEqualTo(customerResponse);
-        verify(customerMapper).updateEntityFromRequest(updateRequest, customer);
-        verify(customerRepository).save(customer);
+        verify(customerRepository, never()).updateChangedFields(any(), any());
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+    
+    @Test
+    void should_RetryUpdate_When_CustomerChangedConcurrently() {
+        // Given
+        Map<String, Object> changes = Map.of("phone", "+0987654321");
+        when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+
+        // When
+        CustomerResponse result = customerService.updateCustomer("test-id-123", updateRequest);
+
+        // Then
+        assertThat(result).isEqualTo(customerResponse);
+        verify(customerRepository, times(2)).findById("test-id-123");
+    }
+    
+    @Test
+    void should_FailUpdate_When_ConcurrentUpdatesKeepWinning() {
+        // Given
+        Map<String, Object> changes = Map.of("phone", "+0987654321");
+        when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> customerService.updateCustomer("test-id-123", updateRequest))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(customerRepository, times(CustomerService.MAX_UPDATE_ATTEMPTS)).updateChangedFields(customer, changes);
     }
     
     @Test
     void should_DeleteCustomer_When_CustomerExists() {
         // Given
-        when(customerRepository.existsById("test-id-123")).thenReturn(true);
+        when(customerRepository.deleteByCustomerId("test-id-123")).thenReturn(1L);
         
         // When
         customerService.deleteCustomer("test-id-123");
         
         // Then
-        verify(customerRepository).deleteById("test-id-123");
+        verify(customerRepository).deleteByCustomerId("test-id-123");
+        verify(customerRepository, never()).existsById(anyString());
     }
     
     @Test
     void should_ThrowCustomerNotFoundException_When_DeletingNonexistentCustomer() {
         // Given
-        when(customerRepository.existsById("nonexistent-id")).thenReturn(false);
+        when(customerRepository.deleteByCustomerId("nonexistent-id")).thenReturn(0L);
         
         // When & Then
         assertThatThrownBy(() -> customerService.deleteCustomer("nonexistent-id"))
             .isInstanceOf(CustomerNotFoundException.class)
             .hasMessageContaining("nonexistent-id");
-        
-        verify(customerRepository, never()).deleteById(anyString());
     }
     
     @Test
@@ -332,4 +442,406 @@ class CustomerServiceTest {
         verifyNoMoreInteractions(customerRepository);
         verifyNoInteractions(customerMapper);
     }
+
+    @Test
+    void should_ReturnNextCursor_When_KeysetPageHasMoreRows() {
+        // Given
+        Customer second = new Customer();
+        second.setCustomerId("test-id-456");
+        customer.setCreatedAt(Instant.ofEpochMilli(2000L));
+        second.setCreatedAt(Instant.ofEpochMilli(1000L));
+        CustomerListResponse.CustomerSummary summary = new CustomerListResponse.CustomerSummary(
+            "test-id-123", "John", "Doe", "john.doe@example.com", CustomerStatus.ACTIVE
+        );
+        when(customerRepository.findByCustomerStatusAfter(null, null, 2)).thenReturn(List.of(customer, second));
+        when(customerRepository.count()).thenReturn(5L);
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When
+        CustomerListResponse result = customerService.getCustomersAfter("", 1, null, true);
+
+        // Then
+        assertThat(result.customers()).containsExactly(summary);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.hasPrevious()).isFalse();
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalPages()).isEqualTo(5);
+        assertThat(CustomerCursor.decode(result.nextCursor()))
+            .isEqualTo(new CustomerCursor(Instant.ofEpochMilli(2000L), "test-id-123"));
+    }
+
+    @Test
+    void should_ResumeAfterCursor_When_CursorProvided() {
+        // Given
+        CustomerCursor cursor = new CustomerCursor(Instant.ofEpochMilli(2000L), "test-id-123");
+        when(customerRepository.findByCustomerStatusAfter(CustomerStatus.ACTIVE, cursor, 11)).thenReturn(List.of());
+        when(customerRepository.countByCustomerStatus(CustomerStatus.ACTIVE)).thenReturn(1L);
+
+        // When
+        CustomerListResponse result = customerService.getCustomersAfter(cursor.encode(), 10, CustomerStatus.ACTIVE, true);
+
+        // Then
+        assertThat(result.customers()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.hasPrevious()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+        verify(customerRepository, never()).findByCustomerStatus(any(), any(Pageable.class));
+    }
+
+    @Test
+    void should_SearchCustomersAfterCursor() {
+        // Given
+        when(customerRepository.searchByNameAfter("John", null, 11)).thenReturn(List.of(customer));
+        when(customerRepository.countByName("John")).thenReturn(1L);
+
+        // When
+        CustomerListResponse result = customerService.searchCustomersAfter("John", null, 10, true);
+
+        // Then
+        assertThat(result.customers()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void should_RejectMalformedCursor() {
+        assertThatThrownBy(() -> customerService.getCustomersAfter("%%%", 10, null, true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void should_SkipCountQuery_When_IncludeTotalIsFalse() {
+        // Given
+        Slice<Customer> customerSlice = new SliceImpl<>(List.of(customer), PageRequest.of(0, 1), true);
+        when(customerRepository.findSliceByCustomerStatus(eq(CustomerStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(customerSlice);
+
+        // When
+        CustomerListResponse result = customerService.getCustomers(0, 1, CustomerStatus.ACTIVE, false);
+
+        // Then
+        assertThat(result.customers()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.totalPages()).isNull();
+        verify(customerRepository, never()).findByCustomerStatus(any(), any(Pageable.class));
+        verify(customerRepository, never()).countByCustomerStatus(any());
+        assertThat(meterRegistry.get("customers.list.queries").tag("mode", "count-free").summary().totalAmount())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void should_SearchWithoutCount_When_IncludeTotalIsFalse() {
+        // Given
+        Slice<Customer> customerSlice = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+        when(customerRepository.searchSliceByName(eq("John"), any(Pageable.class))).thenReturn(customerSlice);
+
+        // When
+        CustomerListResponse result = customerService.searchCustomers("John", 0, 10, false);
+
+        // Then
+        assertThat(result.customers()).isEmpty();
+        assertThat(result.totalElements()).isNull();
+        verify(customerRepository, never()).searchByName(anyString(), any(Pageable.class));
+        verify(customerRepository, never()).countByName(anyString());
+    }
+
+    @Test
+    void should_RecordCountQuery_When_PageIsFull() {
+        // Given
+        Page<Customer> customerPage = new PageImpl<>(List.of(customer), PageRequest.of(0, 1), 3);
+        when(customerRepository.findAll(any(Pageable.class))).thenReturn(customerPage);
+
+        // When
+        customerService.getCustomers(0, 1, null, true);
+
+        // Then
+        assertThat(meterRegistry.get("customers.list.queries").tag("mode", "counted").summary().totalAmount())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void should_ReturnStatusCounts_WithoutPerStatusQueries() {
+        // Given
+        Map<CustomerStatus, Long> statusCounts = new EnumMap<>(Map.of(
+            CustomerStatus.ACTIVE, 7L, CustomerStatus.INACTIVE, 2L, CustomerStatus.SUSPENDED, 1L));
+        when(customerRepository.findPageWithStatusCounts(eq(CustomerStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(new CustomerStatusCountPage(List.of(customer), statusCounts));
+
+        // When
+        CustomerListResponse result = customerService.getCustomersWithStatusCounts(0, 5, CustomerStatus.ACTIVE);
+
+        // Then
+        assertThat(result.customers()).hasSize(1);
+        assertThat(result.totalElements()).isEqualTo(7);
+        assertThat(result.totalPages()).isEqualTo(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.statusCounts()).containsEntry(CustomerStatus.SUSPENDED, 1L);
+        verify(customerRepository, never()).findByCustomerStatus(any(), any(Pageable.class));
+        verify(customerRepository, never()).countByCustomerStatus(any());
+    }
+
+    @Test
+    void should_ReportCollectionTotal_When_StatusCountsHaveNoStatusFilter() {
+        // Given
+        Map<CustomerStatus, Long> statusCounts = new EnumMap<>(Map.of(
+            CustomerStatus.ACTIVE, 7L, CustomerStatus.INACTIVE, 2L, CustomerStatus.SUSPENDED, 1L));
+        when(customerRepository.findPageWithStatusCounts(isNull(), any(Pageable.class)))
+            .thenReturn(new CustomerStatusCountPage(List.of(), statusCounts));
+
+        // When
+        CustomerListResponse result = customerService.getCustomersWithStatusCounts(0, 10, null);
+
+        // Then
+        assertThat(result.totalElements()).isEqualTo(10);
+        assertThat(result.statusCounts()).hasSize(3);
+    }
+
+    @Test
+    void should_ReturnSuggestionsOrderedByName() {
+        // Given
+        Customer zoe = new Customer("Zoë", "Adams", "zoe.adams@example.com", "+1234567891");
+        zoe.setCustomerId("test-id-456");
+        when(customerRepository.suggestByPrefix("jo", 10)).thenReturn(List.of(customer, zoe));
+        when(customerMapper.toSummary(any(Customer.class))).thenAnswer(invocation -> {
+            Customer c = invocation.getArgument(0);
+            return new CustomerListResponse.CustomerSummary(
+                c.getCustomerId(), c.getFirstName(), c.getLastName(), c.getEmail(), c.getCustomerStatus());
+        });
+
+        // When
+        List<CustomerListResponse.CustomerSummary> result = customerService.suggestCustomers("jo", 10);
+
+        // Then
+        assertThat(result).extracting(CustomerListResponse.CustomerSummary::lastName).containsExactly("Adams", "Doe");
+    }
+
+    @Test
+    void should_CapSuggestionLimit_When_LimitExceedsMaximum() {
+        // Given
+        when(customerRepository.suggestByPrefix("jo", 25)).thenReturn(List.of());
+
+        // When
+        customerService.suggestCustomers("jo", 100);
+
+        // Then
+        verify(customerRepository).suggestByPrefix("jo", 25);
+    }
+
+    @Test
+    void should_UseDefaultSuggestionLimit_When_LimitIsNotPositive() {
+        // Given
+        when(customerRepository.suggestByPrefix("jo", 10)).thenReturn(List.of());
+
+        // When
+        customerService.suggestCustomers("jo", 0);
+
+        // Then
+        verify(customerRepository).suggestByPrefix("jo", 10);
+    }
+
+    @Test
+    void should_RejectBlankSuggestionPrefix() {
+        assertThatThrownBy(() -> customerService.suggestCustomers("  ", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void should_SearchLuceneIndex_When_EngineIsReady() {
+        // Given
+        LuceneCustomerIndex searchIndex = mock(LuceneCustomerIndex.class);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(eq("Jon Smyth"), any(Pageable.class), eq(true)))
+            .thenReturn(new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1));
+        customerService = new CustomerService(customerRepository, customerMapper, customerCache, disabledQueryCache,
+            meterRegistry, Optional.of(searchIndex));
+
+        // When
+        CustomerListResponse result = customerService.searchCustomers("Jon Smyth", 0, 10, true);
+
+        // Then
+        assertThat(result.customers()).hasSize(1);
+        assertThat(result.totalElements()).isEqualTo(1L);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void should_FallBackToMongo_When_LuceneIndexIsLoading() {
+        // Given
+        LuceneCustomerIndex searchIndex = mock(LuceneCustomerIndex.class);
+        when(searchIndex.isReady()).thenReturn(false);
+        when(customerRepository.searchSliceByName(eq("John"), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+        customerService = new CustomerService(customerRepository, customerMapper, customerCache, disabledQueryCache,
+            meterRegistry, Optional.of(searchIndex));
+
+        // When
+        customerService.searchCustomers("John", 0, 10, false);
+
+        // Then
+        verify(searchIndex, never()).search(anyString(), any(Pageable.class), anyBoolean());
+    }
+
+    @Test
+    void should_SearchPhonetically() {
+        // Given
+        Page<Customer> customerPage = new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1);
+        when(customerRepository.searchByNamePhonetic(eq("Jon Doh"), any(Pageable.class))).thenReturn(customerPage);
+
+        // When
+        CustomerListResponse result = customerService.searchCustomersPhonetic("Jon Doh", 0, 10, true);
+
+        // Then
+        assertThat(result.customers()).hasSize(1);
+        assertThat(result.totalElements()).isEqualTo(1L);
+        verify(customerRepository, never()).searchByName(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void should_ServeRepeatedListingFromQueryCache_When_NothingWasWritten() {
+        // Given
+        CustomerService cachingService = withQueryCache();
+        when(customerRepository.findAll(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1));
+        when(customerRepository.findAllById(List.of("test-id-123"))).thenReturn(List.of(customer));
+        when(customerMapper.toSummary(customer)).thenReturn(summary());
+
+        // When
+        CustomerListResponse first = cachingService.getCustomers(0, 10, null);
+        CustomerListResponse second = cachingService.getCustomers(0, 10, null);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        verify(customerRepository, times(1)).findAll(any(Pageable.class));
+        assertThat(meterRegistry.get("customers.list.queries").tag("mode", "cached").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_InvalidateOnlyListings_When_StatusIsUpdated() {
+        // Given
+        CustomerService cachingService = withQueryCache();
+        when(customerRepository.findAll(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1));
+        when(customerRepository.searchByName(eq("John"), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1));
+        when(customerRepository.findAllById(List.of("test-id-123"))).thenReturn(List.of(customer));
+        when(customerMapper.toSummary(customer)).thenReturn(summary());
+        when(customerRepository.findById("test-id-123")).thenReturn(Optional.of(customer));
+        Map<String, Object> changes = Map.of("customerStatus", CustomerStatus.INACTIVE);
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes)).thenReturn(Optional.of(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+        cachingService.getCustomers(0, 10, null);
+        cachingService.searchCustomers("John", 0, 10);
+
+        // When
+        cachingService.updateCustomer("test-id-123", updateRequest);
+        cachingService.getCustomers(0, 10, null);
+        cachingService.searchCustomers("JOHN", 0, 10);
+
+        // Then
+        verify(customerRepository, times(2)).findAll(any(Pageable.class));
+        verify(customerRepository, times(1)).searchByName(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void should_QueryAgain_When_CachedCustomerNoLongerExists() {
+        // Given
+        CustomerService cachingService = withQueryCache();
+        when(customerRepository.findAll(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1));
+        when(customerRepository.findAllById(List.of("test-id-123"))).thenReturn(List.of());
+        when(customerMapper.toSummary(customer)).thenReturn(summary());
+        cachingService.getCustomers(0, 10, null);
+
+        // When
+        CustomerListResponse result = cachingService.getCustomers(0, 10, null);
+
+        // Then
+        assertThat(result.customers()).containsExactly(summary());
+        verify(customerRepository, times(2)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void should_ShareOneRead_When_SameCustomerIsReadConcurrentlyOnVirtualThreads() throws Exception {
+        // Given
+        CustomerService uncachedService = new CustomerService(customerRepository, customerMapper,
+            new CustomerCache(new CustomerCacheProperties(false, 100, Duration.ofMinutes(5)), meterRegistry),
+            disabledQueryCache, meterRegistry, Optional.empty());
+        CountDownLatch release = new CountDownLatch(1);
+        when(customerRepository.findById("test-id-123")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(customer);
+        });
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+
+        // When
+        List<Future<CustomerResponse>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < CONCURRENT_READS; i++) {
+            results.add(executor.submit(() -> uncachedService.getCustomerById("test-id-123")));
+        }
+        waitForCoalesced("customer", CONCURRENT_READS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<CustomerResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(customerResponse);
+        }
+        verify(customerRepository, times(1)).findById("test-id-123");
+        executor.shutdown();
+    }
+
+    @Test
+    void should_ShareOneQuery_When_SameListingIsReadConcurrentlyOnPlatformThreads() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(customerRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new PageImpl<>(List.of(customer), PageRequest.of(0, 10), 1);
+        });
+        when(customerMapper.toSummary(customer)).thenReturn(summary());
+
+        // When
+        List<Future<CustomerListResponse>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_READS);
+        for (int i = 0; i < CONCURRENT_READS; i++) {
+            results.add(executor.submit(() -> customerService.getCustomers(0, 10, null)));
+        }
+        waitForCoalesced("query", CONCURRENT_READS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<CustomerListResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).customers()).containsExactly(summary());
+        }
+        verify(customerRepository, times(1)).findAll(any(Pageable.class));
+        executor.shutdown();
+    }
+
+    private void waitForCoalesced(String read, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced(read) < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(coalesced(read)).isEqualTo(count);
+    }
+
+    private double coalesced(String read) {
+        return meterRegistry.get("customers.reads.coalesced").tag("read", read).counter().count();
+    }
+
+    private CustomerService withQueryCache() {
+        CustomerQueryCache queryCache = new CustomerQueryCache(
+            new CustomerQueryCacheProperties(true, 100, Duration.ofSeconds(30)), meterRegistry);
+        return new CustomerService(customerRepository, customerMapper, customerCache, queryCache,
+            meterRegistry, Optional.empty());
+    }
+
+    private static CustomerListResponse.CustomerSummary summary() {
+        return new CustomerListResponse.CustomerSummary(
+            "test-id-123", "John", "Doe", "john.doe@example.com", CustomerStatus.ACTIVE);
+    }
 }
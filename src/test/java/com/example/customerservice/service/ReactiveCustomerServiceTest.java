@@ -0,0 +1,335 @@
+package com.example.customerservice.service;
+
+import com.example.customerservice.dto.CreateCustomerRequest;
+import com.example.customerservice.dto.CustomerListResponse;
+import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.UpdateCustomerRequest;
+import com.example.customerservice.exception.CustomerNotFoundException;
+import com.example.customerservice.exception.DuplicateEmailException;
+import com.example.customerservice.mapper.CustomerMapper;
+import com.example.customerservice.model.Customer;
+import com.example.customerservice.model.CustomerStatus;
+import com.example.customerservice.repository.CustomerCursor;
+import com.example.customerservice.repository.CustomerStatusCountPage;
+import com.example.customerservice.repository.ReactiveCustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCustomerServiceTest {
+
+    @Mock
+    private ReactiveCustomerRepository customerRepository;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReactiveCustomerService customerService;
+
+    private CreateCustomerRequest createRequest;
+    private UpdateCustomerRequest updateRequest;
+    private Customer customer;
+    private CustomerResponse customerResponse;
+    private CustomerListResponse.CustomerSummary summary;
+
+    @BeforeEach
+    void setUp() {
+        customerService = new ReactiveCustomerService(customerRepository, customerMapper, meterRegistry, Optional.empty());
+
+        createRequest = new CreateCustomerRequest(
+            "John", "Doe", "john.doe@example.com", "+1234567890",
+            "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE
+        );
+
+        updateRequest = new UpdateCustomerRequest(
+            "John", "Smith", "john.smith@example.com", "+0987654321",
+            "456 Oak Ave", LocalDate.of(1990, 1, 1), CustomerStatus.INACTIVE
+        );
+
+        customer = new Customer();
+        customer.setCustomerId("test-id-123");
+        customer.setFirstName("John");
+        customer.setLastName("Doe");
+        customer.setEmail("john.doe@example.com");
+        customer.setCustomerStatus(CustomerStatus.ACTIVE);
+        customer.setCreatedAt(Instant.ofEpochMilli(2000L));
+
+        customerResponse = new CustomerResponse(
+            "test-id-123", "John", "Doe", "john.doe@example.com", "+1234567890",
+            "123 Main St", LocalDate.of(1990, 1, 1), CustomerStatus.ACTIVE, null, null
+        );
+
+        summary = new CustomerListResponse.CustomerSummary(
+            "test-id-123", "John", "Doe", "john.doe@example.com", CustomerStatus.ACTIVE
+        );
+    }
+
+    @Test
+    void should_CreateCustomer_When_EmailIsUnique() {
+        // Given
+        when(customerMapper.toEntity(createRequest)).thenReturn(customer);
+        when(customerRepository.insert(any(Customer.class))).thenReturn(Mono.just(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+
+        // When & Then
+        StepVerifier.create(customerService.createCustomer(createRequest))
+            .expectNext(customerResponse)
+            .verifyComplete();
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    void should_SignalDuplicateEmail_When_EmailAlreadyExists() {
+        // Given
+        when(customerMapper.toEntity(createRequest)).thenReturn(customer);
+        when(customerRepository.insert(any(Customer.class)))
+            .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+
+        // When & Then
+        StepVerifier.create(customerService.createCustomer(createRequest))
+            .expectErrorSatisfies(error -> assertThat(error)
+                .isInstanceOf(DuplicateEmailException.class)
+                .hasMessageContaining(createRequest.email())
+                .hasCauseInstanceOf(DuplicateKeyException.class))
+            .verify();
+    }
+
+    @Test
+    void should_SignalCustomerNotFound_When_CustomerDoesNotExist() {
+        // Given
+        when(customerRepository.findById("nonexistent-id")).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(customerService.getCustomerById("nonexistent-id"))
+            .expectError(CustomerNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void should_SkipCountQuery_When_FirstPageIsPartial() {
+        // Given
+        when(customerRepository.findAllBy(any(Pageable.class))).thenReturn(Flux.just(customer));
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(customerService.getCustomers(0, 10, null, true))
+            .assertNext(result -> {
+                assertThat(result.customers()).containsExactly(summary);
+                assertThat(result.totalElements()).isEqualTo(1);
+                assertThat(result.hasNext()).isFalse();
+            })
+            .verifyComplete();
+        verify(customerRepository, never()).count();
+        assertThat(meterRegistry.get("customers.list.queries").tag("mode", "counted").summary().totalAmount())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void should_CountCustomers_When_PageIsFull() {
+        // Given
+        when(customerRepository.findByCustomerStatus(eq(CustomerStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(Flux.just(customer));
+        when(customerRepository.countByCustomerStatus(CustomerStatus.ACTIVE)).thenReturn(Mono.just(3L));
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(customerService.getCustomers(0, 1, CustomerStatus.ACTIVE, true))
+            .assertNext(result -> {
+                assertThat(result.totalElements()).isEqualTo(3);
+                assertThat(result.totalPages()).isEqualTo(3);
+                assertThat(result.hasNext()).isTrue();
+                assertThat(result.nextCursor()).isNotNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void should_TrimExtraRow_When_IncludeTotalIsFalse() {
+        // Given
+        Customer second = new Customer();
+        second.setCustomerId("test-id-456");
+        when(customerRepository.findSliceByCustomerStatus(eq(CustomerStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(Flux.just(customer, second));
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(customerService.getCustomers(0, 1, CustomerStatus.ACTIVE, false))
+            .assertNext(result -> {
+                assertThat(result.customers()).containsExactly(summary);
+                assertThat(result.hasNext()).isTrue();
+                assertThat(result.totalElements()).isNull();
+                assertThat(result.totalPages()).isNull();
+                assertThat(CustomerCursor.decode(result.nextCursor()))
+                    .isEqualTo(new CustomerCursor(Instant.ofEpochMilli(2000L), "test-id-123"));
+            })
+            .verifyComplete();
+        verify(customerRepository, never()).countByCustomerStatus(any());
+    }
+
+    @Test
+    void should_ReturnNextCursor_When_KeysetPageHasMoreRows() {
+        // Given
+        Customer second = new Customer();
+        second.setCustomerId("test-id-456");
+        when(customerRepository.findByCustomerStatusAfter(null, null, 2)).thenReturn(Flux.just(customer, second));
+        when(customerRepository.count()).thenReturn(Mono.just(5L));
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(customerService.getCustomersAfter("", 1, null, true))
+            .assertNext(result -> {
+                assertThat(result.customers()).containsExactly(summary);
+                assertThat(result.hasNext()).isTrue();
+                assertThat(result.hasPrevious()).isFalse();
+                assertThat(result.totalElements()).isEqualTo(5);
+                assertThat(result.totalPages()).isEqualTo(5);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void should_SignalInvalidCursor_When_CursorIsMalformed() {
+        StepVerifier.create(customerService.getCustomersAfter("%%%", 10, null, true))
+            .expectErrorSatisfies(error -> assertThat(error)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor"))
+            .verify();
+    }
+
+    @Test
+    void should_ReturnStatusCounts_WithoutPerStatusQueries() {
+        // Given
+        Map<CustomerStatus, Long> counts = new EnumMap<>(CustomerStatus.class);
+        counts.put(CustomerStatus.ACTIVE, 4L);
+        counts.put(CustomerStatus.INACTIVE, 2L);
+        counts.put(CustomerStatus.SUSPENDED, 0L);
+        when(customerRepository.findPageWithStatusCounts(eq(CustomerStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(Mono.just(new CustomerStatusCountPage(List.of(customer), counts)));
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(customerService.getCustomersWithStatusCounts(0, 1, CustomerStatus.ACTIVE))
+            .assertNext(result -> {
+                assertThat(result.totalElements()).isEqualTo(4);
+                assertThat(result.statusCounts()).isEqualTo(counts);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void should_RetryUpdate_When_CustomerChangedConcurrently() {
+        // Given
+        Map<String, Object> changes = Map.of("phone", "+0987654321");
+        when(customerRepository.findById("test-id-123")).thenReturn(Mono.just(customer));
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes))
+            .thenReturn(Mono.empty())
+            .thenReturn(Mono.just(customer));
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+
+        // When & Then
+        StepVerifier.create(customerService.updateCustomer("test-id-123", updateRequest))
+            .expectNext(customerResponse)
+            .verifyComplete();
+        verify(customerRepository, times(2)).findById("test-id-123");
+    }
+
+    @Test
+    void should_FailUpdate_When_ConcurrentUpdatesKeepWinning() {
+        // Given
+        Map<String, Object> changes = Map.of("phone", "+0987654321");
+        when(customerRepository.findById("test-id-123")).thenReturn(Mono.just(customer));
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(changes);
+        when(customerRepository.updateChangedFields(customer, changes)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(customerService.updateCustomer("test-id-123", updateRequest))
+            .expectError(OptimisticLockingFailureException.class)
+            .verify();
+        verify(customerRepository, times(CustomerService.MAX_UPDATE_ATTEMPTS)).updateChangedFields(customer, changes);
+    }
+
+    @Test
+    void should_SkipWrite_When_UpdateChangesNothing() {
+        // Given
+        when(customerRepository.findById("test-id-123")).thenReturn(Mono.just(customer));
+        when(customerMapper.changedFields(updateRequest, customer)).thenReturn(Map.of());
+        when(customerMapper.toResponse(customer)).thenReturn(customerResponse);
+
+        // When & Then
+        StepVerifier.create(customerService.updateCustomer("test-id-123", updateRequest))
+            .expectNext(customerResponse)
+            .verifyComplete();
+        verify(customerRepository, never()).updateChangedFields(any(), any());
+    }
+
+    @Test
+    void should_SignalCustomerNotFound_When_DeletingNonexistentCustomer() {
+        // Given
+        when(customerRepository.deleteByCustomerId("nonexistent-id")).thenReturn(Mono.just(0L));
+
+        // When & Then
+        StepVerifier.create(customerService.deleteCustomer("nonexistent-id"))
+            .expectError(CustomerNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void should_SearchWithoutCount_When_IncludeTotalIsFalse() {
+        // Given
+        when(customerRepository.searchSliceByName(eq("John"), any(Pageable.class))).thenReturn(Flux.just(customer));
+        when(customerMapper.toSummary(customer)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(customerService.searchCustomers("John", 0, 10, false))
+            .assertNext(result -> {
+                assertThat(result.customers()).containsExactly(summary);
+                assertThat(result.hasNext()).isFalse();
+            })
+            .verifyComplete();
+        verify(customerRepository, never()).countByName(anyString());
+    }
+
+    @Test
+    void should_CapSuggestionLimit_When_LimitExceedsMaximum() {
+        // Given
+        when(customerRepository.suggestByPrefix("jo", 25)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(customerService.suggestCustomers("jo", 100))
+            .assertNext(suggestions -> assertThat(suggestions).isEmpty())
+            .verifyComplete();
+        verify(customerRepository).suggestByPrefix("jo", 25);
+    }
+
+    @Test
+    void should_RejectBlankSuggestionPrefix() {
+        StepVerifier.create(customerService.suggestCustomers(" ", 5))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        verifyNoInteractions(customerRepository);
+    }
+}